@@ -0,0 +1,51 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue.benchmarks;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/** The Benchmarks class is the entry point of benchmarks.jar. It accepts the usual JMH
+ *  command line, and always adds the GC profiler so that every result is reported
+ *  together with its gc.alloc.rate and gc.alloc.rate.norm (bytes allocated per operation).
+ *
+ *  Run all benchmarks with:
+ *      mvn -B package && java -jar benchmarks/target/benchmarks.jar
+ *  or a subset, for example only the smaller heaps of the hold benchmark:
+ *      java -jar benchmarks/target/benchmarks.jar HoldBenchmark -p size=1000,100000
+ */
+public final class Benchmarks {
+    /** Constructor that is private, since Benchmarks only holds main. */
+    private Benchmarks() {}
+
+    /** main runs the benchmarks selected by the passed-in JMH command line.
+     *
+     * @param args The JMH command line arguments.
+     * @throws CommandLineOptionException If the command line cannot be parsed.
+     * @throws IOException If JMH fails to print the requested listing.
+     * @throws RunnerException If a benchmark fails to run.
+     */
+    public static void main(String[] args) throws CommandLineOptionException, IOException, RunnerException {
+        CommandLineOptions options = new CommandLineOptions(args);
+        if (options.shouldHelp() || options.shouldList() || options.shouldListProfilers() || options.shouldListResultFormats()) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+
+        new Runner(new OptionsBuilder()
+                .parent(options)
+                .addProfiler(GCProfiler.class)
+                .build())
+            .run();
+    }
+}
@@ -0,0 +1,313 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue.benchmarks;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.ryanmgrum.priorityqueue.GrowthPolicy;
+import com.ryanmgrum.priorityqueue.HeapNode;
+import com.ryanmgrum.priorityqueue.IntLongPriorityQueue;
+import com.ryanmgrum.priorityqueue.LongPriorityQueue;
+import com.ryanmgrum.priorityqueue.PairingHeap;
+import com.ryanmgrum.priorityqueue.PriorityQueue;
+import com.ryanmgrum.priorityqueue.RadixHeap;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** The DecreaseKeyBenchmark class measures a decrease-key heavy workload: Dijkstra's shortest
+ *  paths from vertex 0 of a random graph with DEGREE edges per vertex. Every relaxed edge
+ *  lowers the distance of a vertex that is usually already queued, so most operations are
+ *  ChangeKey rather than Insert. java.util.PriorityQueue has no decrease-key, so it is
+ *  compared using the usual lazy deletion: a vertex is queued again with its new distance,
+ *  and stale entries are skipped when they are extracted.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+@State(Scope.Thread)
+public class DecreaseKeyBenchmark {
+    private static final int DEGREE = 8; // The number of edges leaving each vertex.
+
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    int vertices; // The number of vertices in the graph.
+
+    @Param({"UNIFORM", "SKEWED"})
+    Distribution distribution; // The distribution the edge weights are drawn from.
+
+    private int[] targets; // targets holds the target vertex of every edge, grouped by source vertex.
+    private long[] weights; // weights holds the weight of the edge at the same position of targets.
+    private Integer[] items; // items holds each vertex as an Integer, so that boxing is not counted.
+    private long[] distance; // distance holds the shortest distance found so far to each vertex.
+    private HeapNode<Integer, Long>[] handles; // handles holds the handle of each queued vertex.
+
+    /** The Entry class is a queued vertex of the java.util.PriorityQueue comparison. */
+    private static final class Entry implements Comparable<Entry> {
+        final long distance; // The distance the vertex was queued with.
+        final int vertex; // The queued vertex.
+
+        /** Constructor that creates a new Entry.
+         *
+         * @param newDistance The distance the vertex is queued with.
+         * @param newVertex The queued vertex.
+         */
+        Entry(long newDistance, int newVertex) {
+            distance = newDistance;
+            vertex = newVertex;
+        }
+
+        /** compareTo orders Entries by distance, then vertex.
+         *
+         * @param entry The Entry to compare against.
+         * @return A negative number, zero or a positive number as this Entry comes before, with or after entry.
+         */
+        @Override
+        public int compareTo(Entry entry) {
+            int result = Long.compare(distance, entry.distance);
+            return result != 0 ? result : Integer.compare(vertex, entry.vertex);
+        }
+    }
+
+    /** The Shape class holds the layout of the heap array, so that only the benchmarks that
+     *  run on a heap array are repeated for every Layout.
+     */
+    @State(Scope.Thread)
+    public static class Shape {
+        @Param({"BINARY", "QUATERNARY", "CACHE_ALIGNED_8"})
+        Layout layout; // The layout of the heap array.
+    }
+
+    /** setup builds the graph. Every vertex has an edge to the next vertex, so that all of
+     *  them are reachable, and DEGREE - 1 edges to random vertices.
+     */
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        targets = new int[vertices * DEGREE];
+        weights = new long[vertices * DEGREE];
+        for (int v = 0, e = 0; v < vertices; v++)
+            for (int i = 0; i < DEGREE; i++, e++) {
+                targets[e] = i == 0 ? (v + 1) % vertices : random.nextInt(vertices);
+                weights[e] = 1 + distribution.next(random);
+            }
+
+        items = new Integer[vertices];
+        for (int v = 0; v < vertices; v++)
+            items[v] = v;
+        distance = new long[vertices];
+        handles = (HeapNode<Integer, Long>[]) new HeapNode[vertices];
+    }
+
+    /** reset marks every vertex as unreached.
+     */
+    private void reset() {
+        Arrays.fill(distance, Long.MAX_VALUE);
+        distance[0] = 0;
+    }
+
+    /** priorityQueueHandles runs Dijkstra on an unkeyed PriorityQueue, changing
+     *  distances through the handles returned by Insert.
+     *
+     * @param shape The layout of the heap array.
+     * @return The distance to the last vertex.
+     */
+    @Benchmark
+    public long priorityQueueHandles(Shape shape) {
+        reset();
+        Arrays.fill(handles, null);
+        PriorityQueue<Integer, Long> queue = new PriorityQueue<>(vertices, false, GrowthPolicy.BOUNDED, shape.layout.layout);
+        handles[0] = queue.Insert(items[0], 0L);
+        while (!queue.isEmpty()) {
+            int u = queue.ExtractMin();
+            for (int e = u * DEGREE; e < (u + 1) * DEGREE; e++) {
+                int v = targets[e];
+                long d = distance[u] + weights[e];
+                if (d < distance[v]) {
+                    distance[v] = d;
+                    if (handles[v] == null)
+                        handles[v] = queue.Insert(items[v], d);
+                    else
+                        queue.ChangeKey(handles[v], d);
+                }
+            }
+        }
+        return distance[vertices - 1];
+    }
+
+    /** pairingHeapHandles runs Dijkstra on an unkeyed PriorityQueue backed by a PairingHeap,
+     *  changing distances through the handles returned by Insert.
+     *
+     * @return The distance to the last vertex.
+     */
+    @Benchmark
+    public long pairingHeapHandles() {
+        reset();
+        Arrays.fill(handles, null);
+        PriorityQueue<Integer, Long> queue = new PriorityQueue<>(new PairingHeap<Integer, Long>(false));
+        handles[0] = queue.Insert(items[0], 0L);
+        while (!queue.isEmpty()) {
+            int u = queue.ExtractMin();
+            for (int e = u * DEGREE; e < (u + 1) * DEGREE; e++) {
+                int v = targets[e];
+                long d = distance[u] + weights[e];
+                if (d < distance[v]) {
+                    distance[v] = d;
+                    if (handles[v] == null)
+                        handles[v] = queue.Insert(items[v], d);
+                    else
+                        queue.ChangeKey(handles[v], d);
+                }
+            }
+        }
+        return distance[vertices - 1];
+    }
+
+    /** radixHeapHandles runs Dijkstra on an unkeyed PriorityQueue backed by a RadixHeap, which
+     *  relies on the extracted distances never decreasing, changing distances through the
+     *  handles returned by Insert.
+     *
+     * @return The distance to the last vertex.
+     */
+    @Benchmark
+    public long radixHeapHandles() {
+        reset();
+        Arrays.fill(handles, null);
+        PriorityQueue<Integer, Long> queue = new PriorityQueue<>(new RadixHeap<Integer>(false));
+        handles[0] = queue.Insert(items[0], 0L);
+        while (!queue.isEmpty()) {
+            int u = queue.ExtractMin();
+            for (int e = u * DEGREE; e < (u + 1) * DEGREE; e++) {
+                int v = targets[e];
+                long d = distance[u] + weights[e];
+                if (d < distance[v]) {
+                    distance[v] = d;
+                    if (handles[v] == null)
+                        handles[v] = queue.Insert(items[v], d);
+                    else
+                        queue.ChangeKey(handles[v], d);
+                }
+            }
+        }
+        return distance[vertices - 1];
+    }
+
+    /** priorityQueueKeyed runs Dijkstra on a keyed PriorityQueue, changing
+     *  distances by looking the vertex up in the queue's index.
+     *
+     * @param shape The layout of the heap array.
+     * @return The distance to the last vertex.
+     */
+    @Benchmark
+    public long priorityQueueKeyed(Shape shape) {
+        reset();
+        PriorityQueue<Integer, Long> queue = new PriorityQueue<>(vertices, true, GrowthPolicy.BOUNDED, shape.layout.layout);
+        queue.Insert(items[0], 0L);
+        while (!queue.isEmpty()) {
+            int u = queue.ExtractMin();
+            for (int e = u * DEGREE; e < (u + 1) * DEGREE; e++) {
+                int v = targets[e];
+                long d = distance[u] + weights[e];
+                if (d < distance[v]) {
+                    if (distance[v] == Long.MAX_VALUE)
+                        queue.Insert(items[v], d);
+                    else
+                        queue.ChangeKey(items[v], d);
+                    distance[v] = d;
+                }
+            }
+        }
+        return distance[vertices - 1];
+    }
+
+    /** longPriorityQueue runs Dijkstra on a LongPriorityQueue, whose Insert
+     *  changes the priority value of a vertex that is already queued.
+     *
+     * @return The distance to the last vertex.
+     */
+    @Benchmark
+    public long longPriorityQueue() {
+        reset();
+        LongPriorityQueue<Integer> queue = new LongPriorityQueue<>(vertices);
+        queue.Insert(items[0], 0L);
+        while (!queue.isEmpty()) {
+            int u = queue.ExtractMin();
+            for (int e = u * DEGREE; e < (u + 1) * DEGREE; e++) {
+                int v = targets[e];
+                long d = distance[u] + weights[e];
+                if (d < distance[v]) {
+                    distance[v] = d;
+                    queue.Insert(items[v], d);
+                }
+            }
+        }
+        return distance[vertices - 1];
+    }
+
+    /** intLongPriorityQueue runs Dijkstra on an IntLongPriorityQueue, whose Insert
+     *  changes the priority value of a vertex that is already queued.
+     *
+     * @return The distance to the last vertex.
+     */
+    @Benchmark
+    public long intLongPriorityQueue() {
+        reset();
+        IntLongPriorityQueue queue = new IntLongPriorityQueue(vertices);
+        queue.Insert(0, 0L);
+        while (!queue.isEmpty()) {
+            int u = queue.ExtractMin();
+            for (int e = u * DEGREE; e < (u + 1) * DEGREE; e++) {
+                int v = targets[e];
+                long d = distance[u] + weights[e];
+                if (d < distance[v]) {
+                    distance[v] = d;
+                    queue.Insert(v, d);
+                }
+            }
+        }
+        return distance[vertices - 1];
+    }
+
+    /** javaUtilPriorityQueue runs Dijkstra on a java.util.PriorityQueue with lazy deletion.
+     *
+     * @return The distance to the last vertex.
+     */
+    @Benchmark
+    public long javaUtilPriorityQueue() {
+        reset();
+        java.util.PriorityQueue<Entry> queue = new java.util.PriorityQueue<>(vertices);
+        queue.add(new Entry(0, 0));
+        while (!queue.isEmpty()) {
+            Entry entry = queue.poll();
+            int u = entry.vertex;
+            if (entry.distance > distance[u])
+                continue; // A shorter distance to u was queued after this Entry.
+            for (int e = u * DEGREE; e < (u + 1) * DEGREE; e++) {
+                int v = targets[e];
+                long d = distance[u] + weights[e];
+                if (d < distance[v]) {
+                    distance[v] = d;
+                    queue.add(new Entry(d, v));
+                }
+            }
+        }
+        return distance[vertices - 1];
+    }
+}
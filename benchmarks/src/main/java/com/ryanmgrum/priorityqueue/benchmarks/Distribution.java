@@ -0,0 +1,55 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue.benchmarks;
+
+import java.util.SplittableRandom;
+
+/** The Distribution enum lists the priority value distributions that the benchmarks draw from.
+ *  Every distribution fills a table once during setup, so that generating a priority value
+ *  costs a single array read inside the measured code.
+ */
+public enum Distribution {
+    /** UNIFORM draws priority values uniformly from [0, 2^31), so nearly all of them are distinct. */
+    UNIFORM {
+        @Override
+        long next(SplittableRandom random) {
+            return random.nextInt(Integer.MAX_VALUE);
+        }
+    },
+
+    /** SKEWED draws priority values from an exponential distribution with a mean of 1024, so most
+     *  of them are small and many are equal, which exercises the tie-breaking paths of the heap.
+     */
+    SKEWED {
+        @Override
+        long next(SplittableRandom random) {
+            return (long) (-Math.log(1.0 - random.nextDouble()) * 1024);
+        }
+    };
+
+    static final int TABLE_SIZE = 1 << 20; // The number of pregenerated priority values, which must be a power of two.
+
+    /** next draws one priority value from this distribution.
+     *
+     * @param random The source of randomness.
+     * @return A priority value of at least zero.
+     */
+    abstract long next(SplittableRandom random);
+
+    /** table returns TABLE_SIZE priority values drawn from this distribution.
+     *
+     * @param seed The seed of the random number generator, so that every run draws the same values.
+     * @return The pregenerated priority values.
+     */
+    long[] table(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        long[] values = new long[TABLE_SIZE];
+        for (int i = 0; i < values.length; i++)
+            values[i] = next(random);
+        return values;
+    }
+}
@@ -0,0 +1,134 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue.benchmarks;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import com.ryanmgrum.priorityqueue.GrowthPolicy;
+import com.ryanmgrum.priorityqueue.PriorityQueue;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** The DrainBenchmark class measures emptying a full queue of size items with ExtractMin.
+ *  The queue is refilled before every iteration outside the measured code, so each
+ *  iteration times exactly one drain; divide the result by size for the cost of one ExtractMin.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class DrainBenchmark {
+    /** The Input class holds the items and priority values the queues are filled with. */
+    @State(Scope.Thread)
+    public static class Input {
+        @Param({"1000", "10000", "100000", "1000000", "10000000"})
+        int size; // The number of items drained per iteration.
+
+        @Param({"UNIFORM", "SKEWED"})
+        Distribution distribution; // The distribution the priority values are drawn from.
+
+        Long[] values; // values holds the priority values to fill the queues with.
+        Integer[] items; // items holds the preallocated items.
+
+        /** setup draws the priority values and creates the items. */
+        @Setup
+        public void setup() {
+            long[] table = distribution.table(42);
+            values = new Long[size];
+            items = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = table[i & (Distribution.TABLE_SIZE - 1)];
+                items[i] = i;
+            }
+        }
+    }
+
+    /** The Heap class holds a PriorityQueue that is refilled before every iteration. */
+    @State(Scope.Thread)
+    public static class Heap {
+        @Param({"BINARY", "QUATERNARY", "CACHE_ALIGNED_8"})
+        Layout layout; // The layout of the heap array.
+
+        PriorityQueue<Integer, Long> queue; // The queue under test.
+        ArrayList<Integer> out; // out receives the batch drain.
+
+        /** fill refills the queue one Insert at a time, as a queue in use would have been filled.
+         *
+         * @param input The items and priority values to fill the queue with.
+         */
+        @Setup(Level.Iteration)
+        public void fill(Input input) {
+            queue = new PriorityQueue<>(input.size, false, GrowthPolicy.BOUNDED, layout.layout);
+            for (int i = 0; i < input.size; i++)
+                queue.Insert(input.items[i], input.values[i]);
+            out = new ArrayList<>(input.size);
+        }
+    }
+
+    /** The JavaUtil class holds a java.util.PriorityQueue that is refilled before every iteration. */
+    @State(Scope.Thread)
+    public static class JavaUtil {
+        java.util.PriorityQueue<Long> queue; // The queue to compare against.
+
+        /** fill refills the queue one add at a time.
+         *
+         * @param input The priority values to fill the queue with.
+         */
+        @Setup(Level.Iteration)
+        public void fill(Input input) {
+            queue = new java.util.PriorityQueue<>(input.size);
+            for (int i = 0; i < input.size; i++)
+                queue.add(input.values[i]);
+        }
+    }
+
+    /** priorityQueue drains the PriorityQueue one ExtractMin at a time.
+     *
+     * @param heap The queue under test.
+     * @param blackhole Consumes the extracted items.
+     */
+    @Benchmark
+    public void priorityQueue(Heap heap, Blackhole blackhole) {
+        while (!heap.queue.isEmpty())
+            blackhole.consume(heap.queue.ExtractMin());
+    }
+
+    /** priorityQueueBatch drains the PriorityQueue with a single batch ExtractMin.
+     *
+     * @param heap The queue under test.
+     * @return The number of items drained.
+     */
+    @Benchmark
+    public int priorityQueueBatch(Heap heap) {
+        return heap.queue.ExtractMin(heap.queue.size(), heap.out);
+    }
+
+    /** javaUtilPriorityQueue drains the java.util.PriorityQueue one poll at a time.
+     *
+     * @param javaUtil The queue to compare against.
+     * @param blackhole Consumes the extracted priority values.
+     */
+    @Benchmark
+    public void javaUtilPriorityQueue(JavaUtil javaUtil, Blackhole blackhole) {
+        while (!javaUtil.queue.isEmpty())
+            blackhole.consume(javaUtil.queue.poll());
+    }
+}
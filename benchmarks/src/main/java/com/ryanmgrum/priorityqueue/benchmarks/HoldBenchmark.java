@@ -0,0 +1,199 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.ryanmgrum.priorityqueue.GrowthPolicy;
+import com.ryanmgrum.priorityqueue.LongPriorityQueue;
+import com.ryanmgrum.priorityqueue.OffHeapPriorityQueue;
+import com.ryanmgrum.priorityqueue.PriorityQueue;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** The HoldBenchmark class measures the classic "hold" model: a queue is filled with size
+ *  items, and each operation is an ExtractMin followed by an Insert of the extracted item with
+ *  a new priority value, so the queue stays at the same size throughout. The result is the cost
+ *  of one Insert plus one ExtractMin at that size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class HoldBenchmark {
+    /** The Input class holds the priority values drawn during the benchmark. */
+    @State(Scope.Thread)
+    public static class Input {
+        @Param({"1000", "10000", "100000", "1000000", "10000000"})
+        int size; // The number of items kept in the queue.
+
+        @Param({"UNIFORM", "SKEWED"})
+        Distribution distribution; // The distribution the priority values are drawn from.
+
+        long[] values; // values holds the pregenerated priority values.
+        Long[] boxed; // boxed holds values as Longs, so that boxing is not counted as an allocation of the queue.
+        int next; // The index of the next priority value to use.
+        Integer[] items; // items holds the preallocated item of each position in the queue.
+
+        /** setup draws the priority values and creates the items. */
+        @Setup
+        public void setup() {
+            values = distribution.table(42);
+            boxed = new Long[values.length];
+            for (int i = 0; i < values.length; i++)
+                boxed[i] = values[i];
+            items = new Integer[size];
+            for (int i = 0; i < size; i++)
+                items[i] = i;
+        }
+
+        /** nextIndex returns the index of the next priority value, wrapping around the table.
+         *
+         * @return An index into values and boxed.
+         */
+        int nextIndex() {
+            return next++ & (Distribution.TABLE_SIZE - 1);
+        }
+    }
+
+    /** The Heap class holds a PriorityQueue filled from Input. */
+    @State(Scope.Thread)
+    public static class Heap {
+        @Param({"BINARY", "QUATERNARY", "CACHE_ALIGNED_8"})
+        Layout layout; // The layout of the heap array.
+
+        @Param({"false", "true"})
+        boolean keyed; // Whether the queue maintains its item index.
+
+        PriorityQueue<Integer, Long> queue; // The queue under test.
+
+        /** setup fills the queue with Input.size items.
+         *
+         * @param input The priority values and items to fill the queue with.
+         */
+        @Setup
+        public void setup(Input input) {
+            queue = new PriorityQueue<>(input.size, keyed, GrowthPolicy.BOUNDED, layout.layout);
+            for (Integer item : input.items)
+                queue.Insert(item, input.boxed[input.nextIndex()]);
+        }
+    }
+
+    /** The Primitive class holds a LongPriorityQueue filled from Input. */
+    @State(Scope.Thread)
+    public static class Primitive {
+        LongPriorityQueue<Integer> queue; // The queue under test.
+
+        /** setup fills the queue with Input.size items.
+         *
+         * @param input The priority values and items to fill the queue with.
+         */
+        @Setup
+        public void setup(Input input) {
+            queue = new LongPriorityQueue<>(input.size);
+            for (Integer item : input.items)
+                queue.Insert(item, input.values[input.nextIndex()]);
+        }
+    }
+
+    /** The OffHeap class holds an unindexed OffHeapPriorityQueue filled from Input. */
+    @State(Scope.Thread)
+    public static class OffHeap {
+        OffHeapPriorityQueue queue; // The queue under test.
+
+        /** setup fills the queue with Input.size keys.
+         *
+         * @param input The priority values to fill the queue with.
+         */
+        @Setup
+        public void setup(Input input) {
+            queue = new OffHeapPriorityQueue(input.size, GrowthPolicy.BOUNDED, false);
+            for (int i = 0; i < input.size; i++)
+                queue.Insert(i, input.values[input.nextIndex()]);
+        }
+    }
+
+    /** The JavaUtil class holds a java.util.PriorityQueue of priority values filled from Input. */
+    @State(Scope.Thread)
+    public static class JavaUtil {
+        java.util.PriorityQueue<Long> queue; // The queue to compare against.
+
+        /** setup fills the queue with Input.size priority values.
+         *
+         * @param input The priority values to fill the queue with.
+         */
+        @Setup
+        public void setup(Input input) {
+            queue = new java.util.PriorityQueue<>(input.size);
+            for (int i = 0; i < input.size; i++)
+                queue.add(input.boxed[input.nextIndex()]);
+        }
+    }
+
+    /** priorityQueue holds one item in a PriorityQueue.
+     *
+     * @param input The priority values to draw from.
+     * @param heap The queue under test.
+     * @return The extracted item.
+     */
+    @Benchmark
+    public Integer priorityQueue(Input input, Heap heap) {
+        Integer item = heap.queue.ExtractMin();
+        heap.queue.Insert(item, input.boxed[input.nextIndex()]);
+        return item;
+    }
+
+    /** longPriorityQueue holds one item in a LongPriorityQueue.
+     *
+     * @param input The priority values to draw from.
+     * @param primitive The queue under test.
+     * @return The extracted item.
+     */
+    @Benchmark
+    public Integer longPriorityQueue(Input input, Primitive primitive) {
+        Integer item = primitive.queue.ExtractMin();
+        primitive.queue.Insert(item, input.values[input.nextIndex()]);
+        return item;
+    }
+
+    /** offHeapPriorityQueue holds one key in an OffHeapPriorityQueue.
+     *
+     * @param input The priority values to draw from.
+     * @param offHeap The queue under test.
+     * @return The extracted key.
+     */
+    @Benchmark
+    public long offHeapPriorityQueue(Input input, OffHeap offHeap) {
+        long key = offHeap.queue.ExtractMin();
+        offHeap.queue.Insert(key, input.values[input.nextIndex()]);
+        return key;
+    }
+
+    /** javaUtilPriorityQueue holds one priority value in a java.util.PriorityQueue.
+     *
+     * @param input The priority values to draw from.
+     * @param javaUtil The queue to compare against.
+     * @return The extracted priority value.
+     */
+    @Benchmark
+    public Long javaUtilPriorityQueue(Input input, JavaUtil javaUtil) {
+        Long value = javaUtil.queue.poll();
+        javaUtil.queue.add(input.boxed[input.nextIndex()]);
+        return value;
+    }
+}
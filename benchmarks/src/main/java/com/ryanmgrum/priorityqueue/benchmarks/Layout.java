@@ -0,0 +1,28 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue.benchmarks;
+
+import com.ryanmgrum.priorityqueue.HeapLayout;
+
+/** The Layout enum names the HeapLayouts that the benchmarks compare, so that they can be
+ *  passed to JMH as a @Param.
+ */
+public enum Layout {
+    BINARY(HeapLayout.BINARY), // The classic binary heap.
+    QUATERNARY(HeapLayout.dAry(4)), // A 4-ary heap, which is half as deep as the binary heap.
+    CACHE_ALIGNED_8(HeapLayout.cacheAligned(8)); // An 8-ary heap whose sibling groups start on a multiple of 8.
+
+    final HeapLayout layout; // The HeapLayout this constant stands for.
+
+    /** Constructor that pairs the constant with its HeapLayout.
+     *
+     * @param newLayout The HeapLayout this constant stands for.
+     */
+    Layout(HeapLayout newLayout) {
+        layout = newLayout;
+    }
+}
@@ -0,0 +1,163 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue.benchmarks;
+
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.ryanmgrum.priorityqueue.GrowthPolicy;
+import com.ryanmgrum.priorityqueue.TimerQueue;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** The TimerChurnBenchmark class measures timer churn, as in the idle timeouts of network
+ *  connections: size timers are pending, and each operation pushes back one random timer,
+ *  then advances the clock by one tick and re-arms every timer that fired. Most pushed-back
+ *  timers are rescheduled with ChangeKey, and every fourth is cancelled with Delete and
+ *  scheduled again with Insert.
+ *
+ *  java.util.PriorityQueue cannot reschedule or cancel cheaply, so it is compared using
+ *  lazy cancellation: the old timer is marked as cancelled and a new one is queued, and
+ *  cancelled timers are discarded when they reach the head. Note that TimerQueue takes its
+ *  lock on every call, while the java.util.PriorityQueue is not synchronized at all.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+@State(Scope.Thread)
+public class TimerChurnBenchmark {
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    int size; // The number of pending timers.
+
+    private int[] ids; // ids holds the pregenerated sequence of timers to push back.
+    private long[] delays; // delays holds the pregenerated sequence of delays, between 1 and 2 * size ticks.
+    private int next; // The index of the next id and delay to use.
+    private Integer[] items; // items holds each timer id as an Integer, so that boxing is not counted.
+    private long now; // The current time of the simulated clock, in ticks.
+
+    private TimerQueue<Integer> timers; // The queue under test.
+    private ArrayList<Integer> fired; // fired receives the timers extracted on each tick.
+
+    private java.util.PriorityQueue<Timer> javaUtil; // The queue to compare against.
+    private Timer[] current; // current holds the live Timer of each id in javaUtil.
+
+    /** The Timer class is a pending timer of the java.util.PriorityQueue comparison. */
+    private static final class Timer implements Comparable<Timer> {
+        final long deadline; // The tick at which the timer fires.
+        final int id; // The id of the timer.
+        boolean cancelled; // Whether the timer was cancelled while in the queue.
+
+        /** Constructor that creates a new Timer.
+         *
+         * @param newDeadline The tick at which the timer fires.
+         * @param newId The id of the timer.
+         */
+        Timer(long newDeadline, int newId) {
+            deadline = newDeadline;
+            id = newId;
+        }
+
+        /** compareTo orders Timers by deadline.
+         *
+         * @param timer The Timer to compare against.
+         * @return A negative number, zero or a positive number as this Timer fires before, with or after timer.
+         */
+        @Override
+        public int compareTo(Timer timer) {
+            return Long.compare(deadline, timer.deadline);
+        }
+    }
+
+    /** setup draws the pushed-back timers and delays, and schedules size timers in both queues. */
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        ids = new int[Distribution.TABLE_SIZE];
+        delays = new long[Distribution.TABLE_SIZE];
+        for (int i = 0; i < Distribution.TABLE_SIZE; i++) {
+            ids[i] = random.nextInt(size);
+            delays[i] = 1 + random.nextInt(2 * size);
+        }
+        items = new Integer[size];
+        for (int i = 0; i < size; i++)
+            items[i] = i;
+
+        now = 0;
+        timers = new TimerQueue<>(size, GrowthPolicy.BOUNDED, () -> now);
+        fired = new ArrayList<>();
+        javaUtil = new java.util.PriorityQueue<>(2 * size);
+        current = new Timer[size];
+        for (int i = 0; i < size; i++) {
+            long deadline = delays[i];
+            timers.Insert(items[i], deadline);
+            current[i] = new Timer(deadline, i);
+            javaUtil.add(current[i]);
+        }
+    }
+
+    /** timerQueue pushes back one timer in the TimerQueue and advances the clock by a tick.
+     *
+     * @return The number of timers that fired.
+     */
+    @Benchmark
+    public int timerQueue() {
+        int i = next++ & (Distribution.TABLE_SIZE - 1);
+        Integer item = items[ids[i]];
+        long deadline = now + delays[i];
+        if ((i & 3) == 0) {
+            timers.Delete(item);
+            timers.Insert(item, deadline);
+        } else
+            timers.ChangeKey(item, deadline);
+
+        now++;
+        fired.clear();
+        int count = timers.ExtractDue(fired);
+        for (int j = 0; j < count; j++)
+            timers.Insert(fired.get(j), now + delays[(i + j + 1) & (Distribution.TABLE_SIZE - 1)]);
+        return count;
+    }
+
+    /** javaUtilPriorityQueue pushes back one timer in the java.util.PriorityQueue
+     *  and advances the clock by a tick.
+     *
+     * @return The number of timers that fired.
+     */
+    @Benchmark
+    public int javaUtilPriorityQueue() {
+        int i = next++ & (Distribution.TABLE_SIZE - 1);
+        int id = ids[i];
+        current[id].cancelled = true;
+        current[id] = new Timer(now + delays[i], id);
+        javaUtil.add(current[id]);
+
+        now++;
+        int count = 0;
+        while (javaUtil.peek().deadline <= now) {
+            Timer timer = javaUtil.poll();
+            if (timer.cancelled)
+                continue;
+            current[timer.id] = new Timer(now + delays[(i + count + 1) & (Distribution.TABLE_SIZE - 1)], timer.id);
+            javaUtil.add(current[timer.id]);
+            count++;
+        }
+        return count;
+    }
+}
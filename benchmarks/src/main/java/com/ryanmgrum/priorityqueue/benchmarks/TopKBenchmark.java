@@ -0,0 +1,110 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.ryanmgrum.priorityqueue.TopKQueue;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** The TopKBenchmark class measures streaming top-k selection: each operation offers the next
+ *  scored item of a stream, and the k items with the largest scores are kept. Once the stream
+ *  has run for a while, most items score below the threshold, so the cost of rejecting an item
+ *  dominates. java.util.PriorityQueue is compared as the usual min-heap of the kept scores,
+ *  whose head is polled whenever a better score arrives.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+@State(Scope.Thread)
+public class TopKBenchmark {
+    @Param({"10", "1000", "100000"})
+    int k; // The number of items to keep.
+
+    @Param({"UNIFORM", "SKEWED"})
+    Distribution distribution; // The distribution the scores are drawn from.
+
+    private Long[] scores; // scores holds the pregenerated stream of scores, boxed so that boxing is not counted.
+    private Integer[] items; // items holds the item of each score in scores.
+    private int next; // The index of the next score to offer.
+
+    private TopKQueue<Integer, Long> topK; // The queue under test.
+    private java.util.PriorityQueue<Long> javaUtil; // The queue to compare against.
+
+    /** setup pregenerates the stream of scores.
+     */
+    @Setup
+    public void setup() {
+        long[] table = distribution.table(42);
+        scores = new Long[table.length];
+        items = new Integer[table.length];
+        for (int i = 0; i < table.length; i++) {
+            scores[i] = table[i];
+            items[i] = i;
+        }
+    }
+
+    /** reset empties both queues before each iteration, so that every iteration
+     *  fills the queues and then settles into mostly rejecting scores.
+     */
+    @Setup(Level.Iteration)
+    public void reset() {
+        topK = new TopKQueue<>(k, true);
+        javaUtil = new java.util.PriorityQueue<>(k);
+        next = 0;
+    }
+
+    /** nextIndex returns the index of the next score in the stream, wrapping around at the end.
+     *
+     * @return The index of the score to offer.
+     */
+    private int nextIndex() {
+        int index = next;
+        next = (next + 1) & (Distribution.TABLE_SIZE - 1);
+        return index;
+    }
+
+    /** topKQueue offers one score to a TopKQueue.
+     *
+     * @return Whether the score was kept.
+     */
+    @Benchmark
+    public boolean topKQueue() {
+        int index = nextIndex();
+        return topK.offer(items[index], scores[index]);
+    }
+
+    /** javaUtilPriorityQueue offers one score to a java.util.PriorityQueue min-heap of the kept scores.
+     *
+     * @return Whether the score was kept.
+     */
+    @Benchmark
+    public boolean javaUtilPriorityQueue() {
+        Long score = scores[nextIndex()];
+        if (javaUtil.size() < k)
+            return javaUtil.add(score);
+        else if (score <= javaUtil.peek())
+            return false;
+
+        javaUtil.poll();
+        return javaUtil.add(score);
+    }
+}
@@ -0,0 +1,790 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/** The BinaryMinHeap class is based on a Binary Heap, which is a binary tree with an ordering placed on it.
+ *  The tree is stored in the heap array according to a HeapLayout, which may also give each node more
+ *  than two children to make the tree shallower. The heap's backing array is either bounded, in which case Insert rejects items once it is full,
+ *  or resized as items come and go according to the heap's GrowthPolicy.
+ * 
+ * @param <K> The item type for this BinaryMinHeap.
+ * @param <V> The value type to order the keys.
+ */
+public class BinaryMinHeap<K extends Comparable<? super K>, V extends Comparable<? super V>> implements MinHeap<K, V> {
+    private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8; // The longest array the JVM can allocate.
+    
+    private HeapNode<K, V>[] heap; // heap contains the HeapNodes that make up the binary heap.
+    private PositionIndex<K, HeapNode<K, V>> Position; // Position maps each item K to its HeapNode, which tracks its own index in the heap, or is null if keyed lookup is disabled.
+    private final boolean keyed; // Whether items can be looked up by key, and are therefore unique in the heap.
+    private int size; // The current number of nodes in the heap.
+    private final GrowthPolicy growth; // growth decides when and how far the heap array is resized.
+    private final int minimumCapacity; // The capacity the heap was created with, which it never shrinks below.
+    private final HeapLayout layout; // layout decides where each node's parent and children are in the heap array.
+    private final int root; // The index of the root node in the heap array.
+    private HeapMetrics metrics; // metrics records the heap's operations and sift work, or is null when they are not recorded.
+    
+    /** Constructor that creates a new BinaryMinHeap with a maximum size of passed-in newSize parameter.
+     * 
+     * @param newSize The maximum size of this PriorityQueue
+     * @throws IllegalArgumentException If the newSize parameter is less than zero.
+     */
+    public BinaryMinHeap(int newSize) throws IllegalArgumentException {
+        this(newSize, true);
+    }
+    
+    /** Constructor that creates a new BinaryMinHeap with a maximum size of passed-in newSize parameter,
+     *  optionally without the index that allows items to be looked up by key.
+     * 
+     * @param newSize The maximum size of this PriorityQueue
+     * @param newKeyed Whether ChangeKey(K, V) and Delete(K) are supported. When false, items are
+     *  only reachable through the handles returned by Insert, and the same item may be inserted more than once.
+     * @throws IllegalArgumentException If the newSize parameter is less than zero.
+     */
+    public BinaryMinHeap(int newSize, boolean newKeyed) throws IllegalArgumentException {
+        this(newSize, newKeyed, GrowthPolicy.BOUNDED);
+    }
+    
+    /** Constructor that creates a new BinaryMinHeap with an initial capacity of passed-in newSize parameter,
+     *  which is resized according to the passed-in GrowthPolicy.
+     * 
+     * @param newSize The initial capacity of this BinaryMinHeap, and its maximum size if newGrowth is bounded.
+     * @param newKeyed Whether ChangeKey(K, V) and Delete(K) are supported. When false, items are
+     *  only reachable through the handles returned by Insert, and the same item may be inserted more than once.
+     * @param newGrowth The policy that decides when the heap array grows and shrinks.
+     * @throws IllegalArgumentException If the newSize parameter is less than zero, or newGrowth is null.
+     */
+    public BinaryMinHeap(int newSize, boolean newKeyed, GrowthPolicy newGrowth) throws IllegalArgumentException {
+        this(newSize, newKeyed, newGrowth, HeapLayout.BINARY);
+    }
+    
+    /** Constructor that creates a new BinaryMinHeap with an initial capacity of passed-in newSize parameter,
+     *  which is resized according to the passed-in GrowthPolicy and stored according to the passed-in HeapLayout.
+     * 
+     * @param newSize The initial capacity of this BinaryMinHeap, and its maximum size if newGrowth is bounded.
+     * @param newKeyed Whether ChangeKey(K, V) and Delete(K) are supported. When false, items are
+     *  only reachable through the handles returned by Insert, and the same item may be inserted more than once.
+     * @param newGrowth The policy that decides when the heap array grows and shrinks.
+     * @param newLayout The layout of the heap tree in the heap array.
+     * @throws IllegalArgumentException If the newSize parameter is less than zero or too large for
+     *  the layout, or newGrowth or newLayout is null.
+     */
+    public BinaryMinHeap(int newSize, boolean newKeyed, GrowthPolicy newGrowth, HeapLayout newLayout) throws IllegalArgumentException {
+        if (newSize < 0)
+            throw new IllegalArgumentException("Error while creating BinaryMinHeap: newSize parameter (" + newSize + ") is less than 0!");
+        else if (newGrowth == null)
+            throw new IllegalArgumentException("Error while creating BinaryMinHeap: newGrowth parameter is null!");
+        else if (newLayout == null)
+            throw new IllegalArgumentException("Error while creating BinaryMinHeap: newLayout parameter is null!");
+        
+        keyed = newKeyed;
+        growth = newGrowth;
+        layout = newLayout;
+        root = newLayout.root();
+        minimumCapacity = newSize;
+        StartHeap(newSize);
+        size = 0;
+    }
+    
+    /** Heapify_Up shifts the given node at the passed-in index parameter up the
+     *  heap until it is in its proper place. Rather than swapping at each level, it
+     *  moves each larger parent down into the hole left by the node, and only
+     *  writes the node itself once its final index is known.
+     * 
+     * @param index The index of the node to shift up.
+     */
+    private void Heapify_Up(int index) {
+        HeapNode<K, V> node = heap[index];
+        int comparisons = 0, moves = 0; // The work done by this sift, for HeapMetrics.
+        while (index > root) {
+            int j = layout.parent(index); // j is index's parent.
+            comparisons++;
+            if (node.compareTo(heap[j]) >= 0) // Stop once the parent's priority value, then item, is <= the node's.
+                break;
+            heap[index] = heap[j];
+            heap[index].setIndex(index);
+            moves++;
+            index = j;
+        }
+        heap[index] = node;
+        node.setIndex(index);
+        if (HeapMetrics.ENABLED && metrics != null)
+            metrics.recordSift(comparisons, moves);
+    }
+    
+    /** MinChild returns the index of the smallest child of the node at the passed-in index.
+     * 
+     * @param first The index of the node's first child, which must be in the heap.
+     * @param last The index of the last node in the heap.
+     * @return The index of the child with the lowest priority value, then item.
+     */
+    private int MinChild(int first, int last) {
+        int j = first;
+        int end = (int) Math.min(last, (long) first + layout.arity() - 1);
+        for (int child = first + 1; child <= end; child++)
+            if (heap[child].compareTo(heap[j]) < 0)
+                j = child;
+        return j;
+    }
+    
+    /** Heapify_Down shifts the given node at the passed-in index parameter down the
+     *  heap until it is in its proper place, moving each smaller child up into the
+     *  hole left by the node instead of swapping at each level.
+     * 
+     * @param index The index of the node to shift down.
+     */
+    private void Heapify_Down(int index) {
+        HeapNode<K, V> node = heap[index];
+        int last = last();
+        int comparisons = 0, moves = 0; // The work done by this sift, for HeapMetrics.
+        for (int first = layout.firstChild(index); first <= last; first = layout.firstChild(index)) {
+            int j = MinChild(first, last); // j is the smallest of index's children.
+            comparisons += Math.min(last - first, layout.arity() - 1) + 1;
+            if (heap[j].compareTo(node) >= 0) // Stop once no child is smaller than the node.
+                break;
+            heap[index] = heap[j];
+            heap[index].setIndex(index);
+            moves++;
+            index = j;
+        }
+        heap[index] = node;
+        node.setIndex(index);
+        if (HeapMetrics.ENABLED && metrics != null)
+            metrics.recordSift(comparisons, moves);
+    }
+    
+    /** Heapify_Hole fills the hole at the passed-in index with the given node using
+     *  Floyd's bottom-up method. The hole is first moved all the way down to a leaf along
+     *  the path of smallest children, without comparing against the node, and the node is
+     *  then shifted up from that leaf. Since the node usually came from the bottom of the
+     *  heap, it rarely moves far back up, so this takes about half the comparisons of
+     *  Heapify_Down.
+     * 
+     * @param index The index of the hole, whose parent (if any) is no greater than node.
+     * @param node The node to place in the heap.
+     */
+    private void Heapify_Hole(int index, HeapNode<K, V> node) {
+        int last = last();
+        int comparisons = 0, moves = 0; // The work done by the descent, for HeapMetrics; Heapify_Up records its own.
+        for (int first = layout.firstChild(index); first <= last; first = layout.firstChild(index)) {
+            int j = MinChild(first, last); // j is the smallest of index's children.
+            comparisons += Math.min(last - first, layout.arity() - 1);
+            heap[index] = heap[j];
+            heap[index].setIndex(index);
+            moves++;
+            index = j;
+        }
+        heap[index] = node;
+        if (HeapMetrics.ENABLED && metrics != null)
+            metrics.recordSift(comparisons, moves);
+        Heapify_Up(index);
+    }
+    
+    /** Heapify restores the heap ordering of the entire heap array in O(n) time by
+     *  shifting down every node that has children, starting from the last one.
+     */
+    private void Heapify() {
+        int last = last();
+        if (last > root)
+            for (int index = layout.parent(last); index >= root; index--)
+                Heapify_Down(index);
+    }
+    
+    /** RebuildCheaper checks whether restoring the heap ordering with Heapify is cheaper than
+     *  shifting each of the passed-in number of changed nodes into place individually.
+     * 
+     * @param changed The number of nodes that will be added or have their values changed.
+     * @param total The number of nodes the heap will hold afterwards.
+     * @return True if Heapify should be used.
+     */
+    private static boolean RebuildCheaper(int changed, long total) {
+        int depth = 64 - Long.numberOfLeadingZeros(total); // An upper bound on the number of levels a node can move.
+        return (long) changed * depth > 2L * total;
+    }
+    
+    /** StartHeap initializes a new Binary Heap of the passed-in size N
+     * (+root, since the indices below the layout's root are not used for nodes).
+     * 
+     * @param N The size of the heap.
+     * @throws IllegalArgumentException If N is negative, or too large for an array with root more elements.
+     */
+    @SuppressWarnings("unchecked")
+    private void StartHeap(int N) throws IllegalArgumentException {
+        if (N < 0)
+            throw new IllegalArgumentException("Error while executing StartHeap(int) in BinaryMinHeap: The passed-in value (" + N + ") is negative!");
+        else if (N > MAX_ARRAY_LENGTH - root)
+            throw new IllegalArgumentException("Error while executing StartHeap(int) in BinaryMinHeap: The passed-in value (" + N + ") plus the layout's root index (" + root + ") exceeds the maximum array size!");
+        
+        heap = (HeapNode<K, V>[]) new HeapNode[N+root]; // +root to allow position 0 to be a temporary working element, and for the layout's offset.
+        Position = keyed ? new PositionIndex<>(N) : null;
+    }
+    
+    /** Resize copies the heap into a new array able to hold the passed-in number of nodes.
+     * 
+     * @param capacity The new capacity of the heap, which must be at least size.
+     * @throws OutOfMemoryError If capacity plus the layout's root index exceeds the maximum array size.
+     */
+    private void Resize(int capacity) throws OutOfMemoryError {
+        if (capacity > MAX_ARRAY_LENGTH - root)
+            throw new OutOfMemoryError("Error while executing Resize(int) in BinaryMinHeap: The capacity (" + capacity + ") plus the layout's root index (" + root + ") exceeds the maximum array size!");
+        
+        heap = Arrays.copyOf(heap, capacity + root); // +root to keep the indices below the root.
+    }
+    
+    /** last returns the index of the last node in the heap array.
+     * 
+     * @return The index of the last node, or root - 1 if the heap is empty.
+     */
+    private int last() {
+        return root + size - 1;
+    }
+    
+    /** Insert adds a new item to the BinaryMinHeap with the given priority value.
+     * 
+     * @param item The item to add to the BinaryMinHeap.
+     * @param value The priority value to set for the item.
+     * @return The handle of the item's node, which can be passed to ChangeKey(HeapNode, V)
+     *  and Delete(HeapNode) while the item remains in the heap.
+     * @throws IllegalArgumentException If the item or value parameter is null.
+     * @throws OutOfMemoryError If the BinaryMinHeap is bounded and full.
+     */
+    public HeapNode<K, V> Insert(K item, V value) throws IllegalArgumentException, OutOfMemoryError {
+        // First check that the item and value parameters are not null.
+        if (item == null)
+            throw new IllegalArgumentException("Error while executing Insert(K, V) in BinaryMinHeap: The item parameter is null!");
+        else if (value == null)
+            throw new IllegalArgumentException("Error while executing Insert(K, V) in BinaryMinHeap for item \"" + item + "\": The value parameter is null!");
+        
+        long start = HeapMetrics.ENABLED && metrics != null ? System.nanoTime() : 0; // When this call started, for HeapMetrics.
+        HeapNode<K, V> node = keyed ? Position.get(item) : null;
+        if (node != null) // If the item already exists in the heap, update its value.
+            ChangeKey(node.getIndex(), value);
+        else if (isFull()) {
+            if (HeapMetrics.ENABLED && metrics != null)
+                metrics.recordFullRejection();
+            throw new OutOfMemoryError("Error while executing Insert(K, V) in BinaryMinHeap for item \"" + item + "\", value \"" + value + "\": BinaryMinHeap is full!");
+        } else {
+            if (size == capacity())
+                Resize(growth.grow(capacity(), size + 1));
+            size++;
+            node = new HeapNode<>(item, value);
+            heap[last()] = node;
+            node.setIndex(last());
+            if (keyed)
+                Position.put(item, node);
+            Heapify_Up(last());
+        }
+        if (HeapMetrics.ENABLED && metrics != null)
+            metrics.recordOperation(HeapMetrics.Operation.INSERT, start, size);
+        return node;
+    }
+    
+    /** InsertAll adds every item in the passed-in map to the BinaryMinHeap with its mapped
+     *  priority value, or changes the priority value of items already in a keyed heap. The
+     *  whole batch is validated before the heap is modified. When the batch is large compared
+     *  to the heap, the nodes are appended unordered and the heap is rebuilt bottom-up in O(n)
+     *  time, rather than shifting each one into place.
+     * 
+     * @param items The items to add, mapped to their priority values.
+     * @throws IllegalArgumentException If the items parameter, or any item or value in it, is null.
+     * @throws OutOfMemoryError If the BinaryMinHeap is bounded and cannot hold the new items.
+     */
+    public void InsertAll(Map<? extends K, ? extends V> items) throws IllegalArgumentException, OutOfMemoryError {
+        // First check that the items parameter and its contents are not null, and count the new items.
+        if (items == null)
+            throw new IllegalArgumentException("Error while executing InsertAll(Map<K, V>) in BinaryMinHeap: The items parameter is null!");
+        
+        int added = 0; // The number of items that are not yet in the heap.
+        for (Map.Entry<? extends K, ? extends V> entry : items.entrySet()) {
+            if (entry.getKey() == null)
+                throw new IllegalArgumentException("Error while executing InsertAll(Map<K, V>) in BinaryMinHeap: An item is null!");
+            else if (entry.getValue() == null)
+                throw new IllegalArgumentException("Error while executing InsertAll(Map<K, V>) in BinaryMinHeap for item \"" + entry.getKey() + "\": The value is null!");
+            else if (!keyed || !Position.containsKey(entry.getKey()))
+                added++;
+        }
+        
+        if ((long) size + added > capacity()) {
+            if (growth.isBounded()) {
+                if (HeapMetrics.ENABLED && metrics != null)
+                    metrics.recordFullRejection();
+                throw new OutOfMemoryError("Error while executing InsertAll(Map<K, V>) in BinaryMinHeap for " + added + " new items: BinaryMinHeap is full!");
+            }
+            Resize(growth.grow(capacity(), (int) Math.min((long) size + added, Integer.MAX_VALUE)));
+        }
+        
+        boolean rebuild = RebuildCheaper(items.size(), (long) size + added);
+        for (Map.Entry<? extends K, ? extends V> entry : items.entrySet()) {
+            HeapNode<K, V> node = keyed ? Position.get(entry.getKey()) : null;
+            if (node != null) { // If the item already exists in the heap, update its value.
+                if (rebuild)
+                    node.setValue(entry.getValue());
+                else
+                    ChangeKey(node.getIndex(), entry.getValue());
+            } else {
+                size++;
+                node = new HeapNode<>(entry.getKey(), entry.getValue());
+                heap[last()] = node;
+                node.setIndex(last());
+                if (keyed)
+                    Position.put(entry.getKey(), node);
+                if (!rebuild)
+                    Heapify_Up(last());
+            }
+        }
+        if (rebuild)
+            Heapify();
+        if (HeapMetrics.ENABLED && metrics != null)
+            metrics.recordBatch(HeapMetrics.Operation.INSERT, items.size(), size);
+    }
+    
+    /** FindMin returns the item with the minimum value, then natural ordering,
+     *  in this BinaryMinHeap, but does not remove it from the heap.
+     * 
+     * @return The lowest-priority value, then item, stored in this heap,
+     *  or null if the heap is empty.
+     */
+    public K FindMin() {
+        if (isEmpty())
+            return null;
+        else
+            return heap[root].getKey();
+    }
+    
+    /** FindMinNode returns the node FindMin would return the item of.
+     * 
+     * @return The node at the root of the heap, or null if the heap is empty.
+     */
+    HeapNode<K, V> FindMinNode() {
+        if (isEmpty())
+            return null;
+        else
+            return heap[root];
+    }
+    
+    /** Delete removes the entry at the given passed-in index from the heap.
+     * 
+     * @param index The index of the node to remove.
+     * @throws IndexOutOfBoundsException If the index is past the last node
+     *  in the heap or before the root.
+     * @throws IllegalStateException If the BinaryMinHeap is empty.
+     */
+    private void Delete(int index) throws IndexOutOfBoundsException, IllegalStateException {
+        if (isEmpty())
+            throw new IllegalStateException("Error while executing Delete(int) in BinaryMinHeap for index \"" + index + "\": The BinaryMinHeap is empty!");
+        
+        int last = last();
+        if (index < last && index >= root) {
+            if (keyed)
+                Position.remove(heap[index].getKey());
+            heap[index].setIndex(0);
+            HeapNode<K, V> node = heap[last]; // The last node fills the hole left at index.
+            heap[last] = null;
+            size--;
+            // The moved node may belong above or below index, so shift it in whichever direction applies.
+            if (index > root && node.compareTo(heap[layout.parent(index)]) < 0) {
+                heap[index] = node;
+                Heapify_Up(index);
+            } else
+                Heapify_Hole(index, node);
+        } else if (index == last) {
+            if (keyed)
+                Position.remove(heap[last].getKey());
+            heap[last].setIndex(0);
+            heap[last] = null;
+            size--;
+        } else
+            throw new IndexOutOfBoundsException("Error while executing Delete(int) in BinaryMinHeap for index \"" + index + "\": index out of bounds (current size: " + size + ")!");
+        
+        int capacity = growth.shrink(capacity(), size, minimumCapacity);
+        if (capacity < capacity()) {
+            Resize(capacity);
+            if (keyed)
+                Position.trimToSize();
+        }
+    }
+    
+    /** Delete removes the given item from the BinaryMinHeap.
+     * 
+     * @param item The item to remove from the heap.
+     * @throws IllegalArgumentException If the item parameter is null.
+     * @throws IllegalStateException If the BinaryMinHeap is empty.
+     * @throws NullPointerException If the item does not exist in the BinaryMinHeap.
+     * @throws UnsupportedOperationException If keyed lookup is disabled for this BinaryMinHeap.
+     */
+    public void Delete(K item) throws IllegalArgumentException, IllegalStateException, NullPointerException, UnsupportedOperationException {
+        // First check that the item parameter is not null.
+        if (item == null)
+            throw new IllegalArgumentException("Error while executing Delete(K) in BinaryMinHeap: The item parameter is null!");
+        else if (!keyed)
+            throw new UnsupportedOperationException("Error while executing Delete(K) in BinaryMinHeap for item \"" + item + "\": Keyed lookup is disabled!");
+        else if (isEmpty())
+            throw new IllegalStateException("Error while executing Delete(K) in BinaryMinHeap for item \"" + item + "\": The BinaryMinHeap is empty!");
+        
+        long start = HeapMetrics.ENABLED && metrics != null ? System.nanoTime() : 0; // When this call started, for HeapMetrics.
+        HeapNode<K, V> node = Position.get(item); // Fetch the item's node within the heap.
+        if (node == null)
+            throw new NullPointerException("Error while executing Delete(K) in BinaryMinHeap for item \"" + item + "\": The item does not exist!");
+        
+        Delete(node.getIndex());
+        if (HeapMetrics.ENABLED && metrics != null)
+            metrics.recordOperation(HeapMetrics.Operation.DELETE, start, size);
+    }
+    
+    /** Delete removes the item held by the given handle from the BinaryMinHeap.
+     * 
+     * @param handle The handle returned by Insert for the item to remove.
+     * @throws IllegalArgumentException If the handle parameter is null or is not in this BinaryMinHeap.
+     */
+    public void Delete(HeapNode<K, V> handle) throws IllegalArgumentException {
+        if (handle == null)
+            throw new IllegalArgumentException("Error while executing Delete(HeapNode<K, V>) in BinaryMinHeap: The handle parameter is null!");
+        else if (!isValid(handle))
+            throw new IllegalArgumentException("Error while executing Delete(HeapNode<K, V>) in BinaryMinHeap for item \"" + handle.getKey() + "\": The handle is not in this BinaryMinHeap!");
+        
+        long start = HeapMetrics.ENABLED && metrics != null ? System.nanoTime() : 0; // When this call started, for HeapMetrics.
+        Delete(handle.getIndex());
+        if (HeapMetrics.ENABLED && metrics != null)
+            metrics.recordOperation(HeapMetrics.Operation.DELETE, start, size);
+    }
+    
+    /** ExtractMin removes the first entry with the smallest priority value,
+     *  then smallest entry based on natural ordering, from the BinaryMinHeap.
+     * 
+     * @return The first entry in the BinaryMinHeap, or null if the BinaryMinHeap is empty.
+     */
+    public K ExtractMin() {
+        if (isEmpty())
+            return null;
+        
+        long start = HeapMetrics.ENABLED && metrics != null ? System.nanoTime() : 0; // When this call started, for HeapMetrics.
+        K result = FindMin();
+        Delete(root);
+        if (HeapMetrics.ENABLED && metrics != null)
+            metrics.recordOperation(HeapMetrics.Operation.EXTRACT_MIN, start, size);
+        return result;
+    }
+    
+    /** ExtractMin removes up to n entries with the smallest priority values, then smallest
+     *  entries based on natural ordering, from the BinaryMinHeap, and adds them in order to
+     *  the passed-in collection.
+     * 
+     * @param n The maximum number of entries to remove.
+     * @param out The collection to add the removed entries to.
+     * @return The number of entries removed, which is less than n only if the heap ran out.
+     * @throws IllegalArgumentException If n is negative or the out parameter is null.
+     */
+    public int ExtractMin(int n, Collection<? super K> out) throws IllegalArgumentException {
+        if (n < 0)
+            throw new IllegalArgumentException("Error while executing ExtractMin(int, Collection<K>) in BinaryMinHeap: The n parameter (" + n + ") is less than 0!");
+        else if (out == null)
+            throw new IllegalArgumentException("Error while executing ExtractMin(int, Collection<K>) in BinaryMinHeap: The out parameter is null!");
+        
+        int count = Math.min(n, size);
+        for (int i = 0; i < count; i++) {
+            out.add(heap[root].getKey());
+            Delete(root);
+        }
+        if (HeapMetrics.ENABLED && metrics != null)
+            metrics.recordBatch(HeapMetrics.Operation.EXTRACT_MIN, count, size);
+        return count;
+    }
+    
+    /** ChangeKey changes the priority value of the node at the given index,
+     *  and then readjusts its position in the BinaryMinHeap as appropriate.
+     * 
+     * @param index The index of the node whose priority value we wish to modify.
+     * @param newValue The node's new priority value.
+     */
+    private void ChangeKey(int index, V newValue) {
+        V oldValue = heap[index].getValue();
+        heap[index].setValue(newValue);
+        
+        int comparison = newValue.compareTo(oldValue);
+        if (comparison < 0)
+            Heapify_Up(index);
+        else if (comparison > 0)
+            Heapify_Down(index);
+    }
+    
+    /** ChangeKey changes the priority value of the given item, and then
+     *  readjusts its position in the BinaryMinHeap as appropriate.
+     * 
+     * @param item The item whose priority value we wish to modify.
+     * @param newValue The item's new priority value.
+     * @throws IllegalArgumentException If the item or newValue parameter is null.
+     * @throws IllegalStateException If the heap is empty.
+     * @throws NullPointerException If the item does not exist in the BinaryMinHeap.
+     * @throws UnsupportedOperationException If keyed lookup is disabled for this BinaryMinHeap.
+     */
+    public void ChangeKey(K item, V newValue) throws IllegalArgumentException, IllegalStateException, NullPointerException, UnsupportedOperationException {
+        if (item == null)
+            throw new IllegalArgumentException("Error while executing ChangeKey(K, V) in BinaryMinHeap: The item parameter is null!");
+        else if (newValue == null)
+            throw new IllegalArgumentException("Error while executing ChangeKey(K, V) in BinaryMinHeap for item \"" + item + "\": The newValue parameter is null!");
+        else if (!keyed)
+            throw new UnsupportedOperationException("Error while executing ChangeKey(K, V) in BinaryMinHeap for item \"" + item + "\": Keyed lookup is disabled!");
+        else if (!isEmpty()) {
+            long start = HeapMetrics.ENABLED && metrics != null ? System.nanoTime() : 0; // When this call started, for HeapMetrics.
+            HeapNode<K, V> node = Position.get(item); // Fetch the item's node within the heap.
+            if (node == null)
+                throw new NullPointerException("Error while executing ChangeKey(K, V) in BinaryMinHeap for item \"" + item + "\", newValue \"" + newValue + "\": The item does not exist!");
+            
+            ChangeKey(node.getIndex(), newValue);
+            if (HeapMetrics.ENABLED && metrics != null)
+                metrics.recordOperation(HeapMetrics.Operation.CHANGE_KEY, start, size);
+        } else
+            throw new IllegalStateException("Error while executing ChangeKey(K, V) in BinaryMinHeap for item \"" + item + "\", newValue \"" + newValue + "\": The heap is empty!");
+    }
+    
+    /** ChangeKey changes the priority value of the item held by the given handle,
+     *  and then readjusts its position in the BinaryMinHeap as appropriate.
+     * 
+     * @param handle The handle returned by Insert for the item we wish to modify.
+     * @param newValue The item's new priority value.
+     * @throws IllegalArgumentException If the handle or newValue parameter is null,
+     *  or the handle is not in this BinaryMinHeap.
+     */
+    public void ChangeKey(HeapNode<K, V> handle, V newValue) throws IllegalArgumentException {
+        if (handle == null)
+            throw new IllegalArgumentException("Error while executing ChangeKey(HeapNode<K, V>, V) in BinaryMinHeap: The handle parameter is null!");
+        else if (newValue == null)
+            throw new IllegalArgumentException("Error while executing ChangeKey(HeapNode<K, V>, V) in BinaryMinHeap for item \"" + handle.getKey() + "\": The newValue parameter is null!");
+        else if (!isValid(handle))
+            throw new IllegalArgumentException("Error while executing ChangeKey(HeapNode<K, V>, V) in BinaryMinHeap for item \"" + handle.getKey() + "\", newValue \"" + newValue + "\": The handle is not in this BinaryMinHeap!");
+        
+        long start = HeapMetrics.ENABLED && metrics != null ? System.nanoTime() : 0; // When this call started, for HeapMetrics.
+        ChangeKey(handle.getIndex(), newValue);
+        if (HeapMetrics.ENABLED && metrics != null)
+            metrics.recordOperation(HeapMetrics.Operation.CHANGE_KEY, start, size);
+    }
+    
+    /** ChangeKeys changes the priority values of every item in the passed-in map to its mapped
+     *  value. The whole batch is validated before the heap is modified. When the batch is large
+     *  compared to the heap, the values are all set first and the heap is rebuilt bottom-up
+     *  in O(n) time, rather than shifting each item into place.
+     * 
+     * @param items The items to modify, mapped to their new priority values.
+     * @throws IllegalArgumentException If the items parameter, or any item or value in it, is null.
+     * @throws NullPointerException If any item does not exist in the BinaryMinHeap.
+     * @throws UnsupportedOperationException If keyed lookup is disabled for this BinaryMinHeap.
+     */
+    public void ChangeKeys(Map<? extends K, ? extends V> items) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        if (items == null)
+            throw new IllegalArgumentException("Error while executing ChangeKeys(Map<K, V>) in BinaryMinHeap: The items parameter is null!");
+        else if (!keyed)
+            throw new UnsupportedOperationException("Error while executing ChangeKeys(Map<K, V>) in BinaryMinHeap: Keyed lookup is disabled!");
+        
+        for (Map.Entry<? extends K, ? extends V> entry : items.entrySet()) {
+            if (entry.getKey() == null)
+                throw new IllegalArgumentException("Error while executing ChangeKeys(Map<K, V>) in BinaryMinHeap: An item is null!");
+            else if (entry.getValue() == null)
+                throw new IllegalArgumentException("Error while executing ChangeKeys(Map<K, V>) in BinaryMinHeap for item \"" + entry.getKey() + "\": The value is null!");
+            else if (!Position.containsKey(entry.getKey()))
+                throw new NullPointerException("Error while executing ChangeKeys(Map<K, V>) in BinaryMinHeap for item \"" + entry.getKey() + "\": The item does not exist!");
+        }
+        
+        boolean rebuild = RebuildCheaper(items.size(), size);
+        for (Map.Entry<? extends K, ? extends V> entry : items.entrySet()) {
+            HeapNode<K, V> node = Position.get(entry.getKey());
+            if (rebuild)
+                node.setValue(entry.getValue());
+            else
+                ChangeKey(node.getIndex(), entry.getValue());
+        }
+        if (rebuild)
+            Heapify();
+        if (HeapMetrics.ENABLED && metrics != null)
+            metrics.recordBatch(HeapMetrics.Operation.CHANGE_KEY, items.size(), size);
+    }
+    
+    /** meld moves every node of the passed-in BinaryMinHeap into this one, leaving the other heap
+     *  empty. The nodes themselves are moved, so handles from the other heap remain valid here.
+     *  As in InsertAll, a large batch is appended unordered and the heap is rebuilt bottom-up,
+     *  so meld takes O(n + m) time rather than O(1); PairingHeap melds in constant time.
+     * 
+     * @param other The BinaryMinHeap whose nodes are moved into this one.
+     * @throws IllegalArgumentException If the other parameter is null, is this heap, is not a
+     *  BinaryMinHeap, differs in keyed lookup, or holds an item this keyed heap already holds.
+     * @throws OutOfMemoryError If this BinaryMinHeap is bounded and cannot hold the other heap's nodes.
+     */
+    public void meld(MinHeap<K, V> other) throws IllegalArgumentException, OutOfMemoryError {
+        if (other == null)
+            throw new IllegalArgumentException("Error while executing meld(MinHeap<K, V>) in BinaryMinHeap: The other parameter is null!");
+        else if (other == this)
+            throw new IllegalArgumentException("Error while executing meld(MinHeap<K, V>) in BinaryMinHeap: A heap cannot be melded with itself!");
+        else if (!(other instanceof BinaryMinHeap))
+            throw new IllegalArgumentException("Error while executing meld(MinHeap<K, V>) in BinaryMinHeap: The other parameter is a " + other.getClass().getSimpleName() + ", not a BinaryMinHeap!");
+        else if (other.isKeyed() != keyed)
+            throw new IllegalArgumentException("Error while executing meld(MinHeap<K, V>) in BinaryMinHeap: Only one of the heaps has keyed lookup enabled!");
+        
+        BinaryMinHeap<K, V> source = (BinaryMinHeap<K, V>) other;
+        if (keyed)
+            for (int index = source.root; index <= source.last(); index++)
+                if (Position.containsKey(source.heap[index].getKey()))
+                    throw new IllegalArgumentException("Error while executing meld(MinHeap<K, V>) in BinaryMinHeap for item \"" + source.heap[index].getKey() + "\": The item is in both heaps!");
+        
+        if ((long) size + source.size > capacity()) {
+            if (growth.isBounded()) {
+                if (HeapMetrics.ENABLED && metrics != null)
+                    metrics.recordFullRejection();
+                throw new OutOfMemoryError("Error while executing meld(MinHeap<K, V>) in BinaryMinHeap for " + source.size + " new items: BinaryMinHeap is full!");
+            }
+            Resize(growth.grow(capacity(), (int) Math.min((long) size + source.size, Integer.MAX_VALUE)));
+        }
+        
+        boolean rebuild = RebuildCheaper(source.size, (long) size + source.size);
+        for (int index = source.root; index <= source.last(); index++) {
+            HeapNode<K, V> node = source.heap[index];
+            source.heap[index] = null;
+            size++;
+            heap[last()] = node;
+            node.setIndex(last());
+            if (keyed)
+                Position.put(node.getKey(), node);
+            if (!rebuild)
+                Heapify_Up(last());
+        }
+        if (rebuild)
+            Heapify();
+        
+        // Leave the other heap empty, at the capacity it was created with.
+        source.size = 0;
+        if (source.keyed)
+            source.Position.clear();
+        source.trimToSize();
+    }
+    
+    /** isValid checks whether the given handle still refers to an item in this BinaryMinHeap.
+     * 
+     * @param handle The handle returned by Insert.
+     * @return True if the handle's item has not been removed from this BinaryMinHeap.
+     */
+    public boolean isValid(HeapNode<K, V> handle) {
+        if (handle == null)
+            return false;
+        
+        int index = handle.getIndex();
+        return index >= root && index <= last() && heap[index] == handle;
+    }
+    
+    /** contains checks whether the given item is in this BinaryMinHeap.
+     * 
+     * @param item The item to look for.
+     * @return True if the item is in the heap.
+     * @throws IllegalArgumentException If the item parameter is null.
+     * @throws UnsupportedOperationException If keyed lookup is disabled for this BinaryMinHeap.
+     */
+    public boolean contains(K item) throws IllegalArgumentException, UnsupportedOperationException {
+        if (item == null)
+            throw new IllegalArgumentException("Error while executing contains(K) in BinaryMinHeap: The item parameter is null!");
+        else if (!keyed)
+            throw new UnsupportedOperationException("Error while executing contains(K) in BinaryMinHeap for item \"" + item + "\": Keyed lookup is disabled!");
+        
+        return Position.containsKey(item);
+    }
+    
+    /** getMetrics returns the HeapMetrics recording this BinaryMinHeap's operations.
+     * 
+     * @return The attached HeapMetrics, or null if none is attached.
+     */
+    HeapMetrics getMetrics() {
+        return metrics;
+    }
+    
+    /** setMetrics attaches the passed-in HeapMetrics to this BinaryMinHeap, which records
+     *  into it from then on if HeapMetrics.ENABLED is set.
+     * 
+     * @param newMetrics The HeapMetrics to record into, or null to stop recording.
+     */
+    void setMetrics(HeapMetrics newMetrics) {
+        metrics = newMetrics;
+    }
+    
+    /** forEach passes every item in this BinaryMinHeap and its priority value to the passed-in
+     *  action, in heap array order rather than priority order.
+     * 
+     * @param action The action to perform on each item and value.
+     */
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        for (int index = root; index <= last(); index++)
+            action.accept(heap[index].getKey(), heap[index].getValue());
+    }
+    
+    /** isKeyed checks whether items in this BinaryMinHeap can be looked up by key.
+     * 
+     * @return True if ChangeKey(K, V) and Delete(K) are supported.
+     */
+    public boolean isKeyed() {
+        return keyed;
+    }
+    
+    /** ensureCapacity grows this BinaryMinHeap, if necessary, so that it can hold at least
+     *  minCapacity items without resizing. For a bounded heap, this raises its maximum size.
+     * 
+     * @param minCapacity The number of items the heap must be able to hold.
+     * @throws IllegalArgumentException If the minCapacity parameter is less than zero.
+     */
+    public void ensureCapacity(int minCapacity) throws IllegalArgumentException {
+        if (minCapacity < 0)
+            throw new IllegalArgumentException("Error while executing ensureCapacity(int) in BinaryMinHeap: The minCapacity parameter (" + minCapacity + ") is less than 0!");
+        
+        if (minCapacity > capacity())
+            Resize(growth.isBounded() ? minCapacity : growth.grow(capacity(), minCapacity));
+    }
+    
+    /** trimToSize shrinks this BinaryMinHeap's array and key index to fit its current size,
+     *  but no smaller than the capacity it was created with. A bounded heap keeps its
+     *  capacity, since that capacity is its maximum size.
+     */
+    public void trimToSize() {
+        if (growth.isBounded())
+            return;
+        
+        int capacity = Math.max(size, minimumCapacity);
+        if (capacity < capacity())
+            Resize(capacity);
+        if (keyed)
+            Position.trimToSize();
+    }
+    
+    /** capacity returns the number of items this BinaryMinHeap can hold before its array is resized.
+     * 
+     * @return The length of the heap array, less the indices below the root.
+     */
+    public int capacity() {
+        return heap.length - root;
+    }
+    
+    /** size returns the number of items in this BinaryMinHeap.
+     * 
+     * @return The number of items in the heap.
+     */
+    public int size() {
+        return size;
+    }
+    
+    /** isEmpty checks whether this BinaryMinHeap is empty.
+     * 
+     * @return True if this BinaryMinHeap is empty.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    
+    /** isFull checks whether this BinaryMinHeap is full. An unbounded heap is never full.
+     * 
+     * @return True if this BinaryMinHeap is bounded and full.
+     */
+    public boolean isFull() {
+        return growth.isBounded() && size == capacity();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,390 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/** The BlockingPriorityQueue class wraps a PriorityQueue so that consumers can wait for items
+ *  instead of polling ExtractMin, and producers can wait for room in a bounded queue instead of
+ *  catching the OutOfMemoryError from Insert. Every operation runs under one ReentrantLock,
+ *  and waiting threads are parked on its Conditions, so an idle consumer uses no CPU and does not
+ *  pin a carrier thread the way a synchronized block would. Each new item wakes exactly one
+ *  waiting consumer: it completes the oldest pending takeAsync future if there is one, and
+ *  otherwise signals one thread blocked in take or poll.
+ *
+ * @param <K> The type of item that will be stored in this BlockingPriorityQueue.
+ * @param <V> The type of value that will be used to order the items in this BlockingPriorityQueue.
+ */
+public class BlockingPriorityQueue<K extends Comparable<? super K>, V extends Comparable<? super V>> {
+    private final PriorityQueue<K, V> queue; // queue holds the items, and is only accessed while holding lock.
+    private final ReentrantLock lock = new ReentrantLock(); // lock guards queue and waiters.
+    private final Condition notEmpty = lock.newCondition(); // notEmpty is signaled once for each item added.
+    private final Condition notFull = lock.newCondition(); // notFull is signaled once for each item removed.
+    private final ArrayDeque<CompletableFuture<K>> waiters = new ArrayDeque<>(); // waiters holds the futures of pending takeAsync calls, which only exist while queue is empty.
+
+    /** Constructor that creates a new BlockingPriorityQueue with a maximum size of passed-in newSize parameter.
+     *
+     * @param newSize The maximum size of this BlockingPriorityQueue.
+     * @throws IllegalArgumentException If the newSize parameter is less than 0.
+     */
+    public BlockingPriorityQueue(int newSize) throws IllegalArgumentException {
+        this(newSize, GrowthPolicy.BOUNDED);
+    }
+
+    /** Constructor that creates a new BlockingPriorityQueue with an initial size of passed-in
+     *  newSize parameter, which grows and shrinks according to the passed-in GrowthPolicy.
+     *  With an unbounded policy, producers never wait.
+     *
+     * @param newSize The initial capacity of this BlockingPriorityQueue, and its maximum size if growth is bounded.
+     * @param growth The policy that decides when the queue grows and shrinks.
+     * @throws IllegalArgumentException If the newSize parameter is less than 0, or growth is null.
+     */
+    public BlockingPriorityQueue(int newSize, GrowthPolicy growth) throws IllegalArgumentException {
+        queue = new PriorityQueue<>(newSize, growth);
+    }
+
+    /** Add stores the given item in the queue, or hands it straight to the oldest pending
+     *  takeAsync call. It must be called while holding lock, and only if there is room or
+     *  the item is already in the queue.
+     *
+     * @param item The item to add.
+     * @param value The priority value of the item.
+     * @return The future the item was handed to, which must be completed after releasing lock, or null.
+     */
+    private CompletableFuture<K> Add(K item, V value) {
+        CompletableFuture<K> waiter;
+        while ((waiter = waiters.poll()) != null)
+            if (!waiter.isDone()) // Skip futures that were cancelled while waiting.
+                return waiter;
+
+        boolean added = !queue.contains(item);
+        queue.Insert(item, value);
+        if (added)
+            notEmpty.signal();
+        return null;
+    }
+
+    /** Complete hands the passed-in item to the passed-in takeAsync future. It must be called
+     *  without holding lock, so that the future's callbacks never run under it. If the future was
+     *  cancelled first, the item was neither handed over nor added, and the caller must start
+     *  over, checking again for room, since other producers may have filled the queue meanwhile.
+     *
+     * @param waiter The future returned by Add, or null.
+     * @param item The item to hand over.
+     * @return True if the item was handed over or waiter is null, or false if the future was cancelled.
+     */
+    private boolean Complete(CompletableFuture<K> waiter, K item) {
+        return waiter == null || waiter.complete(item);
+    }
+
+    /** offer adds a new item to the queue with the given priority value, or changes the priority
+     *  value of the item if it is already in the queue, unless the queue is full.
+     *
+     * @param item The item to add to the queue.
+     * @param value The priority value to set for the item.
+     * @return True if the item was added or changed, or false if the queue was full.
+     * @throws IllegalArgumentException If the item or value parameter is null.
+     */
+    public boolean offer(K item, V value) throws IllegalArgumentException {
+        // First check that the item and value parameters are not null.
+        if (item == null)
+            throw new IllegalArgumentException("Error while executing offer(K, V) in BlockingPriorityQueue: The item parameter is null!");
+        else if (value == null)
+            throw new IllegalArgumentException("Error while executing offer(K, V) in BlockingPriorityQueue for item \"" + item + "\": The value parameter is null!");
+
+        CompletableFuture<K> waiter;
+        do {
+            lock.lock();
+            try {
+                if (queue.isFull() && !queue.contains(item))
+                    return false;
+                waiter = Add(item, value);
+            } finally {
+                lock.unlock();
+            }
+        } while (!Complete(waiter, item));
+        return true;
+    }
+
+    /** offer adds a new item to the queue with the given priority value, or changes the priority
+     *  value of the item if it is already in the queue, waiting up to the given time for room
+     *  if the queue is full.
+     *
+     * @param item The item to add to the queue.
+     * @param value The priority value to set for the item.
+     * @param timeout How long to wait for room, in units of unit.
+     * @param unit The unit of the timeout parameter.
+     * @return True if the item was added or changed, or false if the time ran out first.
+     * @throws IllegalArgumentException If the item, value or unit parameter is null.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    public boolean offer(K item, V value, long timeout, TimeUnit unit) throws IllegalArgumentException, InterruptedException {
+        // First check that the item, value and unit parameters are not null.
+        if (item == null)
+            throw new IllegalArgumentException("Error while executing offer(K, V, long, TimeUnit) in BlockingPriorityQueue: The item parameter is null!");
+        else if (value == null)
+            throw new IllegalArgumentException("Error while executing offer(K, V, long, TimeUnit) in BlockingPriorityQueue for item \"" + item + "\": The value parameter is null!");
+        else if (unit == null)
+            throw new IllegalArgumentException("Error while executing offer(K, V, long, TimeUnit) in BlockingPriorityQueue for item \"" + item + "\": The unit parameter is null!");
+
+        long nanos = unit.toNanos(timeout);
+        CompletableFuture<K> waiter;
+        do {
+            lock.lockInterruptibly();
+            try {
+                while (queue.isFull() && !queue.contains(item)) {
+                    if (nanos <= 0)
+                        return false;
+                    nanos = notFull.awaitNanos(nanos);
+                }
+                waiter = Add(item, value);
+            } finally {
+                lock.unlock();
+            }
+        } while (!Complete(waiter, item));
+        return true;
+    }
+
+    /** put adds a new item to the queue with the given priority value, or changes the priority
+     *  value of the item if it is already in the queue, waiting for room if the queue is full.
+     *
+     * @param item The item to add to the queue.
+     * @param value The priority value to set for the item.
+     * @throws IllegalArgumentException If the item or value parameter is null.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    public void put(K item, V value) throws IllegalArgumentException, InterruptedException {
+        // First check that the item and value parameters are not null.
+        if (item == null)
+            throw new IllegalArgumentException("Error while executing put(K, V) in BlockingPriorityQueue: The item parameter is null!");
+        else if (value == null)
+            throw new IllegalArgumentException("Error while executing put(K, V) in BlockingPriorityQueue for item \"" + item + "\": The value parameter is null!");
+
+        CompletableFuture<K> waiter;
+        do {
+            lock.lockInterruptibly();
+            try {
+                while (queue.isFull() && !queue.contains(item))
+                    notFull.await();
+                waiter = Add(item, value);
+            } finally {
+                lock.unlock();
+            }
+        } while (!Complete(waiter, item));
+    }
+
+    /** Remove extracts the minimum item from the queue and wakes one producer waiting for room.
+     *  It must be called while holding lock, and only if the queue is not empty.
+     *
+     * @return The item removed from the queue.
+     */
+    private K Remove() {
+        K result = queue.ExtractMin();
+        notFull.signal();
+        return result;
+    }
+
+    /** poll removes the first entry with the smallest priority value, then smallest entry
+     *  based on natural ordering, from the queue without waiting.
+     *
+     * @return The first entry in the queue, or null if the queue is empty.
+     */
+    public K poll() {
+        lock.lock();
+        try {
+            return queue.isEmpty() ? null : Remove();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** poll removes the first entry with the smallest priority value, then smallest entry
+     *  based on natural ordering, from the queue, waiting up to the given time for one to arrive.
+     *
+     * @param timeout How long to wait for an entry, in units of unit.
+     * @param unit The unit of the timeout parameter.
+     * @return The first entry in the queue, or null if the time ran out first.
+     * @throws IllegalArgumentException If the unit parameter is null.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    public K poll(long timeout, TimeUnit unit) throws IllegalArgumentException, InterruptedException {
+        if (unit == null)
+            throw new IllegalArgumentException("Error while executing poll(long, TimeUnit) in BlockingPriorityQueue: The unit parameter is null!");
+
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (queue.isEmpty()) {
+                if (nanos <= 0)
+                    return null;
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return Remove();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** take removes the first entry with the smallest priority value, then smallest entry
+     *  based on natural ordering, from the queue, waiting for one to arrive if the queue is empty.
+     *
+     * @return The first entry in the queue.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    public K take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (queue.isEmpty())
+                notEmpty.await();
+            return Remove();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** takeAsync removes the first entry with the smallest priority value, then smallest entry
+     *  based on natural ordering, from the queue as soon as there is one, without blocking the caller.
+     *  Pending takeAsync calls are served in the order they were made, and before threads blocked
+     *  in take or poll. Cancelling the returned future, or completing it exceptionally, as
+     *  orTimeout does, gives up its place in line.
+     *
+     * @return A future that completes with the entry removed from the queue.
+     */
+    public CompletableFuture<K> takeAsync() {
+        CompletableFuture<K> waiter;
+        lock.lock();
+        try {
+            if (!queue.isEmpty())
+                return CompletableFuture.completedFuture(Remove());
+
+            waiter = new CompletableFuture<>();
+            waiters.add(waiter);
+        } finally {
+            lock.unlock();
+        }
+        // A future that failed will never be handed an item, so it is dropped from the line at once.
+        // One that was handed an item has already been taken out of the line by Add.
+        waiter.whenComplete((result, failure) -> {
+            if (failure != null)
+                Forget(waiter);
+        });
+        return waiter;
+    }
+
+    /** Forget removes the passed-in takeAsync future from the line of pending calls.
+     *
+     * @param waiter The future to remove.
+     */
+    private void Forget(CompletableFuture<K> waiter) {
+        lock.lock();
+        try {
+            waiters.remove(waiter);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** pendingTakes returns the number of takeAsync calls waiting for an item.
+     *
+     * @return The number of takeAsync futures that have not yet been handed an item, cancelled or timed out.
+     */
+    public int pendingTakes() {
+        lock.lock();
+        try {
+            return waiters.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** ChangeKey changes the priority value of the given item.
+     *
+     * @param item The item whose priority value we wish to modify.
+     * @param newValue The item's new priority value.
+     * @throws IllegalArgumentException If the item or newValue parameter is null.
+     * @throws IllegalStateException If the queue is empty.
+     * @throws NullPointerException If the item does not exist in the queue.
+     */
+    public void ChangeKey(K item, V newValue) throws IllegalArgumentException, IllegalStateException, NullPointerException {
+        lock.lock();
+        try {
+            queue.ChangeKey(item, newValue);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Delete removes the given item from the queue.
+     *
+     * @param item The item to remove from the queue.
+     * @throws IllegalArgumentException If the item parameter is null.
+     * @throws IllegalStateException If the queue is empty.
+     * @throws NullPointerException If the item does not exist in the queue.
+     */
+    public void Delete(K item) throws IllegalArgumentException, IllegalStateException, NullPointerException {
+        lock.lock();
+        try {
+            queue.Delete(item);
+            notFull.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** FindMin returns the item with the minimum value, then natural ordering,
+     *  in the queue, but does not remove it from the queue.
+     *
+     * @return The lowest-priority value, then smallest item, stored in the queue,
+     *  or null if the queue is empty.
+     */
+    public K FindMin() {
+        lock.lock();
+        try {
+            return queue.FindMin();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** size returns the number of items in the queue.
+     *
+     * @return The number of items in the queue.
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** isEmpty checks whether the queue is empty.
+     *
+     * @return True if the queue is empty.
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /** isFull checks whether the queue is full. An unbounded queue is never full.
+     *
+     * @return True if the queue is bounded and full.
+     */
+    public boolean isFull() {
+        lock.lock();
+        try {
+            return queue.isFull();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
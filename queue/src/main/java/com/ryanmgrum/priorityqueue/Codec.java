@@ -0,0 +1,78 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/** The Codec interface converts the items and priority values of a DurablePriorityQueue
+ *  to and from the bytes stored in its write-ahead log and snapshots.
+ *
+ * @param <T> The type of object this Codec writes and reads.
+ */
+public interface Codec<T> {
+    /** LONG writes a Long as 8 bytes. */
+    Codec<Long> LONG = new Codec<>() {
+        @Override
+        public void write(Long value, DataOutput out) throws IOException {
+            out.writeLong(value);
+        }
+
+        @Override
+        public Long read(DataInput in) throws IOException {
+            return in.readLong();
+        }
+    };
+
+    /** INTEGER writes an Integer as 4 bytes. */
+    Codec<Integer> INTEGER = new Codec<>() {
+        @Override
+        public void write(Integer value, DataOutput out) throws IOException {
+            out.writeInt(value);
+        }
+
+        @Override
+        public Integer read(DataInput in) throws IOException {
+            return in.readInt();
+        }
+    };
+
+    /** STRING writes a String as its length in bytes followed by its UTF-8 encoding. */
+    Codec<String> STRING = new Codec<>() {
+        @Override
+        public void write(String value, DataOutput out) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        @Override
+        public String read(DataInput in) throws IOException {
+            byte[] bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+    /** write encodes the passed-in object.
+     *
+     * @param value The object to encode, which is never null.
+     * @param out The output to write the encoding to.
+     * @throws IOException If the output cannot be written.
+     */
+    void write(T value, DataOutput out) throws IOException;
+
+    /** read decodes an object written by write.
+     *
+     * @param in The input to read the encoding from.
+     * @return The decoded object.
+     * @throws IOException If the input cannot be read or does not hold a valid encoding.
+     */
+    T read(DataInput in) throws IOException;
+}
@@ -0,0 +1,132 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue;
+
+/** The ConcurrentPriorityQueue class is a thread-safe PriorityQueue that any number of threads
+ *  may use at once without external locking. It comes in two modes:
+ *  <ul>
+ *  <li>strict(), which is linearizable: ExtractMin always removes the current minimum.
+ *      It is built on a lock-free skip list, plus a concurrent hash map that locks
+ *      only the item being changed.</li>
+ *  <li>relaxed(), which spreads the items over several BinaryMinHeaps, each with its own lock,
+ *      and has ExtractMin remove the smaller minimum of two randomly chosen heaps. The item
+ *      removed is close to, but not always, the current minimum, in exchange for much less
+ *      contention when many threads call ExtractMin.</li>
+ *  </ul>
+ *  Both modes count their contention in a ContentionMetrics.
+ *
+ * @param <K> The type of item that will be stored in this ConcurrentPriorityQueue.
+ * @param <V> The type of value that will be used to order the items in this ConcurrentPriorityQueue.
+ */
+public abstract class ConcurrentPriorityQueue<K extends Comparable<? super K>, V extends Comparable<? super V>> {
+    final ContentionMetrics metrics = new ContentionMetrics(); // metrics counts the contention between this queue's threads.
+
+    /** strict creates a new, empty ConcurrentPriorityQueue whose operations are linearizable.
+     *
+     * @param <K> The type of item that will be stored in the new queue.
+     * @param <V> The type of value that will be used to order the items.
+     * @return The new ConcurrentPriorityQueue.
+     */
+    public static <K extends Comparable<? super K>, V extends Comparable<? super V>> ConcurrentPriorityQueue<K, V> strict() {
+        return new SkipListPriorityQueue<>();
+    }
+
+    /** relaxed creates a new, empty ConcurrentPriorityQueue that spreads its items over
+     *  twice as many BinaryMinHeaps as there are processors.
+     *
+     * @param <K> The type of item that will be stored in the new queue.
+     * @param <V> The type of value that will be used to order the items.
+     * @return The new ConcurrentPriorityQueue.
+     */
+    public static <K extends Comparable<? super K>, V extends Comparable<? super V>> ConcurrentPriorityQueue<K, V> relaxed() {
+        return relaxed(2 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /** relaxed creates a new, empty ConcurrentPriorityQueue that spreads its items over
+     *  the passed-in number of BinaryMinHeaps.
+     *
+     * @param <K> The type of item that will be stored in the new queue.
+     * @param <V> The type of value that will be used to order the items.
+     * @param shards The number of BinaryMinHeaps to spread the items over.
+     * @return The new ConcurrentPriorityQueue.
+     * @throws IllegalArgumentException If the shards parameter is less than 1.
+     */
+    public static <K extends Comparable<? super K>, V extends Comparable<? super V>> ConcurrentPriorityQueue<K, V> relaxed(int shards) throws IllegalArgumentException {
+        return new MultiQueue<>(shards);
+    }
+
+    /** Insert adds a new item to the queue with the given priority value, or changes
+     *  the priority value of the item if it is already in the queue.
+     *
+     * @param item The item to add to the queue.
+     * @param value The priority value to set for the item.
+     * @throws IllegalArgumentException If the item or value parameter is null.
+     */
+    public abstract void Insert(K item, V value) throws IllegalArgumentException;
+
+    /** ChangeKey changes the priority value of the given item.
+     *
+     * @param item The item whose priority value we wish to modify.
+     * @param newValue The item's new priority value.
+     * @throws IllegalArgumentException If the item or newValue parameter is null.
+     * @throws NullPointerException If the item does not exist in the queue.
+     */
+    public abstract void ChangeKey(K item, V newValue) throws IllegalArgumentException, NullPointerException;
+
+    /** Delete removes the given item from the queue.
+     *
+     * @param item The item to remove from the queue.
+     * @throws IllegalArgumentException If the item parameter is null.
+     * @throws NullPointerException If the item does not exist in the queue.
+     */
+    public abstract void Delete(K item) throws IllegalArgumentException, NullPointerException;
+
+    /** FindMin returns the item with the minimum value, then natural ordering, in the queue,
+     *  but does not remove it from the queue. Other threads may remove it at any moment.
+     *
+     * @return The lowest-priority value, then smallest item, stored in the queue,
+     *  or null if the queue is empty.
+     */
+    public abstract K FindMin();
+
+    /** ExtractMin removes the entry with the smallest priority value, then smallest entry
+     *  based on natural ordering, from the queue. In relaxed mode, the entry removed is
+     *  only approximately the smallest.
+     *
+     * @return The entry removed from the queue, or null if the queue is empty.
+     */
+    public abstract K ExtractMin();
+
+    /** size returns the number of items in the queue. While other threads are modifying
+     *  the queue, this is only an estimate.
+     *
+     * @return The number of items in the queue.
+     */
+    public abstract int size();
+
+    /** isEmpty checks whether the queue is empty.
+     *
+     * @return True if the queue held no items when it was checked.
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /** isRelaxed checks whether ExtractMin may return an item other than the minimum.
+     *
+     * @return True if this queue was created in relaxed mode.
+     */
+    public abstract boolean isRelaxed();
+
+    /** getMetrics returns the contention counters of this queue.
+     *
+     * @return The live ContentionMetrics of this queue.
+     */
+    public ContentionMetrics getMetrics() {
+        return metrics;
+    }
+}
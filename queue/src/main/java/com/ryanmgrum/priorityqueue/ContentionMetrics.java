@@ -0,0 +1,93 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/** The ContentionMetrics class counts how often the threads using a ConcurrentPriorityQueue
+ *  get in each other's way. The counters are striped LongAdders, so recording them does not
+ *  itself become a point of contention.
+ */
+public class ContentionMetrics {
+    private final LongAdder operations = new LongAdder(); // The number of Insert, ChangeKey, Delete and ExtractMin calls.
+    private final LongAdder retries = new LongAdder(); // The number of times an operation had to start over after losing a race.
+    private final LongAdder lockFailures = new LongAdder(); // The number of times a shard lock was already held by another thread.
+    private final LongAdder emptySamples = new LongAdder(); // The number of times ExtractMin sampled only empty shards.
+
+    /** Constructor that creates a new ContentionMetrics with every counter at zero. */
+    ContentionMetrics() {
+    }
+
+    /** recordOperation counts one queue operation. */
+    void recordOperation() {
+        operations.increment();
+    }
+
+    /** recordRetry counts one operation restarting after losing a race with another thread. */
+    void recordRetry() {
+        retries.increment();
+    }
+
+    /** recordLockFailure counts one attempt to take a shard lock that was already held. */
+    void recordLockFailure() {
+        lockFailures.increment();
+    }
+
+    /** recordEmptySample counts one ExtractMin sample that found only empty shards. */
+    void recordEmptySample() {
+        emptySamples.increment();
+    }
+
+    /** getOperations returns the number of Insert, ChangeKey, Delete and ExtractMin calls.
+     *
+     * @return The number of operations recorded.
+     */
+    public long getOperations() {
+        return operations.sum();
+    }
+
+    /** getRetries returns the number of times an operation had to start over because
+     *  another thread changed the queue underneath it.
+     *
+     * @return The number of retries recorded.
+     */
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    /** getLockFailures returns the number of times a thread found the shard lock it wanted
+     *  already held by another thread.
+     *
+     * @return The number of lock failures recorded.
+     */
+    public long getLockFailures() {
+        return lockFailures.sum();
+    }
+
+    /** getEmptySamples returns the number of times ExtractMin sampled only empty shards
+     *  and had to look further.
+     *
+     * @return The number of empty samples recorded.
+     */
+    public long getEmptySamples() {
+        return emptySamples.sum();
+    }
+
+    /** reset sets every counter back to zero. Counts recorded while reset runs may be lost. */
+    public void reset() {
+        operations.reset();
+        retries.reset();
+        lockFailures.reset();
+        emptySamples.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "ContentionMetrics[operations=" + getOperations() + ", retries=" + getRetries()
+                + ", lockFailures=" + getLockFailures() + ", emptySamples=" + getEmptySamples() + "]";
+    }
+}
@@ -0,0 +1,65 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue;
+
+/** The DAryLayout class stores a d-ary heap in level order, optionally shifted by an offset.
+ *  Numbering the nodes from 1 in level order, the children of node i are
+ *  d(i - 1) + 2 to di + 1; node i is then stored at array index i + offset.
+ */
+final class DAryLayout implements HeapLayout {
+    private final int arity; // The number of children of each node.
+    private final int offset; // The distance every node is shifted along the heap array.
+    private final int shift; // log2(arity) if arity is a power of two, so that shifts replace division, or -1.
+
+    /** Constructor that creates a new DAryLayout with the passed-in arity and offset.
+     *
+     * @param newArity The number of children of each node.
+     * @param newOffset The distance to shift every node along the heap array.
+     * @throws IllegalArgumentException If newArity is less than 2 or more than MAX_ARITY, or newOffset is negative.
+     */
+    DAryLayout(int newArity, int newOffset) throws IllegalArgumentException {
+        if (newArity < 2)
+            throw new IllegalArgumentException("Error while creating DAryLayout: newArity parameter (" + newArity + ") is less than 2!");
+        else if (newArity > MAX_ARITY)
+            throw new IllegalArgumentException("Error while creating DAryLayout: newArity parameter (" + newArity + ") is more than " + MAX_ARITY + "!");
+        else if (newOffset < 0)
+            throw new IllegalArgumentException("Error while creating DAryLayout: newOffset parameter (" + newOffset + ") is less than 0!");
+
+        arity = newArity;
+        offset = newOffset;
+        shift = Integer.bitCount(newArity) == 1 ? Integer.numberOfTrailingZeros(newArity) : -1;
+    }
+
+    @Override
+    public int arity() {
+        return arity;
+    }
+
+    @Override
+    public int root() {
+        return 1 + offset;
+    }
+
+    @Override
+    public int parent(int index) {
+        int i = index - offset; // i is the node's level-order number.
+        return (shift >= 0 ? (i - 2) >>> shift : (i - 2) / arity) + 1 + offset;
+    }
+
+    @Override
+    public int firstChild(int index) {
+        int i = index - offset; // i is the node's level-order number.
+        if (i - 1 > (Integer.MAX_VALUE - 2 - offset) / arity) // The children would lie past the largest possible array.
+            return Integer.MAX_VALUE;
+        return (shift >= 0 ? (i - 1) << shift : (i - 1) * arity) + 2 + offset;
+    }
+
+    @Override
+    public String toString() {
+        return (offset == 0 ? "DAryLayout(" : "AlignedDAryLayout(") + arity + ")";
+    }
+}
@@ -0,0 +1,236 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue;
+
+/** The DoublePriorityQueue class is a PriorityQueue specialized for double priority values,
+ *  such as costs or scores. It stores each value in a LongPriorityQueue as a long whose signed
+ *  order matches the order of the doubles, so it shares that queue's parallel-array heap, where
+ *  comparisons read primitives directly and inserting an item allocates no node, instead of
+ *  keeping a second copy of it for double[]. Values are therefore ordered as by Double.compare,
+ *  which puts -0.0 before 0.0. NaN is not a valid priority value, since it cannot be ordered
+ *  against other values.
+ *
+ * @param <K> The type of item that will be stored in this DoublePriorityQueue.
+ */
+public class DoublePriorityQueue<K extends Comparable<? super K>> {
+    private final LongPriorityQueue<K> queue; // queue holds the items, keyed by the encoding of their priority values.
+
+    /** Constructor that creates a new DoublePriorityQueue with a maximum size of passed-in newSize parameter.
+     *
+     * @param newSize The maximum size of this DoublePriorityQueue.
+     * @throws IllegalArgumentException If the newSize parameter is less than zero.
+     */
+    public DoublePriorityQueue(int newSize) throws IllegalArgumentException {
+        this(newSize, GrowthPolicy.BOUNDED);
+    }
+
+    /** Constructor that creates a new DoublePriorityQueue with an initial capacity of passed-in
+     *  newSize parameter, which is resized according to the passed-in GrowthPolicy.
+     *
+     * @param newSize The initial capacity of this DoublePriorityQueue, and its maximum size if newGrowth is bounded.
+     * @param newGrowth The policy that decides when the heap arrays grow and shrink.
+     * @throws IllegalArgumentException If the newSize parameter is less than zero, or newGrowth is null.
+     */
+    public DoublePriorityQueue(int newSize, GrowthPolicy newGrowth) throws IllegalArgumentException {
+        if (newSize < 0)
+            throw new IllegalArgumentException("Error while creating DoublePriorityQueue: newSize parameter (" + newSize + ") is less than 0!");
+        else if (newGrowth == null)
+            throw new IllegalArgumentException("Error while creating DoublePriorityQueue: newGrowth parameter is null!");
+
+        queue = new LongPriorityQueue<>(newSize, newGrowth);
+    }
+
+    /** Encode maps the passed-in double to a long with the same order. The bits of a positive
+     *  double already order like a long; those of a negative double order backwards, so all but
+     *  their sign bit are flipped.
+     *
+     * @param value The priority value to encode, which must not be NaN.
+     * @return The long that stands for the value in the heap.
+     */
+    private static long Encode(double value) {
+        long bits = Double.doubleToRawLongBits(value);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    /** Decode maps a long produced by Encode back to its double.
+     *
+     * @param key The long that stands for the value in the heap.
+     * @return The priority value.
+     */
+    private static double Decode(long key) {
+        return Double.longBitsToDouble(key ^ ((key >> 63) & Long.MAX_VALUE));
+    }
+
+    /** Insert adds a new item to the DoublePriorityQueue with the given priority value,
+     *  or changes the priority value of the item if it is already in the queue.
+     *
+     * @param item The item to add to the DoublePriorityQueue.
+     * @param value The priority value to set for the item.
+     * @throws IllegalArgumentException If the item parameter is null or the value parameter is NaN.
+     * @throws OutOfMemoryError If the DoublePriorityQueue is bounded and full.
+     */
+    public void Insert(K item, double value) throws IllegalArgumentException, OutOfMemoryError {
+        // First check that the item parameter is not null and the value parameter is a number.
+        if (item == null)
+            throw new IllegalArgumentException("Error while executing Insert(K, double) in DoublePriorityQueue: The item parameter is null!");
+        else if (Double.isNaN(value))
+            throw new IllegalArgumentException("Error while executing Insert(K, double) in DoublePriorityQueue for item \"" + item + "\": The value parameter is NaN!");
+        else if (queue.isFull() && !queue.contains(item))
+            throw new OutOfMemoryError("Error while executing Insert(K, double) in DoublePriorityQueue for item \"" + item + "\", value \"" + value + "\": DoublePriorityQueue is full!");
+
+        queue.Insert(item, Encode(value));
+    }
+
+    /** FindMin returns the item with the minimum value, then natural ordering,
+     *  in this DoublePriorityQueue, but does not remove it from the queue.
+     *
+     * @return The lowest-priority value, then item, stored in this queue,
+     *  or null if the queue is empty.
+     */
+    public K FindMin() {
+        return queue.FindMin();
+    }
+
+    /** FindMinValue returns the priority value of the item returned by FindMin.
+     *
+     * @return The lowest priority value stored in this queue.
+     * @throws IllegalStateException If the DoublePriorityQueue is empty.
+     */
+    public double FindMinValue() throws IllegalStateException {
+        if (isEmpty())
+            throw new IllegalStateException("Error while executing FindMinValue() in DoublePriorityQueue: The DoublePriorityQueue is empty!");
+
+        return Decode(queue.FindMinValue());
+    }
+
+    /** Delete removes the given item from the DoublePriorityQueue.
+     *
+     * @param item The item to remove from the queue.
+     * @throws IllegalArgumentException If the item parameter is null.
+     * @throws IllegalStateException If the DoublePriorityQueue is empty.
+     * @throws NullPointerException If the item does not exist in the DoublePriorityQueue.
+     */
+    public void Delete(K item) throws IllegalArgumentException, IllegalStateException, NullPointerException {
+        // First check that the item parameter is not null.
+        if (item == null)
+            throw new IllegalArgumentException("Error while executing Delete(K) in DoublePriorityQueue: The item parameter is null!");
+        else if (isEmpty())
+            throw new IllegalStateException("Error while executing Delete(K) in DoublePriorityQueue for item \"" + item + "\": The DoublePriorityQueue is empty!");
+        else if (!queue.contains(item))
+            throw new NullPointerException("Error while executing Delete(K) in DoublePriorityQueue for item \"" + item + "\": The item does not exist!");
+
+        queue.Delete(item);
+    }
+
+    /** ExtractMin removes the first entry with the smallest priority value,
+     *  then smallest entry based on natural ordering, from the DoublePriorityQueue.
+     *
+     * @return The first entry in the DoublePriorityQueue, or null if the DoublePriorityQueue is empty.
+     */
+    public K ExtractMin() {
+        return queue.ExtractMin();
+    }
+
+    /** ChangeKey changes the priority value of the given item, and then
+     *  readjusts its position in the DoublePriorityQueue as appropriate.
+     *
+     * @param item The item whose priority value we wish to modify.
+     * @param newValue The item's new priority value.
+     * @throws IllegalArgumentException If the item parameter is null or the newValue parameter is NaN.
+     * @throws IllegalStateException If the queue is empty.
+     * @throws NullPointerException If the item does not exist in the DoublePriorityQueue.
+     */
+    public void ChangeKey(K item, double newValue) throws IllegalArgumentException, IllegalStateException, NullPointerException {
+        if (item == null)
+            throw new IllegalArgumentException("Error while executing ChangeKey(K, double) in DoublePriorityQueue: The item parameter is null!");
+        else if (Double.isNaN(newValue))
+            throw new IllegalArgumentException("Error while executing ChangeKey(K, double) in DoublePriorityQueue for item \"" + item + "\": The newValue parameter is NaN!");
+        else if (isEmpty())
+            throw new IllegalStateException("Error while executing ChangeKey(K, double) in DoublePriorityQueue for item \"" + item + "\", newValue \"" + newValue + "\": The queue is empty!");
+        else if (!queue.contains(item))
+            throw new NullPointerException("Error while executing ChangeKey(K, double) in DoublePriorityQueue for item \"" + item + "\", newValue \"" + newValue + "\": The item does not exist!");
+
+        queue.ChangeKey(item, Encode(newValue));
+    }
+
+    /** contains checks whether the given item is in this DoublePriorityQueue.
+     *
+     * @param item The item to look for.
+     * @return True if the item is in the queue.
+     */
+    public boolean contains(K item) {
+        return queue.contains(item);
+    }
+
+    /** getValue returns the priority value of the given item.
+     *
+     * @param item The item whose priority value we wish to read.
+     * @return The item's priority value.
+     * @throws IllegalArgumentException If the item parameter is null.
+     * @throws NullPointerException If the item does not exist in the DoublePriorityQueue.
+     */
+    public double getValue(K item) throws IllegalArgumentException, NullPointerException {
+        if (item == null)
+            throw new IllegalArgumentException("Error while executing getValue(K) in DoublePriorityQueue: The item parameter is null!");
+        else if (!queue.contains(item))
+            throw new NullPointerException("Error while executing getValue(K) in DoublePriorityQueue for item \"" + item + "\": The item does not exist!");
+
+        return Decode(queue.getValue(item));
+    }
+
+    /** ensureCapacity grows this DoublePriorityQueue, if necessary, so that it can hold at least
+     *  minCapacity items without resizing. For a bounded queue, this raises its maximum size.
+     *
+     * @param minCapacity The number of items the queue must be able to hold.
+     * @throws IllegalArgumentException If the minCapacity parameter is less than zero.
+     */
+    public void ensureCapacity(int minCapacity) throws IllegalArgumentException {
+        if (minCapacity < 0)
+            throw new IllegalArgumentException("Error while executing ensureCapacity(int) in DoublePriorityQueue: The minCapacity parameter (" + minCapacity + ") is less than 0!");
+
+        queue.ensureCapacity(minCapacity);
+    }
+
+    /** trimToSize shrinks this DoublePriorityQueue's arrays and key index to fit its current size,
+     *  but no smaller than the capacity it was created with. A bounded queue keeps its capacity.
+     */
+    public void trimToSize() {
+        queue.trimToSize();
+    }
+
+    /** capacity returns the number of items this DoublePriorityQueue can hold before it is resized.
+     *
+     * @return The current capacity of the queue.
+     */
+    public int capacity() {
+        return queue.capacity();
+    }
+
+    /** size returns the number of items in this DoublePriorityQueue.
+     *
+     * @return The number of items in the queue.
+     */
+    public int size() {
+        return queue.size();
+    }
+
+    /** isEmpty checks whether this DoublePriorityQueue is empty.
+     *
+     * @return True if this DoublePriorityQueue is empty.
+     */
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    /** isFull checks whether this DoublePriorityQueue is full. An unbounded queue is never full.
+     *
+     * @return True if this DoublePriorityQueue is bounded and full.
+     */
+    public boolean isFull() {
+        return queue.isFull();
+    }
+}
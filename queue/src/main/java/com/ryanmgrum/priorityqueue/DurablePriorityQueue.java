@@ -0,0 +1,739 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/** The DurablePriorityQueue class is a keyed PriorityQueue whose contents survive a restart or
+ *  crash of the process. Every Insert, ChangeKey, Delete and ExtractMin is appended to a
+ *  write-ahead log before it is applied, and when the log grows long the whole heap is written
+ *  to a snapshot and the log is started over.
+ *
+ *  The directory holds at most one "snapshot" file and the log files "wal-<generation>.log".
+ *  A snapshot records the generation of the first log it does not cover, so recovery loads the
+ *  snapshot, rebuilding the heap in O(n) with InsertAll, and then replays every later log in
+ *  order. Each log record carries its length and a CRC-32 checksum, so a record torn by a crash
+ *  at the end of the last log is detected and cut off.
+ *
+ *  The FsyncPolicy decides when the log is forced to disk. Every operation is written to the
+ *  operating system before it returns, so a crash of the process alone loses nothing. Under
+ *  FsyncPolicy.ALWAYS, an operation is logged and applied under the lock, and its thread then
+ *  waits outside the lock for a flush that covers its record; one waiting thread forces the
+ *  log for every record written so far, so threads logging at the same time share one flush.
+ *  The log is written through a RandomAccessFile rather than a FileChannel, so interrupting a
+ *  thread while it logs an operation cannot close the log.
+ *
+ *  Once an operation has been logged and applied, a failed snapshot does not fail it: the
+ *  error is kept for lastSnapshotFailure, and the snapshot is tried again after another
+ *  snapshotThreshold records.
+ *
+ *  Every operation is synchronized, so a DurablePriorityQueue can be shared between threads.
+ *  Handles are not offered, since a change made through a handle would bypass the log.
+ *
+ * @param <K> The type of item that will be stored in this DurablePriorityQueue.
+ * @param <V> The type of value that will be used to order the items in this DurablePriorityQueue.
+ */
+public class DurablePriorityQueue<K extends Comparable<? super K>, V extends Comparable<? super V>> implements AutoCloseable {
+    /** DEFAULT_SNAPSHOT_THRESHOLD is the number of log records after which a snapshot is taken by default. */
+    public static final long DEFAULT_SNAPSHOT_THRESHOLD = 1 << 20;
+
+    private static final int SNAPSHOT_MAGIC = 0x50515331; // The first 4 bytes of a snapshot, "PQS1".
+    private static final String SNAPSHOT = "snapshot"; // The name of the snapshot file.
+    private static final String SNAPSHOT_TEMP = "snapshot.tmp"; // The name a snapshot is written under before it replaces the old one.
+    private static final String LOG_PREFIX = "wal-"; // The start of the name of every log file.
+    private static final String LOG_SUFFIX = ".log"; // The end of the name of every log file.
+    private static final int RECORD_HEADER = 8; // The bytes before each log record body: its length and its CRC-32.
+
+    private static final byte INSERT = 1; // The log record of Insert(K, V).
+    private static final byte CHANGE_KEY = 2; // The log record of ChangeKey(K, V).
+    private static final byte DELETE = 3; // The log record of Delete(K).
+    private static final byte EXTRACT_MIN = 4; // The log record of ExtractMin(), with the extracted item.
+
+    private final PriorityQueue<K, V> queue; // queue holds the current contents, rebuilt from disk on startup.
+    private final Path directory; // The directory holding the snapshot and logs.
+    private final Codec<K> keyCodec; // keyCodec writes and reads the items.
+    private final Codec<V> valueCodec; // valueCodec writes and reads the priority values.
+    private final FsyncPolicy fsync; // fsync decides when the log is forced to disk.
+    private final long snapshotThreshold; // The number of log records after which a snapshot is taken.
+    private final ByteArrayOutputStream record = new ByteArrayOutputStream(); // record collects the bytes of the log record being written.
+    private final DataOutputStream recordOut = new DataOutputStream(record); // recordOut writes into record.
+    private final CRC32 checksum = new CRC32(); // checksum computes the CRC-32 of each log record.
+    private final ScheduledExecutorService flusher; // flusher forces the log once per interval, or is null if the policy has no interval.
+    private final Object forceLock = new Object(); // forceLock is held by the one thread forcing the log, while the others wait for it.
+    private RandomAccessFile log; // log is the current log file.
+    private long generation; // The generation of the current log file.
+    private long logged; // The number of records logged since the last snapshot.
+    private long snapshotDue; // The value of logged at which the next snapshot is taken.
+    private long written; // The number of records written since the queue was opened.
+    private volatile long durable; // The number of records written since the queue was opened that are known to be forced to disk.
+    private boolean closed; // Whether close has been called.
+    private volatile IOException flushFailure; // flushFailure is the error of the last failed flush, or null.
+    private IOException snapshotFailure; // snapshotFailure is the error of the last failed automatic snapshot, or null.
+
+    /** Constructor that opens the DurablePriorityQueue stored in the passed-in directory, or
+     *  creates an empty one, and recovers its contents.
+     *
+     * @param newDirectory The directory holding the snapshot and logs, which is created if it does not exist.
+     * @param newKeyCodec The Codec of the items.
+     * @param newValueCodec The Codec of the priority values.
+     * @param newFsync The policy that decides when the log is forced to disk.
+     * @param newSnapshotThreshold The number of log records after which a snapshot is taken.
+     * @throws IllegalArgumentException If any parameter is null, or newSnapshotThreshold is not positive.
+     * @throws IOException If the directory cannot be read, or the snapshot or a log is corrupt.
+     */
+    DurablePriorityQueue(Path newDirectory, Codec<K> newKeyCodec, Codec<V> newValueCodec, FsyncPolicy newFsync, long newSnapshotThreshold) throws IllegalArgumentException, IOException {
+        if (newDirectory == null)
+            throw new IllegalArgumentException("Error while creating DurablePriorityQueue: newDirectory parameter is null!");
+        else if (newKeyCodec == null)
+            throw new IllegalArgumentException("Error while creating DurablePriorityQueue: newKeyCodec parameter is null!");
+        else if (newValueCodec == null)
+            throw new IllegalArgumentException("Error while creating DurablePriorityQueue: newValueCodec parameter is null!");
+        else if (newFsync == null)
+            throw new IllegalArgumentException("Error while creating DurablePriorityQueue: newFsync parameter is null!");
+        else if (newSnapshotThreshold <= 0)
+            throw new IllegalArgumentException("Error while creating DurablePriorityQueue: newSnapshotThreshold parameter (" + newSnapshotThreshold + ") is not positive!");
+
+        directory = newDirectory;
+        keyCodec = newKeyCodec;
+        valueCodec = newValueCodec;
+        fsync = newFsync;
+        snapshotThreshold = newSnapshotThreshold;
+        snapshotDue = newSnapshotThreshold;
+
+        Files.createDirectories(directory);
+        Files.deleteIfExists(directory.resolve(SNAPSHOT_TEMP)); // A snapshot that was never finished.
+
+        Map<K, V> items = new LinkedHashMap<>();
+        long first = LoadSnapshot(items);
+        queue = new PriorityQueue<>(Math.max(items.size(), 16), true, GrowthPolicy.unbounded());
+        queue.InsertAll(items); // The heap is rebuilt in O(n), since InsertAll heapifies large batches.
+
+        generation = first;
+        List<Long> logs = Logs();
+        for (int i = 0; i < logs.size(); i++) {
+            long g = logs.get(i);
+            if (g < first)
+                Files.delete(LogPath(g)); // A log that the snapshot already covers.
+            else
+                Replay(LogPath(g), i == logs.size() - 1);
+            generation = Math.max(generation, g + 1);
+        }
+        log = CreateLog(LogPath(generation));
+        ForceDirectory();
+
+        long interval = fsync.intervalNanos();
+        if (interval > 0) {
+            flusher = Executors.newSingleThreadScheduledExecutor(task -> {
+                Thread thread = new Thread(task, "DurablePriorityQueue flusher " + directory);
+                thread.setDaemon(true);
+                return thread;
+            });
+            flusher.scheduleWithFixedDelay(this::Flush, interval, interval, TimeUnit.NANOSECONDS);
+        } else
+            flusher = null;
+    }
+
+    /** open opens the DurablePriorityQueue stored in the passed-in directory, or creates an
+     *  empty one, taking a snapshot every DEFAULT_SNAPSHOT_THRESHOLD log records.
+     *
+     * @param <K> The type of item that will be stored in the queue.
+     * @param <V> The type of value that will be used to order the items.
+     * @param directory The directory holding the snapshot and logs, which is created if it does not exist.
+     * @param keyCodec The Codec of the items.
+     * @param valueCodec The Codec of the priority values.
+     * @param fsync The policy that decides when the log is forced to disk.
+     * @return The recovered DurablePriorityQueue.
+     * @throws IllegalArgumentException If any parameter is null.
+     * @throws IOException If the directory cannot be read, or the snapshot or a log is corrupt.
+     */
+    public static <K extends Comparable<? super K>, V extends Comparable<? super V>> DurablePriorityQueue<K, V> open(Path directory, Codec<K> keyCodec, Codec<V> valueCodec, FsyncPolicy fsync) throws IllegalArgumentException, IOException {
+        return new DurablePriorityQueue<>(directory, keyCodec, valueCodec, fsync, DEFAULT_SNAPSHOT_THRESHOLD);
+    }
+
+    /** open opens the DurablePriorityQueue stored in the passed-in directory, or creates an
+     *  empty one, taking a snapshot every snapshotThreshold log records.
+     *
+     * @param <K> The type of item that will be stored in the queue.
+     * @param <V> The type of value that will be used to order the items.
+     * @param directory The directory holding the snapshot and logs, which is created if it does not exist.
+     * @param keyCodec The Codec of the items.
+     * @param valueCodec The Codec of the priority values.
+     * @param fsync The policy that decides when the log is forced to disk.
+     * @param snapshotThreshold The number of log records after which a snapshot is taken.
+     * @return The recovered DurablePriorityQueue.
+     * @throws IllegalArgumentException If any parameter is null, or snapshotThreshold is not positive.
+     * @throws IOException If the directory cannot be read, or the snapshot or a log is corrupt.
+     */
+    public static <K extends Comparable<? super K>, V extends Comparable<? super V>> DurablePriorityQueue<K, V> open(Path directory, Codec<K> keyCodec, Codec<V> valueCodec, FsyncPolicy fsync, long snapshotThreshold) throws IllegalArgumentException, IOException {
+        return new DurablePriorityQueue<>(directory, keyCodec, valueCodec, fsync, snapshotThreshold);
+    }
+
+    /** LogPath returns the path of the log file of the passed-in generation.
+     *
+     * @param g The generation of the log.
+     * @return The path of the log file.
+     */
+    private Path LogPath(long g) {
+        return directory.resolve(LOG_PREFIX + g + LOG_SUFFIX);
+    }
+
+    /** CreateLog creates the passed-in log file, which must not exist yet, and opens it for writing.
+     *
+     * @param path The path of the new log.
+     * @return The new log, open for writing.
+     * @throws IOException If the log already exists or cannot be created.
+     */
+    private static RandomAccessFile CreateLog(Path path) throws IOException {
+        Files.createFile(path);
+        return new RandomAccessFile(path.toFile(), "rw");
+    }
+
+    /** Logs returns the generations of the log files in the directory, in ascending order.
+     *
+     * @return The generations of the existing logs.
+     * @throws IOException If the directory cannot be listed.
+     */
+    private List<Long> Logs() throws IOException {
+        List<Long> logs = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(path -> {
+                String name = path.getFileName().toString();
+                if (name.startsWith(LOG_PREFIX) && name.endsWith(LOG_SUFFIX)) {
+                    try {
+                        logs.add(Long.parseLong(name.substring(LOG_PREFIX.length(), name.length() - LOG_SUFFIX.length())));
+                    } catch (NumberFormatException e) {
+                        // Not one of our logs, so leave it alone.
+                    }
+                }
+            });
+        }
+        Collections.sort(logs);
+        return logs;
+    }
+
+    /** LoadSnapshot reads the snapshot, if there is one, into the passed-in map.
+     *
+     * @param items The map to add the snapshot's items and priority values to, in heap array order.
+     * @return The generation of the first log the snapshot does not cover, or 0 if there is no snapshot.
+     * @throws IOException If the snapshot cannot be read or is corrupt.
+     */
+    private long LoadSnapshot(Map<K, V> items) throws IOException {
+        Path path = directory.resolve(SNAPSHOT);
+        if (!Files.exists(path))
+            return 0;
+
+        CRC32 crc = new CRC32();
+        try (DataInputStream in = new DataInputStream(new CheckedInputStream(new BufferedInputStream(Files.newInputStream(path)), crc))) {
+            if (in.readInt() != SNAPSHOT_MAGIC)
+                throw new IOException("Error while executing LoadSnapshot(Map<K, V>) in DurablePriorityQueue for \"" + path + "\": The file is not a snapshot!");
+
+            long first = in.readLong();
+            int count = in.readInt();
+            for (int i = 0; i < count; i++)
+                items.put(keyCodec.read(in), valueCodec.read(in));
+
+            long expected = crc.getValue();
+            if (in.readLong() != expected)
+                throw new IOException("Error while executing LoadSnapshot(Map<K, V>) in DurablePriorityQueue for \"" + path + "\": The checksum does not match!");
+            return first;
+        } catch (EOFException e) {
+            throw new IOException("Error while executing LoadSnapshot(Map<K, V>) in DurablePriorityQueue for \"" + path + "\": The snapshot is truncated!", e);
+        }
+    }
+
+    /** Replay applies every record of the passed-in log to the queue. A torn or corrupt record
+     *  at the end of the last log is what a crash in the middle of a write leaves behind, so the
+     *  log is cut off before it; anywhere else, it means the log was damaged.
+     *
+     * @param path The log file to replay.
+     * @param last Whether this is the newest log.
+     * @throws IOException If the log cannot be read, or is corrupt before its end.
+     */
+    private void Replay(Path path, boolean last) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+            long end = channel.size();
+            long position = 0; // The position of the first record not yet applied.
+            while (position < end) {
+                if (end - position < RECORD_HEADER)
+                    break;
+                int length = in.readInt();
+                int crc = in.readInt();
+                if (length <= 0 || length > end - position - RECORD_HEADER)
+                    break;
+                byte[] body = new byte[length];
+                in.readFully(body);
+                checksum.reset();
+                checksum.update(body);
+                if ((int) checksum.getValue() != crc)
+                    break;
+
+                Apply(body, path, position);
+                position += RECORD_HEADER + length;
+                logged++;
+            }
+
+            if (position < end) {
+                if (!last)
+                    throw new IOException("Error while executing Replay(Path, boolean) in DurablePriorityQueue for \"" + path + "\": The log is corrupt at byte " + position + "!");
+                channel.truncate(position);
+                channel.force(true);
+            }
+        }
+    }
+
+    /** Apply performs the operation of the passed-in log record body on the queue.
+     *
+     * @param body The record body, without its length and CRC-32.
+     * @param path The log the record was read from, for the error message.
+     * @param position The position of the record in the log, for the error message.
+     * @throws IOException If the record cannot be decoded or does not fit the queue.
+     */
+    private void Apply(byte[] body, Path path, long position) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(body));
+        byte operation = in.readByte();
+        K item = keyCodec.read(in);
+        try {
+            switch (operation) {
+                case INSERT:
+                    queue.Insert(item, valueCodec.read(in));
+                    break;
+                case CHANGE_KEY:
+                    queue.ChangeKey(item, valueCodec.read(in));
+                    break;
+                case DELETE:
+                case EXTRACT_MIN:
+                    queue.Delete(item);
+                    break;
+                default:
+                    throw new IOException("Error while executing Apply(byte[], Path, long) in DurablePriorityQueue for \"" + path + "\": Unknown operation " + operation + " at byte " + position + "!");
+            }
+        } catch (RuntimeException e) {
+            throw new IOException("Error while executing Apply(byte[], Path, long) in DurablePriorityQueue for \"" + path + "\": The record at byte " + position + " does not match the queue!", e);
+        }
+    }
+
+    /** Append writes a log record for the passed-in operation. If the write fails, the log is
+     *  cut back to before the record, so that no torn record is left in front of later ones.
+     *
+     * @param operation The operation being logged.
+     * @param item The item the operation applies to.
+     * @param value The new priority value, or null if the operation has none.
+     * @return The number of the record, to pass to Commit.
+     * @throws UncheckedIOException If the log cannot be written, or an earlier flush failed.
+     */
+    private long Append(byte operation, K item, V value) throws UncheckedIOException {
+        IOException failure = flushFailure;
+        if (failure != null)
+            throw new UncheckedIOException("Error while executing Append(byte, K, V) in DurablePriorityQueue for item \"" + item + "\": An earlier flush failed!", failure);
+
+        long start = -1;
+        try {
+            record.reset();
+            recordOut.writeLong(0); // Room for the length and CRC-32, which are filled in below.
+            recordOut.writeByte(operation);
+            keyCodec.write(item, recordOut);
+            if (value != null)
+                valueCodec.write(value, recordOut);
+            recordOut.flush();
+
+            byte[] bytes = record.toByteArray();
+            checksum.reset();
+            checksum.update(bytes, RECORD_HEADER, bytes.length - RECORD_HEADER);
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            buffer.putInt(0, bytes.length - RECORD_HEADER);
+            buffer.putInt(4, (int) checksum.getValue());
+
+            start = log.getFilePointer();
+            log.write(bytes);
+            logged++;
+            return ++written;
+        } catch (IOException e) {
+            if (start >= 0) {
+                try {
+                    log.setLength(start);
+                    log.seek(start);
+                } catch (IOException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+            }
+            throw new UncheckedIOException("Error while executing Append(byte, K, V) in DurablePriorityQueue for item \"" + item + "\": " + e.getMessage(), e);
+        }
+    }
+
+    /** Commit waits, if the FsyncPolicy is ALWAYS, until the passed-in record has been forced
+     *  to disk. It is called after the operation is applied and the lock is released, so that
+     *  the records of other threads can be written meanwhile and share the same flush.
+     *
+     * @param number The number of the record, as returned by Append.
+     * @param item The item the operation applied to, for the error message.
+     * @throws UncheckedIOException If the log cannot be forced, in which case the operation has been applied but may not survive a machine failure.
+     */
+    private void Commit(long number, K item) throws UncheckedIOException {
+        if (!fsync.isAlways())
+            return;
+
+        try {
+            Force(number);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error while executing Commit(long, K) in DurablePriorityQueue for item \"" + item + "\": " + e.getMessage(), e);
+        }
+    }
+
+    /** Force forces the log to disk until at least the passed-in number of records are durable.
+     *  Only one thread forces the log at a time; the others wait for it, and most find that its
+     *  flush already covered their records. A flush that fails is remembered in flushFailure,
+     *  so that every later operation fails rather than logging after a record that may be lost.
+     *
+     * @param target The number of records that must be durable.
+     * @throws IOException If the log cannot be forced.
+     */
+    private void Force(long target) throws IOException {
+        if (durable >= target)
+            return;
+
+        synchronized (forceLock) {
+            if (durable >= target)
+                return; // The flush this thread waited for covered its record too.
+
+            RandomAccessFile current;
+            long upTo;
+            synchronized (this) {
+                current = log;
+                upTo = written;
+            }
+            try {
+                current.getFD().sync();
+            } catch (IOException e) {
+                synchronized (this) {
+                    if (current == log && !closed) {
+                        flushFailure = e;
+                        throw e;
+                    }
+                }
+                // The log was rotated or closed meanwhile, both of which force it first.
+            }
+            durable = upTo;
+        }
+    }
+
+    /** SnapshotIfDue takes a snapshot once enough records have been logged since the last one.
+     *  The operation that triggers it has already been logged and applied, so a failed snapshot
+     *  does not fail it: the error is kept for lastSnapshotFailure, logged is left as it is, and
+     *  the snapshot is tried again after another snapshotThreshold records.
+     */
+    private void SnapshotIfDue() {
+        if (logged < snapshotDue)
+            return;
+
+        try {
+            snapshot();
+        } catch (IOException e) {
+            snapshotFailure = e;
+            snapshotDue = logged + snapshotThreshold;
+        }
+    }
+
+    /** Insert adds a new item to the DurablePriorityQueue with the given priority value,
+     *  or changes the priority value of the item if it is already in the queue.
+     *
+     * @param item The item to add to the DurablePriorityQueue.
+     * @param value The priority value to set for the item.
+     * @throws IllegalArgumentException If the item or value parameter is null.
+     * @throws UncheckedIOException If the operation cannot be logged.
+     */
+    public void Insert(K item, V value) throws IllegalArgumentException, UncheckedIOException {
+        // First check that the item and value parameters are not null.
+        if (item == null)
+            throw new IllegalArgumentException("Error while executing Insert(K, V) in DurablePriorityQueue: The item parameter is null!");
+        else if (value == null)
+            throw new IllegalArgumentException("Error while executing Insert(K, V) in DurablePriorityQueue for item \"" + item + "\": The value parameter is null!");
+
+        long number;
+        synchronized (this) {
+            number = Append(INSERT, item, value);
+            queue.Insert(item, value);
+            SnapshotIfDue();
+        }
+        Commit(number, item);
+    }
+
+    /** ChangeKey changes the priority value of the given item, and then
+     *  readjusts its position in the DurablePriorityQueue as appropriate.
+     *
+     * @param item The item whose priority value we wish to modify.
+     * @param newValue The item's new priority value.
+     * @throws IllegalArgumentException If the item or newValue parameter is null.
+     * @throws IllegalStateException If the queue is empty.
+     * @throws NullPointerException If the item does not exist in the DurablePriorityQueue.
+     * @throws UncheckedIOException If the operation cannot be logged.
+     */
+    public void ChangeKey(K item, V newValue) throws IllegalArgumentException, IllegalStateException, NullPointerException, UncheckedIOException {
+        if (item == null)
+            throw new IllegalArgumentException("Error while executing ChangeKey(K, V) in DurablePriorityQueue: The item parameter is null!");
+        else if (newValue == null)
+            throw new IllegalArgumentException("Error while executing ChangeKey(K, V) in DurablePriorityQueue for item \"" + item + "\": The newValue parameter is null!");
+
+        long number;
+        synchronized (this) {
+            if (queue.isEmpty())
+                throw new IllegalStateException("Error while executing ChangeKey(K, V) in DurablePriorityQueue for item \"" + item + "\", newValue \"" + newValue + "\": The queue is empty!");
+            else if (!queue.contains(item))
+                throw new NullPointerException("Error while executing ChangeKey(K, V) in DurablePriorityQueue for item \"" + item + "\", newValue \"" + newValue + "\": The item does not exist!");
+
+            number = Append(CHANGE_KEY, item, newValue);
+            queue.ChangeKey(item, newValue);
+            SnapshotIfDue();
+        }
+        Commit(number, item);
+    }
+
+    /** Delete removes the given item from the DurablePriorityQueue.
+     *
+     * @param item The item to remove from the queue.
+     * @throws IllegalArgumentException If the item parameter is null.
+     * @throws IllegalStateException If the DurablePriorityQueue is empty.
+     * @throws NullPointerException If the item does not exist in the DurablePriorityQueue.
+     * @throws UncheckedIOException If the operation cannot be logged.
+     */
+    public void Delete(K item) throws IllegalArgumentException, IllegalStateException, NullPointerException, UncheckedIOException {
+        if (item == null)
+            throw new IllegalArgumentException("Error while executing Delete(K) in DurablePriorityQueue: The item parameter is null!");
+
+        long number;
+        synchronized (this) {
+            if (queue.isEmpty())
+                throw new IllegalStateException("Error while executing Delete(K) in DurablePriorityQueue for item \"" + item + "\": The DurablePriorityQueue is empty!");
+            else if (!queue.contains(item))
+                throw new NullPointerException("Error while executing Delete(K) in DurablePriorityQueue for item \"" + item + "\": The item does not exist!");
+
+            number = Append(DELETE, item, null);
+            queue.Delete(item);
+            SnapshotIfDue();
+        }
+        Commit(number, item);
+    }
+
+    /** ExtractMin removes the first entry with the smallest priority value,
+     *  then smallest entry based on natural ordering, from the DurablePriorityQueue.
+     *
+     * @return The first entry in the DurablePriorityQueue, or null if the DurablePriorityQueue is empty.
+     * @throws UncheckedIOException If the operation cannot be logged.
+     */
+    public K ExtractMin() throws UncheckedIOException {
+        K item;
+        long number;
+        synchronized (this) {
+            item = queue.FindMin();
+            if (item == null)
+                return null;
+
+            number = Append(EXTRACT_MIN, item, null);
+            queue.ExtractMin();
+            SnapshotIfDue();
+        }
+        Commit(number, item);
+        return item;
+    }
+
+    /** FindMin returns the item with the minimum value, then natural ordering,
+     *  in this DurablePriorityQueue, but does not remove it from the queue.
+     *
+     * @return The lowest-priority value, then item, stored in this queue, or null if the queue is empty.
+     */
+    public synchronized K FindMin() {
+        return queue.FindMin();
+    }
+
+    /** contains checks whether the given item is in this DurablePriorityQueue.
+     *
+     * @param item The item to look for.
+     * @return True if the item is in the queue.
+     * @throws IllegalArgumentException If the item parameter is null.
+     */
+    public synchronized boolean contains(K item) throws IllegalArgumentException {
+        return queue.contains(item);
+    }
+
+    /** size returns the number of items in this DurablePriorityQueue.
+     *
+     * @return The number of items in the queue.
+     */
+    public synchronized int size() {
+        return queue.size();
+    }
+
+    /** isEmpty checks whether this DurablePriorityQueue is empty.
+     *
+     * @return True if this DurablePriorityQueue is empty.
+     */
+    public synchronized boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    /** lastSnapshotFailure returns the error of the last snapshot taken automatically, once
+     *  snapshotThreshold records were logged, if it failed. Such a failure does not fail the
+     *  operation that triggered it, since that operation is already logged, so this is where
+     *  it is reported; the snapshot is tried again later.
+     *
+     * @return The error of the last automatic snapshot, or null if it succeeded or none has been taken.
+     */
+    public synchronized IOException lastSnapshotFailure() {
+        return snapshotFailure;
+    }
+
+    /** snapshot writes every item in the queue to a new snapshot, in heap array order, and
+     *  deletes the logs it covers. A new log is started first, unless the current one is still
+     *  empty, so the snapshot covers exactly the logs before the current one. The snapshot is
+     *  written to a temporary file and forced to disk before it replaces the old one, so a crash
+     *  leaves either the old or the new snapshot.
+     *
+     * @throws IOException If the snapshot cannot be written.
+     */
+    public synchronized void snapshot() throws IOException {
+        if (log.length() > 0) {
+            Path path = LogPath(generation + 1);
+            RandomAccessFile next = CreateLog(path);
+            try {
+                log.getFD().sync();
+            } catch (IOException e) {
+                try {
+                    next.close();
+                    Files.delete(path); // So that a retry does not find it already there.
+                } catch (IOException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+                throw e;
+            }
+            RandomAccessFile previous = log;
+            log = next;
+            generation++;
+            previous.close();
+            ForceDirectory();
+        }
+
+        Path temp = directory.resolve(SNAPSHOT_TEMP);
+        CRC32 crc = new CRC32();
+        try (FileOutputStream file = new FileOutputStream(temp.toFile())) {
+            DataOutputStream out = new DataOutputStream(new CheckedOutputStream(new BufferedOutputStream(file), crc));
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeLong(generation);
+            out.writeInt(queue.size());
+            queue.queue.forEach((item, value) -> {
+                try {
+                    keyCodec.write(item, out);
+                    valueCodec.write(value, out);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            out.writeLong(crc.getValue());
+            out.flush();
+            file.getFD().sync();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        Files.move(temp, directory.resolve(SNAPSHOT), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        ForceDirectory();
+
+        for (long g : Logs())
+            if (g < generation)
+                Files.delete(LogPath(g));
+        logged = 0;
+        snapshotDue = snapshotThreshold;
+        snapshotFailure = null;
+    }
+
+    /** ForceDirectory forces the directory entries to disk, so that created, renamed and
+     *  deleted files survive a machine failure. Some platforms cannot open a directory,
+     *  in which case the operating system's own ordering is relied on instead.
+     */
+    private void ForceDirectory() {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // The platform cannot force a directory.
+        }
+    }
+
+    /** sync forces every operation logged so far to disk, whatever the FsyncPolicy.
+     *
+     * @throws IOException If the log cannot be forced.
+     */
+    public void sync() throws IOException {
+        long target;
+        synchronized (this) {
+            target = written;
+        }
+        Force(target); // Outside the lock, so that operations can continue to be logged meanwhile.
+    }
+
+    /** Flush forces the log to disk for an interval FsyncPolicy. Force remembers any failure,
+     *  so that the next operation reports it.
+     */
+    private void Flush() {
+        try {
+            sync();
+        } catch (IOException e) {
+            // Force has kept the error in flushFailure.
+        }
+    }
+
+    /** close stops the background flusher, letting a flush in progress finish, then forces the
+     *  log to disk and closes it. The queue must not be used after it is closed.
+     *
+     * @throws IOException If the log cannot be forced or closed.
+     */
+    @Override
+    public void close() throws IOException {
+        if (flusher != null) {
+            flusher.shutdown();
+            try {
+                // Not under the lock, since a flush in progress needs it to finish.
+                flusher.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (this) {
+            if (!closed) {
+                log.getFD().sync();
+                closed = true;
+                log.close();
+            }
+        }
+    }
+}
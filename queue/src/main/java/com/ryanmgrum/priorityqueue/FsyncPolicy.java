@@ -0,0 +1,76 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue;
+
+import java.util.concurrent.TimeUnit;
+
+/** The FsyncPolicy class decides when a DurablePriorityQueue forces its write-ahead log to disk,
+ *  trading durability against throughput. Every operation is written to the operating system
+ *  before it returns, so a crash of the process alone never loses an operation; the policy
+ *  only decides how much can be lost if the machine itself fails.
+ */
+public class FsyncPolicy {
+    /** ALWAYS forces the log to disk before every operation returns, so no completed operation
+     *  is ever lost. Threads that log operations at the same time wait for one shared flush,
+     *  which one of them performs, so a lone thread pays one disk flush per operation.
+     */
+    public static final FsyncPolicy ALWAYS = new FsyncPolicy(0);
+
+    /** NEVER leaves flushing the log to the operating system, so a machine failure may lose
+     *  any number of recent operations, but operations never wait for the disk.
+     */
+    public static final FsyncPolicy NEVER = new FsyncPolicy(-1);
+
+    private final long intervalNanos; // The time between flushes in nanoseconds, 0 to flush every operation, or -1 to never flush.
+
+    /** Constructor that creates a new FsyncPolicy with the passed-in flush interval.
+     *
+     * @param newIntervalNanos The time between flushes in nanoseconds, 0 to flush every operation, or -1 to never flush.
+     */
+    private FsyncPolicy(long newIntervalNanos) {
+        intervalNanos = newIntervalNanos;
+    }
+
+    /** interval returns an FsyncPolicy which forces the log to disk in the background once
+     *  per interval, without making any operation wait for it. Every operation logged during an interval shares the
+     *  same flush, and a machine failure loses at most the last interval of operations.
+     *
+     * @param interval The time between flushes, in units of unit.
+     * @param unit The unit of the interval parameter.
+     * @return The interval FsyncPolicy.
+     * @throws IllegalArgumentException If interval is not positive, or unit is null.
+     */
+    public static FsyncPolicy interval(long interval, TimeUnit unit) throws IllegalArgumentException {
+        if (unit == null)
+            throw new IllegalArgumentException("Error while executing interval(long, TimeUnit) in FsyncPolicy: The unit parameter is null!");
+        else if (interval <= 0)
+            throw new IllegalArgumentException("Error while executing interval(long, TimeUnit) in FsyncPolicy: The interval parameter (" + interval + ") is not positive!");
+
+        return new FsyncPolicy(unit.toNanos(interval));
+    }
+
+    /** isAlways checks whether this FsyncPolicy forces the log after every operation.
+     *
+     * @return True if this is the ALWAYS policy.
+     */
+    boolean isAlways() {
+        return intervalNanos == 0;
+    }
+
+    /** intervalNanos returns the time between background flushes.
+     *
+     * @return The interval in nanoseconds, or 0 if the log is not flushed in the background.
+     */
+    long intervalNanos() {
+        return Math.max(intervalNanos, 0);
+    }
+
+    @Override
+    public String toString() {
+        return intervalNanos == 0 ? "FsyncPolicy.ALWAYS" : intervalNanos < 0 ? "FsyncPolicy.NEVER" : "FsyncPolicy.interval(" + intervalNanos + "ns)";
+    }
+}
@@ -0,0 +1,97 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue;
+
+/** The GrowthPolicy class decides how a BinaryMinHeap's backing array changes size.
+ *  A bounded policy never resizes the array, so Insert rejects items once the heap is full.
+ *  An unbounded policy grows the array by a constant factor when it fills up, and
+ *  shrinks it again once enough items have been removed. The gap between the grow and
+ *  shrink points keeps a heap that hovers around one size from resizing back and forth.
+ */
+public class GrowthPolicy {
+    /** BOUNDED keeps the heap at the capacity it was created with. */
+    public static final GrowthPolicy BOUNDED = new GrowthPolicy();
+
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 9; // The largest capacity whose backing array (capacity + 1 elements) the JVM can allocate.
+
+    private final boolean bounded; // Whether the heap keeps its initial capacity.
+    private final double growthFactor; // The factor the capacity is multiplied by when the heap is full.
+    private final double shrinkThreshold; // The fraction of the capacity the size must drop to before the heap shrinks.
+
+    /** Constructor that creates the bounded GrowthPolicy. */
+    private GrowthPolicy() {
+        bounded = true;
+        growthFactor = 1;
+        shrinkThreshold = 0;
+    }
+
+    /** Constructor that creates an unbounded GrowthPolicy with the passed-in growth factor and shrink threshold.
+     *
+     * @param newGrowthFactor The factor to multiply the capacity by when the heap is full.
+     * @param newShrinkThreshold The fraction of the capacity the size must drop to before the
+     *  heap shrinks, or 0 to never shrink. When the heap shrinks, it shrinks to twice this fraction
+     *  of its old capacity, so it must both grow and shrink by a factor of two before resizing again.
+     * @throws IllegalArgumentException If newGrowthFactor is not greater than 1, or
+     *  newShrinkThreshold is not between 0 (inclusive) and 1/2 (exclusive).
+     */
+    public GrowthPolicy(double newGrowthFactor, double newShrinkThreshold) throws IllegalArgumentException {
+        if (!(newGrowthFactor > 1))
+            throw new IllegalArgumentException("Error while creating GrowthPolicy: newGrowthFactor parameter (" + newGrowthFactor + ") is not greater than 1!");
+        else if (!(newShrinkThreshold >= 0 && newShrinkThreshold < 0.5))
+            throw new IllegalArgumentException("Error while creating GrowthPolicy: newShrinkThreshold parameter (" + newShrinkThreshold + ") is not in [0, 0.5)!");
+
+        bounded = false;
+        growthFactor = newGrowthFactor;
+        shrinkThreshold = newShrinkThreshold;
+    }
+
+    /** unbounded returns a GrowthPolicy that doubles the capacity when the heap is full
+     *  and halves it once the heap is a quarter full.
+     *
+     * @return The default unbounded GrowthPolicy.
+     */
+    public static GrowthPolicy unbounded() {
+        return new GrowthPolicy(2, 0.25);
+    }
+
+    /** isBounded checks whether this GrowthPolicy keeps the heap at a fixed capacity.
+     *
+     * @return True if heaps using this policy never grow on their own.
+     */
+    public boolean isBounded() {
+        return bounded;
+    }
+
+    /** grow returns the capacity to grow a heap to so that it can hold at least required items.
+     *
+     * @param capacity The heap's current capacity.
+     * @param required The number of items the heap must be able to hold.
+     * @return The new capacity, which is at least required.
+     * @throws OutOfMemoryError If required exceeds the largest capacity an array can have.
+     */
+    int grow(int capacity, int required) throws OutOfMemoryError {
+        if (required < 0 || required > MAX_CAPACITY)
+            throw new OutOfMemoryError("Error while executing grow(int, int) in GrowthPolicy: The required capacity (" + Integer.toUnsignedString(required) + ") exceeds the maximum array size!");
+
+        long grown = Math.max((long) (capacity * growthFactor), capacity + 1L);
+        return (int) Math.min(Math.max(grown, required), MAX_CAPACITY);
+    }
+
+    /** shrink returns the capacity to shrink a heap to after an item was removed from it.
+     *
+     * @param capacity The heap's current capacity.
+     * @param size The number of items in the heap.
+     * @param minimum The capacity the heap should never shrink below.
+     * @return The new capacity, or capacity if the heap should not shrink.
+     */
+    int shrink(int capacity, int size, int minimum) {
+        if (bounded || shrinkThreshold == 0 || capacity <= minimum || size > capacity * shrinkThreshold)
+            return capacity;
+
+        return (int) Math.max(minimum, Math.max(size, (long) (capacity * 2 * shrinkThreshold)));
+    }
+}
@@ -0,0 +1,79 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue;
+
+/** The HeapLayout interface decides where the nodes of a heap tree are stored in the heap array.
+ *  Every node has up to arity() children, which are stored next to each other starting
+ *  at firstChild(index). A wider layout makes the tree shallower, so Heapify_Up and
+ *  Heapify_Down visit fewer levels, at the cost of comparing more children per level
+ *  on the way down.
+ */
+public interface HeapLayout {
+    /** BINARY is the classic binary heap layout, with the root at index 1 and the
+     *  children of index i at 2i and 2i + 1.
+     */
+    HeapLayout BINARY = dAry(2);
+
+    /** MAX_ARITY is the widest layout allowed. Past a cache line's worth of children, a wider
+     *  node only adds comparisons, and bounding the arity keeps the root's index, which grows
+     *  with the arity in a cache-aligned layout, from crowding out the heap array.
+     */
+    int MAX_ARITY = 64;
+
+    /** dAry returns the layout of a d-ary heap with its root at index 1.
+     *
+     * @param arity The number of children of each node.
+     * @return The d-ary layout.
+     * @throws IllegalArgumentException If the arity parameter is less than 2 or more than MAX_ARITY.
+     */
+    static HeapLayout dAry(int arity) throws IllegalArgumentException {
+        return new DAryLayout(arity, 0);
+    }
+
+    /** cacheAligned returns the layout of a d-ary heap with index-aligned sibling groups: the
+     *  heap is shifted so that each group of siblings starts at an array index that is a multiple
+     *  of the arity. Whether a group also fills a single cache line depends on where the JVM
+     *  places the array's first element after its header, which no layout can control. When the
+     *  arity is the number of references in a cache line and the elements happen to start on a
+     *  line boundary, each Heapify_Down level reads the children from one cache line, rather
+     *  than from two.
+     *
+     * @param arity The number of children of each node.
+     * @return The aligned d-ary layout.
+     * @throws IllegalArgumentException If the arity parameter is less than 2 or more than MAX_ARITY.
+     */
+    static HeapLayout cacheAligned(int arity) throws IllegalArgumentException {
+        return new DAryLayout(arity, arity - 2);
+    }
+
+    /** arity returns the maximum number of children of each node.
+     *
+     * @return The number of children of a full node.
+     */
+    int arity();
+
+    /** root returns the array index of the root node. Indices below the root are never used.
+     *
+     * @return The index of the root.
+     */
+    int root();
+
+    /** parent returns the array index of the parent of the node at the passed-in index.
+     *
+     * @param index The index of a node other than the root.
+     * @return The index of the node's parent.
+     */
+    int parent(int index);
+
+    /** firstChild returns the array index of the first child of the node at the passed-in index.
+     *  The node's other children follow it, up to arity() children in all.
+     *
+     * @param index The index of a node.
+     * @return The index of the node's first child, which may be past the end of the heap.
+     */
+    int firstChild(int index);
+}
@@ -0,0 +1,334 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import jdk.jfr.FlightRecorder;
+
+/** The HeapMetrics class records what a BinaryMinHeap spends its time on: how often each
+ *  operation is called and how long it takes, how much work each sift does, how large the heap
+ *  has grown and how often a bounded heap was too full to take new items. It is attached to
+ *  a heap with PriorityQueue.enableMetrics(), and can be exported through JMX and Java Flight
+ *  Recorder with register(String).
+ *
+ *  Instrumentation is compiled in only when the system property
+ *  "com.ryanmgrum.priorityqueue.metrics" is set to true at startup. Otherwise ENABLED is a
+ *  false constant, the JIT compiler removes every recording branch, and the heaps run exactly
+ *  as if they were never instrumented.
+ *
+ *  Latencies are kept in histograms with one bucket per power of two nanoseconds, so a
+ *  percentile is reported as the upper bound of its bucket, at most twice the true value.
+ */
+public class HeapMetrics implements HeapMetricsMXBean {
+    /** ENABLED is whether heaps record metrics at all, read once from the system property
+     *  "com.ryanmgrum.priorityqueue.metrics".
+     */
+    public static final boolean ENABLED = Boolean.getBoolean("com.ryanmgrum.priorityqueue.metrics");
+
+    /** The Operation enum lists the heap operations whose calls and latencies are recorded. */
+    public enum Operation { INSERT, EXTRACT_MIN, CHANGE_KEY, DELETE }
+
+    private static final int BUCKETS = 64; // The number of latency histogram buckets, one per bit of a long.
+    private static final Map<String, HeapMetrics> REGISTERED = new ConcurrentHashMap<>(); // The HeapMetrics reported to JFR, by name.
+    private static boolean eventHooked = false; // Whether the periodic HeapMetricsEvent hook was added to FlightRecorder.
+
+    private final LongAdder[] operations = new LongAdder[Operation.values().length]; // The number of calls of each Operation.
+    private final AtomicLongArray[] latencies = new AtomicLongArray[Operation.values().length]; // The latency histogram of each Operation, where bucket b counts latencies below 2^b nanoseconds.
+    private final LongAdder sifts = new LongAdder(); // The number of times a node was shifted up or down.
+    private final LongAdder comparisons = new LongAdder(); // The number of node comparisons made while sifting.
+    private final LongAdder moves = new LongAdder(); // The number of nodes moved while sifting.
+    private final LongAdder fullRejections = new LongAdder(); // The number of Insert, InsertAll and meld calls rejected by a full bounded heap.
+    private volatile int highWaterSize; // The largest size the heap has reached.
+    private ObjectName name; // The name this HeapMetrics is registered under, or null if it is not registered.
+
+    /** Constructor that creates a new HeapMetrics with every counter at zero. */
+    HeapMetrics() {
+        for (int i = 0; i < operations.length; i++) {
+            operations[i] = new LongAdder();
+            latencies[i] = new AtomicLongArray(BUCKETS);
+        }
+    }
+
+    /** recordOperation counts one call of the passed-in operation, records its latency,
+     *  and updates the high-water size.
+     *
+     * @param operation The operation that finished.
+     * @param start The time the operation started, from System.nanoTime.
+     * @param size The size of the heap after the operation.
+     */
+    void recordOperation(Operation operation, long start, int size) {
+        long elapsed = Math.max(System.nanoTime() - start, 0);
+        operations[operation.ordinal()].increment();
+        latencies[operation.ordinal()].incrementAndGet(64 - Long.numberOfLeadingZeros(elapsed));
+        recordSize(size);
+    }
+
+    /** recordBatch counts a batch call, such as InsertAll, as count calls of the passed-in
+     *  operation. Its latency is not recorded, since it would not be the latency of a single call.
+     *
+     * @param operation The operation the batch performed.
+     * @param count The number of items in the batch.
+     * @param size The size of the heap after the batch.
+     */
+    void recordBatch(Operation operation, int count, int size) {
+        operations[operation.ordinal()].add(count);
+        recordSize(size);
+    }
+
+    /** recordSize raises the high-water size to the passed-in size if it is larger.
+     *
+     * @param size The current size of the heap.
+     */
+    private void recordSize(int size) {
+        if (size > highWaterSize)
+            highWaterSize = size;
+    }
+
+    /** recordSift counts one sift and the work it did.
+     *
+     * @param siftComparisons The number of node comparisons the sift made.
+     * @param siftMoves The number of nodes the sift moved.
+     */
+    void recordSift(int siftComparisons, int siftMoves) {
+        sifts.increment();
+        comparisons.add(siftComparisons);
+        moves.add(siftMoves);
+    }
+
+    /** recordFullRejection counts one Insert, InsertAll or meld call rejected because the
+     *  bounded heap was full. A rejected batch counts once, however many items it held.
+     */
+    void recordFullRejection() {
+        fullRejections.increment();
+    }
+
+    /** getOperations returns the number of calls of the passed-in operation.
+     *
+     * @param operation The operation to count.
+     * @return The number of calls recorded.
+     */
+    public long getOperations(Operation operation) {
+        return operations[operation.ordinal()].sum();
+    }
+
+    @Override
+    public Map<String, Long> getOperations() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (Operation operation : Operation.values())
+            result.put(operation.name(), getOperations(operation));
+        return result;
+    }
+
+    /** getLatencyHistogram returns the latency histogram of the passed-in operation. Bucket 0
+     *  counts calls that took no measurable time, and bucket b counts calls that took at
+     *  least 2^(b-1) and less than 2^b nanoseconds.
+     *
+     * @param operation The operation whose histogram we wish to read.
+     * @return A copy of the histogram buckets.
+     */
+    public long[] getLatencyHistogram(Operation operation) {
+        AtomicLongArray histogram = latencies[operation.ordinal()];
+        long[] result = new long[BUCKETS];
+        for (int b = 0; b < BUCKETS; b++)
+            result[b] = histogram.get(b);
+        return result;
+    }
+
+    /** getLatencyPercentile returns an upper bound on the passed-in percentile of the latency
+     *  of the passed-in operation.
+     *
+     * @param operation The operation whose latency we wish to read.
+     * @param percentile The percentile, between 0 and 100.
+     * @return The upper bound of the bucket holding the percentile, in nanoseconds, or 0 if no call was recorded.
+     * @throws IllegalArgumentException If the percentile is not between 0 and 100.
+     */
+    public long getLatencyPercentile(Operation operation, double percentile) throws IllegalArgumentException {
+        if (!(percentile >= 0 && percentile <= 100))
+            throw new IllegalArgumentException("Error while executing getLatencyPercentile(Operation, double) in HeapMetrics: The percentile parameter (" + percentile + ") is not between 0 and 100!");
+
+        long[] histogram = getLatencyHistogram(operation);
+        long total = 0;
+        for (long count : histogram)
+            total += count;
+        if (total == 0)
+            return 0;
+
+        long rank = (long) Math.ceil(percentile / 100 * total); // The number of calls at or below the percentile.
+        long seen = 0;
+        for (int b = 0; b < BUCKETS; b++) {
+            seen += histogram[b];
+            if (seen >= rank && seen > 0)
+                return b == 0 ? 0 : b == BUCKETS - 1 ? Long.MAX_VALUE : (1L << b) - 1;
+        }
+        return Long.MAX_VALUE;
+    }
+
+    /** percentiles returns the passed-in percentile of every operation, by operation name.
+     *
+     * @param percentile The percentile, between 0 and 100.
+     * @return The upper bound of each operation's bucket holding the percentile, in nanoseconds.
+     */
+    private Map<String, Long> percentiles(double percentile) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (Operation operation : Operation.values())
+            result.put(operation.name(), getLatencyPercentile(operation, percentile));
+        return result;
+    }
+
+    @Override
+    public Map<String, Long> getLatencyP50Nanos() {
+        return percentiles(50);
+    }
+
+    @Override
+    public Map<String, Long> getLatencyP99Nanos() {
+        return percentiles(99);
+    }
+
+    @Override
+    public long getSifts() {
+        return sifts.sum();
+    }
+
+    /** getComparisons returns the number of node comparisons made while sifting.
+     *
+     * @return The number of comparisons recorded.
+     */
+    public long getComparisons() {
+        return comparisons.sum();
+    }
+
+    /** getMoves returns the number of nodes moved while sifting.
+     *
+     * @return The number of moves recorded.
+     */
+    public long getMoves() {
+        return moves.sum();
+    }
+
+    @Override
+    public double getComparisonsPerSift() {
+        long count = getSifts();
+        return count == 0 ? 0 : (double) getComparisons() / count;
+    }
+
+    @Override
+    public double getMovesPerSift() {
+        long count = getSifts();
+        return count == 0 ? 0 : (double) getMoves() / count;
+    }
+
+    @Override
+    public int getHighWaterSize() {
+        return highWaterSize;
+    }
+
+    @Override
+    public long getFullRejections() {
+        return fullRejections.sum();
+    }
+
+    /** reset sets every counter and histogram back to zero. Counts recorded while reset runs may be lost. */
+    @Override
+    public void reset() {
+        for (int i = 0; i < operations.length; i++) {
+            operations[i].reset();
+            for (int b = 0; b < BUCKETS; b++)
+                latencies[i].set(b, 0);
+        }
+        sifts.reset();
+        comparisons.reset();
+        moves.reset();
+        fullRejections.reset();
+        highWaterSize = 0;
+    }
+
+    /** register exports this HeapMetrics under the passed-in name, as the JMX MXBean
+     *  "com.ryanmgrum.priorityqueue:type=HeapMetrics,name=<name>" of the platform MBean server,
+     *  and as a periodic HeapMetricsEvent in Java Flight Recorder recordings.
+     *
+     * @param newName The name to register this HeapMetrics under, which must be unique.
+     * @throws IllegalArgumentException If the newName parameter is null.
+     * @throws IllegalStateException If this HeapMetrics is already registered, or the name is taken.
+     */
+    public synchronized void register(String newName) throws IllegalArgumentException, IllegalStateException {
+        if (newName == null)
+            throw new IllegalArgumentException("Error while executing register(String) in HeapMetrics: The newName parameter is null!");
+        else if (name != null)
+            throw new IllegalStateException("Error while executing register(String) in HeapMetrics for name \"" + newName + "\": This HeapMetrics is already registered as \"" + name + "\"!");
+
+        try {
+            ObjectName objectName = new ObjectName("com.ryanmgrum.priorityqueue:type=HeapMetrics,name=" + ObjectName.quote(newName));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+            name = objectName;
+        } catch (JMException e) {
+            throw new IllegalStateException("Error while executing register(String) in HeapMetrics for name \"" + newName + "\": " + e.getMessage(), e);
+        }
+        REGISTERED.put(newName, this);
+        HookEvent();
+    }
+
+    /** unregister removes this HeapMetrics from JMX and Java Flight Recorder. It does nothing
+     *  if this HeapMetrics is not registered.
+     */
+    public synchronized void unregister() {
+        if (name == null)
+            return;
+
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+        } catch (JMException e) {
+            // Someone else already unregistered the MXBean, which is what we wanted anyway.
+        }
+        REGISTERED.remove(ObjectName.unquote(name.getKeyProperty("name")), this);
+        name = null;
+    }
+
+    /** HookEvent adds the hook that emits a HeapMetricsEvent for every registered HeapMetrics,
+     *  the first time any HeapMetrics is registered.
+     */
+    private static synchronized void HookEvent() {
+        if (eventHooked)
+            return;
+
+        FlightRecorder.addPeriodicEvent(HeapMetricsEvent.class, () -> {
+            for (Map.Entry<String, HeapMetrics> entry : REGISTERED.entrySet()) {
+                HeapMetrics metrics = entry.getValue();
+                HeapMetricsEvent event = new HeapMetricsEvent();
+                event.name = entry.getKey();
+                event.inserts = metrics.getOperations(Operation.INSERT);
+                event.extractMins = metrics.getOperations(Operation.EXTRACT_MIN);
+                event.changeKeys = metrics.getOperations(Operation.CHANGE_KEY);
+                event.deletes = metrics.getOperations(Operation.DELETE);
+                event.insertP99 = metrics.getLatencyPercentile(Operation.INSERT, 99);
+                event.extractMinP99 = metrics.getLatencyPercentile(Operation.EXTRACT_MIN, 99);
+                event.comparisonsPerSift = metrics.getComparisonsPerSift();
+                event.movesPerSift = metrics.getMovesPerSift();
+                event.highWaterSize = metrics.getHighWaterSize();
+                event.fullRejections = metrics.getFullRejections();
+                event.commit();
+            }
+        });
+        eventHooked = true;
+    }
+
+    @Override
+    public String toString() {
+        return "HeapMetrics[operations=" + getOperations() + ", p99Nanos=" + getLatencyP99Nanos()
+                + ", comparisonsPerSift=" + getComparisonsPerSift() + ", movesPerSift=" + getMovesPerSift()
+                + ", highWaterSize=" + getHighWaterSize() + ", fullRejections=" + getFullRejections() + "]";
+    }
+}
@@ -0,0 +1,62 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/** The HeapMetricsEvent class is the Java Flight Recorder event that reports a snapshot of
+ *  every registered HeapMetrics once per period. It is only emitted while a recording has the
+ *  event enabled, so it costs nothing otherwise.
+ */
+@Name("com.ryanmgrum.priorityqueue.HeapMetrics")
+@Label("Heap Metrics")
+@Category("PriorityQueue")
+@Description("Operation counts, latencies and sift work of a registered heap")
+@Period("1 s")
+@StackTrace(false)
+class HeapMetricsEvent extends jdk.jfr.Event {
+    @Label("Name")
+    String name; // The name the HeapMetrics was registered under.
+
+    @Label("Inserts")
+    long inserts; // The number of Insert calls.
+
+    @Label("ExtractMins")
+    long extractMins; // The number of ExtractMin calls.
+
+    @Label("ChangeKeys")
+    long changeKeys; // The number of ChangeKey calls.
+
+    @Label("Deletes")
+    long deletes; // The number of Delete calls.
+
+    @Label("Insert p99")
+    @Timespan(Timespan.NANOSECONDS)
+    long insertP99; // The 99th percentile Insert latency.
+
+    @Label("ExtractMin p99")
+    @Timespan(Timespan.NANOSECONDS)
+    long extractMinP99; // The 99th percentile ExtractMin latency.
+
+    @Label("Comparisons per Sift")
+    double comparisonsPerSift; // The average number of comparisons per sift.
+
+    @Label("Moves per Sift")
+    double movesPerSift; // The average number of nodes moved per sift.
+
+    @Label("High-Water Size")
+    int highWaterSize; // The largest size the heap has reached.
+
+    @Label("Full Rejections")
+    long fullRejections; // The number of Insert, InsertAll and meld calls rejected because the heap was full.
+}
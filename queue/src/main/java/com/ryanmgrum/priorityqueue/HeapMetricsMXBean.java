@@ -0,0 +1,66 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue;
+
+import java.util.Map;
+
+/** The HeapMetricsMXBean interface is the JMX view of a HeapMetrics. Register a HeapMetrics
+ *  with HeapMetrics.register(String) to browse it in JConsole or any other JMX client.
+ */
+public interface HeapMetricsMXBean {
+    /** getOperations returns the number of calls of each operation, by operation name.
+     *
+     * @return The number of Insert, ExtractMin, ChangeKey and Delete calls.
+     */
+    Map<String, Long> getOperations();
+
+    /** getLatencyP50Nanos returns the median latency of each operation, by operation name.
+     *
+     * @return The upper bound of the histogram bucket holding the median, in nanoseconds.
+     */
+    Map<String, Long> getLatencyP50Nanos();
+
+    /** getLatencyP99Nanos returns the 99th percentile latency of each operation, by operation name.
+     *
+     * @return The upper bound of the histogram bucket holding the 99th percentile, in nanoseconds.
+     */
+    Map<String, Long> getLatencyP99Nanos();
+
+    /** getSifts returns the number of times a node was shifted up or down the heap.
+     *
+     * @return The number of sifts recorded.
+     */
+    long getSifts();
+
+    /** getComparisonsPerSift returns the average number of node comparisons per sift.
+     *
+     * @return The comparisons per sift, or 0 if no sift was recorded.
+     */
+    double getComparisonsPerSift();
+
+    /** getMovesPerSift returns the average number of nodes moved per sift.
+     *
+     * @return The moves per sift, or 0 if no sift was recorded.
+     */
+    double getMovesPerSift();
+
+    /** getHighWaterSize returns the largest size the heap has reached.
+     *
+     * @return The high-water size.
+     */
+    int getHighWaterSize();
+
+    /** getFullRejections returns the number of Insert, InsertAll and meld calls rejected because
+     *  the bounded heap was full.
+     *
+     * @return The number of full rejections.
+     */
+    long getFullRejections();
+
+    /** reset sets every counter and histogram back to zero. */
+    void reset();
+}
@@ -4,6 +4,8 @@
  * Assignment: 1 (Implement a Heap-Based Priority Queue)
  */
 
+package com.ryanmgrum.priorityqueue;
+
 /** The HeapNode class encapsulates the data inside a Binary Heap node.
  * 
  * @param <K> The key type stored in the HeapNode.
@@ -12,6 +14,7 @@
 public class HeapNode<K extends Comparable<? super K>, V extends Comparable<? super V>> {
     private final K key; // The key stored in this HeapNode.
     private V value; // The priority value stored in this HeapNode.
+    private int index; // The position of this HeapNode in its heap, or 0 if it is not in a heap.
     
     /** Constructor that creates a new HeapNode using the passed-in newKey and newValue.
      * 
@@ -57,6 +60,22 @@ public class HeapNode<K extends Comparable<? super K>, V extends Comparable<? su
         value = newValue;
     }
     
+    /** getIndex returns the position of this HeapNode in its heap.
+     * 
+     * @return The node's index in the heap, or 0 if it is not in a heap.
+     */
+    int getIndex() {
+        return index;
+    }
+    
+    /** setIndex records the position of this HeapNode in its heap.
+     * 
+     * @param newIndex The node's new index in the heap, or 0 if it was removed.
+     */
+    void setIndex(int newIndex) {
+        index = newIndex;
+    }
+    
     /** compareTo compares this HeapNode with the passed-in node and returns
      *  the result of comparing their values then keys.
      * 
@@ -69,11 +88,9 @@ public class HeapNode<K extends Comparable<? super K>, V extends Comparable<? su
         if (node == null)
             throw new IllegalArgumentException("Error while executing compareTo(HeapNode<K, V>) in HeapNode: node parameter is null!");
         
-        // First compare their priority values, and then their keys.
-        if (node.getValue().equals(value))
-            return getKey().compareTo(node.getKey());
-        else
-            return getValue().compareTo(node.getValue());
+        // First compare their priority values, and then their keys only if the values are equal.
+        int comparison = value.compareTo(node.value);
+        return comparison != 0 ? comparison : key.compareTo(node.key);
     }
     
     /** equals compares this HeapNode's key and value with the passed-in node for equality.
@@ -0,0 +1,272 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue;
+
+/** The IntLongPriorityQueue class is a PriorityQueue for int items in the range
+ *  [0, maxItem) with long priority values, such as the vertices of a graph.
+ *  The binary heap is kept in parallel arrays of priorities and items, and each
+ *  item's heap index is stored in an array indexed by the item itself, so no
+ *  lookup structure or per-item object is needed at all.
+ */
+public class IntLongPriorityQueue {
+    private final long[] priorities; // priorities holds the priority value of the node at each heap index.
+    private final int[] items; // items holds the item of the node at each heap index.
+    private final int[] positions; // positions holds the heap index of each item, or 0 if the item is not in the heap.
+    private int size; // The current number of nodes in the heap.
+
+    /** Constructor that creates a new IntLongPriorityQueue for the items 0 to maxItem - 1.
+     *
+     * @param maxItem The number of distinct items, which is also the maximum size of this queue.
+     * @throws IllegalArgumentException If the maxItem parameter is less than zero.
+     */
+    public IntLongPriorityQueue(int maxItem) throws IllegalArgumentException {
+        if (maxItem < 0)
+            throw new IllegalArgumentException("Error while creating IntLongPriorityQueue: maxItem parameter (" + maxItem + ") is less than 0!");
+
+        priorities = new long[maxItem+1]; // +1 since the heap starts at index 1.
+        items = new int[maxItem+1];
+        positions = new int[maxItem];
+        size = 0;
+    }
+
+    /** less checks whether the first priority and item come before the second.
+     *
+     * @param priorityA The first priority value.
+     * @param itemA The first item.
+     * @param priorityB The second priority value.
+     * @param itemB The second item.
+     * @return True if the first priority value, then item, is less than the second.
+     */
+    private static boolean less(long priorityA, int itemA, long priorityB, int itemB) {
+        return priorityA < priorityB || (priorityA == priorityB && itemA < itemB);
+    }
+
+    /** Heapify_Up moves the hole at the passed-in index up the heap, shifting each parent
+     *  that belongs below the given node down into it, and then places the node in the hole.
+     *
+     * @param index The index of the hole to start from.
+     * @param priority The priority value of the node to place.
+     * @param item The item of the node to place.
+     */
+    private void Heapify_Up(int index, long priority, int item) {
+        while (index > 1) {
+            int j = index >>> 1; // j is index's parent.
+            if (!less(priority, item, priorities[j], items[j]))
+                break;
+            priorities[index] = priorities[j];
+            items[index] = items[j];
+            positions[items[j]] = index;
+            index = j;
+        }
+        priorities[index] = priority;
+        items[index] = item;
+        positions[item] = index;
+    }
+
+    /** Heapify_Down moves the hole at the passed-in index down the heap, shifting the smaller
+     *  child up into it while that child belongs above the given node, and then places the node in the hole.
+     *
+     * @param index The index of the hole to start from.
+     * @param priority The priority value of the node to place.
+     * @param item The item of the node to place.
+     */
+    private void Heapify_Down(int index, long priority, int item) {
+        int half = size >>> 1; // Nodes past half have no children.
+        while (index <= half) {
+            int j = 2*index; // j is the smaller of index's children.
+            if (j < size && less(priorities[j+1], items[j+1], priorities[j], items[j]))
+                j++;
+            if (!less(priorities[j], items[j], priority, item))
+                break;
+            priorities[index] = priorities[j];
+            items[index] = items[j];
+            positions[items[j]] = index;
+            index = j;
+        }
+        priorities[index] = priority;
+        items[index] = item;
+        positions[item] = index;
+    }
+
+    /** checkItem verifies that the passed-in item is in the range this queue was created for.
+     *
+     * @param item The item to check.
+     * @param method The name of the calling method, for the error message.
+     * @throws IndexOutOfBoundsException If the item is negative or not less than maxItem.
+     */
+    private void checkItem(int item, String method) throws IndexOutOfBoundsException {
+        if (item < 0 || item >= positions.length)
+            throw new IndexOutOfBoundsException("Error while executing " + method + " in IntLongPriorityQueue for item \"" + item + "\": item out of bounds (maxItem: " + positions.length + ")!");
+    }
+
+    /** Insert adds a new item to the IntLongPriorityQueue with the given priority value,
+     *  or changes the priority value of the item if it is already in the queue.
+     *
+     * @param item The item to add to the IntLongPriorityQueue.
+     * @param value The priority value to set for the item.
+     * @throws IndexOutOfBoundsException If the item is negative or not less than maxItem.
+     */
+    public void Insert(int item, long value) throws IndexOutOfBoundsException {
+        checkItem(item, "Insert(int, long)");
+
+        if (positions[item] != 0) // If the item already exists in the heap, update its value.
+            ChangeKeyAt(positions[item], value);
+        else {
+            size++;
+            Heapify_Up(size, value, item);
+        }
+    }
+
+    /** FindMin returns the item with the minimum value, then smallest item,
+     *  in this IntLongPriorityQueue, but does not remove it from the queue.
+     *
+     * @return The item with the lowest priority value, or -1 if the queue is empty.
+     */
+    public int FindMin() {
+        if (isEmpty())
+            return -1;
+        else
+            return items[1];
+    }
+
+    /** FindMinValue returns the priority value of the item returned by FindMin.
+     *
+     * @return The lowest priority value stored in this queue.
+     * @throws IllegalStateException If the IntLongPriorityQueue is empty.
+     */
+    public long FindMinValue() throws IllegalStateException {
+        if (isEmpty())
+            throw new IllegalStateException("Error while executing FindMinValue() in IntLongPriorityQueue: The IntLongPriorityQueue is empty!");
+
+        return priorities[1];
+    }
+
+    /** DeleteAt removes the entry at the given passed-in index from the heap.
+     *
+     * @param index The index of the node to remove, between 1 and size.
+     */
+    private void DeleteAt(int index) {
+        positions[items[index]] = 0;
+
+        long priority = priorities[size];
+        int item = items[size];
+        size--;
+        if (index <= size) {
+            // The last node may belong above or below index, so shift it in whichever direction applies.
+            if (index > 1 && less(priority, item, priorities[index >>> 1], items[index >>> 1]))
+                Heapify_Up(index, priority, item);
+            else
+                Heapify_Down(index, priority, item);
+        }
+    }
+
+    /** Delete removes the given item from the IntLongPriorityQueue.
+     *
+     * @param item The item to remove from the queue.
+     * @throws IndexOutOfBoundsException If the item is negative or not less than maxItem.
+     * @throws NullPointerException If the item does not exist in the IntLongPriorityQueue.
+     */
+    public void Delete(int item) throws IndexOutOfBoundsException, NullPointerException {
+        checkItem(item, "Delete(int)");
+        if (positions[item] == 0)
+            throw new NullPointerException("Error while executing Delete(int) in IntLongPriorityQueue for item \"" + item + "\": The item does not exist!");
+
+        DeleteAt(positions[item]);
+    }
+
+    /** ExtractMin removes the item with the smallest priority value,
+     *  then smallest item, from the IntLongPriorityQueue.
+     *
+     * @return The first item in the IntLongPriorityQueue, or -1 if the queue is empty.
+     */
+    public int ExtractMin() {
+        if (isEmpty())
+            return -1;
+
+        int result = items[1];
+        DeleteAt(1);
+        return result;
+    }
+
+    /** ChangeKeyAt changes the priority value of the node at the given index,
+     *  and then readjusts its position in the heap as appropriate.
+     *
+     * @param index The index of the node whose priority value we wish to modify.
+     * @param newValue The node's new priority value.
+     */
+    private void ChangeKeyAt(int index, long newValue) {
+        long oldValue = priorities[index];
+        if (newValue < oldValue)
+            Heapify_Up(index, newValue, items[index]);
+        else if (newValue > oldValue)
+            Heapify_Down(index, newValue, items[index]);
+    }
+
+    /** ChangeKey changes the priority value of the given item, and then
+     *  readjusts its position in the IntLongPriorityQueue as appropriate.
+     *
+     * @param item The item whose priority value we wish to modify.
+     * @param newValue The item's new priority value.
+     * @throws IndexOutOfBoundsException If the item is negative or not less than maxItem.
+     * @throws NullPointerException If the item does not exist in the IntLongPriorityQueue.
+     */
+    public void ChangeKey(int item, long newValue) throws IndexOutOfBoundsException, NullPointerException {
+        checkItem(item, "ChangeKey(int, long)");
+        if (positions[item] == 0)
+            throw new NullPointerException("Error while executing ChangeKey(int, long) in IntLongPriorityQueue for item \"" + item + "\", newValue \"" + newValue + "\": The item does not exist!");
+
+        ChangeKeyAt(positions[item], newValue);
+    }
+
+    /** contains checks whether the given item is in this IntLongPriorityQueue.
+     *
+     * @param item The item to look for.
+     * @return True if the item is in the queue.
+     */
+    public boolean contains(int item) {
+        return item >= 0 && item < positions.length && positions[item] != 0;
+    }
+
+    /** getValue returns the priority value of the given item.
+     *
+     * @param item The item whose priority value we wish to read.
+     * @return The item's priority value.
+     * @throws IndexOutOfBoundsException If the item is negative or not less than maxItem.
+     * @throws NullPointerException If the item does not exist in the IntLongPriorityQueue.
+     */
+    public long getValue(int item) throws IndexOutOfBoundsException, NullPointerException {
+        checkItem(item, "getValue(int)");
+        if (positions[item] == 0)
+            throw new NullPointerException("Error while executing getValue(int) in IntLongPriorityQueue for item \"" + item + "\": The item does not exist!");
+
+        return priorities[positions[item]];
+    }
+
+    /** size returns the number of items in this IntLongPriorityQueue.
+     *
+     * @return The number of items in the queue.
+     */
+    public int size() {
+        return size;
+    }
+
+    /** isEmpty checks whether this IntLongPriorityQueue is empty.
+     *
+     * @return True if this IntLongPriorityQueue is empty.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** isFull checks whether every item is in this IntLongPriorityQueue.
+     *
+     * @return True if this IntLongPriorityQueue is full.
+     */
+    public boolean isFull() {
+        return size == positions.length;
+    }
+}
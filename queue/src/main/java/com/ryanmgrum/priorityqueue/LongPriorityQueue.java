@@ -0,0 +1,407 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue;
+
+import java.util.Arrays;
+
+/** The LongPriorityQueue class is a PriorityQueue specialized for long priority values,
+ *  such as timestamps or costs. Instead of an array of HeapNodes, it keeps the binary heap
+ *  in parallel arrays of priorities and items, so comparisons read primitives directly
+ *  and inserting an item allocates no node. Each item is also given a stable int slot,
+ *  which records its position in the heap so that sifting never touches the key index.
+ *
+ * @param <K> The type of item that will be stored in this LongPriorityQueue.
+ */
+public class LongPriorityQueue<K extends Comparable<? super K>> {
+    private long[] priorities; // priorities holds the priority value of the node at each heap index.
+    private Object[] items; // items holds the item of the node at each heap index.
+    private int[] slotAt; // slotAt holds the slot of the node at each heap index.
+    private int[] positions; // positions holds the heap index of the item assigned to each slot.
+    private int[] freeSlots; // freeSlots is a stack of the slots released by removed items.
+    private int freeCount; // The number of slots on the freeSlots stack.
+    private int nextSlot; // The lowest slot that has never been assigned.
+    private SlotIndex<K> Position; // Position maps each item K to its slot.
+    private int size; // The current number of nodes in the heap.
+    private final GrowthPolicy growth; // growth decides when and how far the heap arrays are resized.
+    private final int minimumCapacity; // The capacity the heap was created with, which it never shrinks below.
+
+    /** Constructor that creates a new LongPriorityQueue with a maximum size of passed-in newSize parameter.
+     *
+     * @param newSize The maximum size of this LongPriorityQueue.
+     * @throws IllegalArgumentException If the newSize parameter is less than zero.
+     */
+    public LongPriorityQueue(int newSize) throws IllegalArgumentException {
+        this(newSize, GrowthPolicy.BOUNDED);
+    }
+
+    /** Constructor that creates a new LongPriorityQueue with an initial capacity of passed-in
+     *  newSize parameter, which is resized according to the passed-in GrowthPolicy.
+     *
+     * @param newSize The initial capacity of this LongPriorityQueue, and its maximum size if newGrowth is bounded.
+     * @param newGrowth The policy that decides when the heap arrays grow and shrink.
+     * @throws IllegalArgumentException If the newSize parameter is less than zero, or newGrowth is null.
+     */
+    public LongPriorityQueue(int newSize, GrowthPolicy newGrowth) throws IllegalArgumentException {
+        if (newSize < 0)
+            throw new IllegalArgumentException("Error while creating LongPriorityQueue: newSize parameter (" + newSize + ") is less than 0!");
+        else if (newGrowth == null)
+            throw new IllegalArgumentException("Error while creating LongPriorityQueue: newGrowth parameter is null!");
+
+        growth = newGrowth;
+        minimumCapacity = newSize;
+        StartHeap(newSize);
+    }
+
+    /** StartHeap initializes empty heap arrays of the passed-in size N
+     *  (+1 since the heap starts at index 1).
+     *
+     * @param N The size of the heap.
+     */
+    private void StartHeap(int N) {
+        priorities = new long[N+1];
+        items = new Object[N+1];
+        slotAt = new int[N+1];
+        positions = new int[N];
+        freeSlots = new int[N];
+        freeCount = 0;
+        nextSlot = 0;
+        Position = new SlotIndex<>(N);
+        size = 0;
+    }
+
+    /** less checks whether the first priority and item come before the second,
+     *  comparing the items only when the priorities are equal.
+     *
+     * @param priorityA The first priority value.
+     * @param itemA The first item.
+     * @param priorityB The second priority value.
+     * @param itemB The second item.
+     * @return True if the first priority value, then item, is less than the second.
+     */
+    @SuppressWarnings("unchecked")
+    private static <K extends Comparable<? super K>> boolean less(long priorityA, Object itemA, long priorityB, Object itemB) {
+        return priorityA < priorityB || (priorityA == priorityB && ((K) itemA).compareTo((K) itemB) < 0);
+    }
+
+    /** Place stores the given node at the passed-in heap index and records its new position.
+     *
+     * @param index The heap index to store the node at.
+     * @param priority The node's priority value.
+     * @param item The node's item.
+     * @param slot The node's slot.
+     */
+    private void Place(int index, long priority, Object item, int slot) {
+        priorities[index] = priority;
+        items[index] = item;
+        slotAt[index] = slot;
+        positions[slot] = index;
+    }
+
+    /** Heapify_Up moves the hole at the passed-in index up the heap, shifting each parent
+     *  that belongs below the given node down into it, and then places the node in the hole.
+     *
+     * @param index The index of the hole to start from.
+     * @param priority The priority value of the node to place.
+     * @param item The item of the node to place.
+     * @param slot The slot of the node to place.
+     */
+    private void Heapify_Up(int index, long priority, Object item, int slot) {
+        while (index > 1) {
+            int j = index >>> 1; // j is index's parent.
+            if (!LongPriorityQueue.<K>less(priority, item, priorities[j], items[j]))
+                break;
+            Place(index, priorities[j], items[j], slotAt[j]);
+            index = j;
+        }
+        Place(index, priority, item, slot);
+    }
+
+    /** Heapify_Down moves the hole at the passed-in index down the heap, shifting the smaller
+     *  child up into it while that child belongs above the given node, and then places the node in the hole.
+     *
+     * @param index The index of the hole to start from.
+     * @param priority The priority value of the node to place.
+     * @param item The item of the node to place.
+     * @param slot The slot of the node to place.
+     */
+    private void Heapify_Down(int index, long priority, Object item, int slot) {
+        int half = size >>> 1; // Nodes past half have no children.
+        while (index <= half) {
+            int j = 2*index; // j is the smaller of index's children.
+            if (j < size && LongPriorityQueue.<K>less(priorities[j+1], items[j+1], priorities[j], items[j]))
+                j++;
+            if (!LongPriorityQueue.<K>less(priorities[j], items[j], priority, item))
+                break;
+            Place(index, priorities[j], items[j], slotAt[j]);
+            index = j;
+        }
+        Place(index, priority, item, slot);
+    }
+
+    /** Resize copies the heap into new arrays able to hold the passed-in number of nodes.
+     *  When shrinking, the slots are first renumbered so that they all fit in the new capacity.
+     *
+     * @param capacity The new capacity of the heap, which must be at least size.
+     */
+    @SuppressWarnings("unchecked")
+    private void Resize(int capacity) {
+        if (nextSlot > capacity) {
+            for (int i = 1; i <= size; i++) {
+                slotAt[i] = i - 1;
+                positions[i - 1] = i;
+                Position.put((K) items[i], i - 1);
+            }
+            nextSlot = size;
+            freeCount = 0;
+        }
+        priorities = Arrays.copyOf(priorities, capacity + 1);
+        items = Arrays.copyOf(items, capacity + 1);
+        slotAt = Arrays.copyOf(slotAt, capacity + 1);
+        positions = Arrays.copyOf(positions, capacity);
+        freeSlots = Arrays.copyOf(freeSlots, capacity);
+    }
+
+    /** Insert adds a new item to the LongPriorityQueue with the given priority value,
+     *  or changes the priority value of the item if it is already in the queue.
+     *
+     * @param item The item to add to the LongPriorityQueue.
+     * @param value The priority value to set for the item.
+     * @throws IllegalArgumentException If the item parameter is null.
+     * @throws OutOfMemoryError If the LongPriorityQueue is bounded and full.
+     */
+    public void Insert(K item, long value) throws IllegalArgumentException, OutOfMemoryError {
+        // First check that the item parameter is not null.
+        if (item == null)
+            throw new IllegalArgumentException("Error while executing Insert(K, long) in LongPriorityQueue: The item parameter is null!");
+
+        int slot = Position.get(item);
+        if (slot >= 0) // If the item already exists in the heap, update its value.
+            ChangeKey(positions[slot], value);
+        else if (isFull())
+            throw new OutOfMemoryError("Error while executing Insert(K, long) in LongPriorityQueue for item \"" + item + "\", value \"" + value + "\": LongPriorityQueue is full!");
+        else {
+            if (size == capacity())
+                Resize(growth.grow(capacity(), size + 1));
+            slot = freeCount > 0 ? freeSlots[--freeCount] : nextSlot++;
+            Position.put(item, slot);
+            size++;
+            Heapify_Up(size, value, item, slot);
+        }
+    }
+
+    /** FindMin returns the item with the minimum value, then natural ordering,
+     *  in this LongPriorityQueue, but does not remove it from the queue.
+     *
+     * @return The lowest-priority value, then item, stored in this queue,
+     *  or null if the queue is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public K FindMin() {
+        if (isEmpty())
+            return null;
+        else
+            return (K) items[1];
+    }
+
+    /** FindMinValue returns the priority value of the item returned by FindMin.
+     *
+     * @return The lowest priority value stored in this queue.
+     * @throws IllegalStateException If the LongPriorityQueue is empty.
+     */
+    public long FindMinValue() throws IllegalStateException {
+        if (isEmpty())
+            throw new IllegalStateException("Error while executing FindMinValue() in LongPriorityQueue: The LongPriorityQueue is empty!");
+
+        return priorities[1];
+    }
+
+    /** Delete removes the entry at the given passed-in index from the heap.
+     *
+     * @param index The index of the node to remove, between 1 and size.
+     */
+    @SuppressWarnings("unchecked")
+    private void Delete(int index) {
+        Position.remove((K) items[index]);
+        freeSlots[freeCount++] = slotAt[index];
+
+        long priority = priorities[size];
+        Object item = items[size];
+        int slot = slotAt[size];
+        items[size] = null;
+        size--;
+        if (index <= size) {
+            // The last node may belong above or below index, so shift it in whichever direction applies.
+            if (index > 1 && LongPriorityQueue.<K>less(priority, item, priorities[index >>> 1], items[index >>> 1]))
+                Heapify_Up(index, priority, item, slot);
+            else
+                Heapify_Down(index, priority, item, slot);
+        }
+
+        int capacity = growth.shrink(capacity(), size, minimumCapacity);
+        if (capacity < capacity()) {
+            Resize(capacity);
+            Position.trimToSize();
+        }
+    }
+
+    /** Delete removes the given item from the LongPriorityQueue.
+     *
+     * @param item The item to remove from the queue.
+     * @throws IllegalArgumentException If the item parameter is null.
+     * @throws IllegalStateException If the LongPriorityQueue is empty.
+     * @throws NullPointerException If the item does not exist in the LongPriorityQueue.
+     */
+    public void Delete(K item) throws IllegalArgumentException, IllegalStateException, NullPointerException {
+        // First check that the item parameter is not null.
+        if (item == null)
+            throw new IllegalArgumentException("Error while executing Delete(K) in LongPriorityQueue: The item parameter is null!");
+        else if (isEmpty())
+            throw new IllegalStateException("Error while executing Delete(K) in LongPriorityQueue for item \"" + item + "\": The LongPriorityQueue is empty!");
+
+        int slot = Position.get(item); // Fetch the item's slot within the heap.
+        if (slot < 0)
+            throw new NullPointerException("Error while executing Delete(K) in LongPriorityQueue for item \"" + item + "\": The item does not exist!");
+
+        Delete(positions[slot]);
+    }
+
+    /** ExtractMin removes the first entry with the smallest priority value,
+     *  then smallest entry based on natural ordering, from the LongPriorityQueue.
+     *
+     * @return The first entry in the LongPriorityQueue, or null if the LongPriorityQueue is empty.
+     */
+    public K ExtractMin() {
+        if (isEmpty())
+            return null;
+
+        K result = FindMin();
+        Delete(1);
+        return result;
+    }
+
+    /** ChangeKey changes the priority value of the node at the given index,
+     *  and then readjusts its position in the heap as appropriate.
+     *
+     * @param index The index of the node whose priority value we wish to modify.
+     * @param newValue The node's new priority value.
+     */
+    private void ChangeKey(int index, long newValue) {
+        long oldValue = priorities[index];
+        if (newValue < oldValue)
+            Heapify_Up(index, newValue, items[index], slotAt[index]);
+        else if (newValue > oldValue)
+            Heapify_Down(index, newValue, items[index], slotAt[index]);
+    }
+
+    /** ChangeKey changes the priority value of the given item, and then
+     *  readjusts its position in the LongPriorityQueue as appropriate.
+     *
+     * @param item The item whose priority value we wish to modify.
+     * @param newValue The item's new priority value.
+     * @throws IllegalArgumentException If the item parameter is null.
+     * @throws IllegalStateException If the queue is empty.
+     * @throws NullPointerException If the item does not exist in the LongPriorityQueue.
+     */
+    public void ChangeKey(K item, long newValue) throws IllegalArgumentException, IllegalStateException, NullPointerException {
+        if (item == null)
+            throw new IllegalArgumentException("Error while executing ChangeKey(K, long) in LongPriorityQueue: The item parameter is null!");
+        else if (isEmpty())
+            throw new IllegalStateException("Error while executing ChangeKey(K, long) in LongPriorityQueue for item \"" + item + "\", newValue \"" + newValue + "\": The queue is empty!");
+
+        int slot = Position.get(item); // Fetch the item's slot within the heap.
+        if (slot < 0)
+            throw new NullPointerException("Error while executing ChangeKey(K, long) in LongPriorityQueue for item \"" + item + "\", newValue \"" + newValue + "\": The item does not exist!");
+
+        ChangeKey(positions[slot], newValue);
+    }
+
+    /** contains checks whether the given item is in this LongPriorityQueue.
+     *
+     * @param item The item to look for.
+     * @return True if the item is in the queue.
+     */
+    public boolean contains(K item) {
+        return item != null && Position.get(item) >= 0;
+    }
+
+    /** getValue returns the priority value of the given item.
+     *
+     * @param item The item whose priority value we wish to read.
+     * @return The item's priority value.
+     * @throws IllegalArgumentException If the item parameter is null.
+     * @throws NullPointerException If the item does not exist in the LongPriorityQueue.
+     */
+    public long getValue(K item) throws IllegalArgumentException, NullPointerException {
+        if (item == null)
+            throw new IllegalArgumentException("Error while executing getValue(K) in LongPriorityQueue: The item parameter is null!");
+
+        int slot = Position.get(item);
+        if (slot < 0)
+            throw new NullPointerException("Error while executing getValue(K) in LongPriorityQueue for item \"" + item + "\": The item does not exist!");
+
+        return priorities[positions[slot]];
+    }
+
+    /** ensureCapacity grows this LongPriorityQueue, if necessary, so that it can hold at least
+     *  minCapacity items without resizing. For a bounded queue, this raises its maximum size.
+     *
+     * @param minCapacity The number of items the queue must be able to hold.
+     * @throws IllegalArgumentException If the minCapacity parameter is less than zero.
+     */
+    public void ensureCapacity(int minCapacity) throws IllegalArgumentException {
+        if (minCapacity < 0)
+            throw new IllegalArgumentException("Error while executing ensureCapacity(int) in LongPriorityQueue: The minCapacity parameter (" + minCapacity + ") is less than 0!");
+
+        if (minCapacity > capacity())
+            Resize(growth.isBounded() ? minCapacity : growth.grow(capacity(), minCapacity));
+    }
+
+    /** trimToSize shrinks this LongPriorityQueue's arrays and key index to fit its current size,
+     *  but no smaller than the capacity it was created with. A bounded queue keeps its capacity.
+     */
+    public void trimToSize() {
+        if (growth.isBounded())
+            return;
+
+        int capacity = Math.max(size, minimumCapacity);
+        if (capacity < capacity())
+            Resize(capacity);
+        Position.trimToSize();
+    }
+
+    /** capacity returns the number of items this LongPriorityQueue can hold before it is resized.
+     *
+     * @return The current capacity of the queue.
+     */
+    public int capacity() {
+        return priorities.length - 1;
+    }
+
+    /** size returns the number of items in this LongPriorityQueue.
+     *
+     * @return The number of items in the queue.
+     */
+    public int size() {
+        return size;
+    }
+
+    /** isEmpty checks whether this LongPriorityQueue is empty.
+     *
+     * @return True if this LongPriorityQueue is empty.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** isFull checks whether this LongPriorityQueue is full. An unbounded queue is never full.
+     *
+     * @return True if this LongPriorityQueue is bounded and full.
+     */
+    public boolean isFull() {
+        return growth.isBounded() && size == capacity();
+    }
+}
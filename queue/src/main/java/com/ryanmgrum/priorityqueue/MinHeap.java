@@ -0,0 +1,191 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/** The MinHeap interface is the engine a PriorityQueue organizes its entries with. Each
+ *  engine orders its items by priority value, then natural ordering, but they trade the cost
+ *  of the operations differently: BinaryMinHeap keeps its nodes in a compact array, while
+ *  PairingHeap links them into a tree so that ChangeKey decreases and meld are cheap.
+ *
+ * @param <K> The item type for this MinHeap.
+ * @param <V> The value type to order the keys.
+ */
+public interface MinHeap<K extends Comparable<? super K>, V extends Comparable<? super V>> {
+    /** Insert adds a new item to the MinHeap with the given priority value,
+     *  or changes the priority value of the item if the heap is keyed and already holds it.
+     *
+     * @param item The item to add to the MinHeap.
+     * @param value The priority value to set for the item.
+     * @return The handle of the item's node, which can be passed to ChangeKey(HeapNode, V)
+     *  and Delete(HeapNode) while the item remains in the heap.
+     * @throws IllegalArgumentException If the item or value parameter is null.
+     * @throws OutOfMemoryError If the MinHeap is bounded and full.
+     */
+    HeapNode<K, V> Insert(K item, V value) throws IllegalArgumentException, OutOfMemoryError;
+
+    /** InsertAll adds every item in the passed-in map to the MinHeap with its mapped
+     *  priority value, or changes the priority value of items already in a keyed heap.
+     *
+     * @param items The items to add, mapped to their priority values.
+     * @throws IllegalArgumentException If the items parameter, or any item or value in it, is null.
+     * @throws OutOfMemoryError If the MinHeap is bounded and cannot hold the new items.
+     */
+    void InsertAll(Map<? extends K, ? extends V> items) throws IllegalArgumentException, OutOfMemoryError;
+
+    /** FindMin returns the item with the minimum value, then natural ordering,
+     *  in this MinHeap, but does not remove it from the heap.
+     *
+     * @return The lowest-priority value, then item, stored in this heap,
+     *  or null if the heap is empty.
+     */
+    K FindMin();
+
+    /** ExtractMin removes the first entry with the smallest priority value,
+     *  then smallest entry based on natural ordering, from the MinHeap.
+     *
+     * @return The first entry in the MinHeap, or null if the MinHeap is empty.
+     */
+    K ExtractMin();
+
+    /** ExtractMin removes up to n entries with the smallest priority values, then smallest
+     *  entries based on natural ordering, from the MinHeap, and adds them in order to
+     *  the passed-in collection.
+     *
+     * @param n The maximum number of entries to remove.
+     * @param out The collection to add the removed entries to.
+     * @return The number of entries removed, which is less than n only if the heap ran out.
+     * @throws IllegalArgumentException If n is negative or the out parameter is null.
+     */
+    int ExtractMin(int n, Collection<? super K> out) throws IllegalArgumentException;
+
+    /** Delete removes the given item from the MinHeap.
+     *
+     * @param item The item to remove from the heap.
+     * @throws IllegalArgumentException If the item parameter is null.
+     * @throws IllegalStateException If the MinHeap is empty.
+     * @throws NullPointerException If the item does not exist in the MinHeap.
+     * @throws UnsupportedOperationException If keyed lookup is disabled for this MinHeap.
+     */
+    void Delete(K item) throws IllegalArgumentException, IllegalStateException, NullPointerException, UnsupportedOperationException;
+
+    /** Delete removes the item held by the given handle from the MinHeap.
+     *
+     * @param handle The handle returned by Insert for the item to remove.
+     * @throws IllegalArgumentException If the handle parameter is null or is not in this MinHeap.
+     */
+    void Delete(HeapNode<K, V> handle) throws IllegalArgumentException;
+
+    /** ChangeKey changes the priority value of the given item, and then
+     *  readjusts its position in the MinHeap as appropriate.
+     *
+     * @param item The item whose priority value we wish to modify.
+     * @param newValue The item's new priority value.
+     * @throws IllegalArgumentException If the item or newValue parameter is null.
+     * @throws IllegalStateException If the heap is empty.
+     * @throws NullPointerException If the item does not exist in the MinHeap.
+     * @throws UnsupportedOperationException If keyed lookup is disabled for this MinHeap.
+     */
+    void ChangeKey(K item, V newValue) throws IllegalArgumentException, IllegalStateException, NullPointerException, UnsupportedOperationException;
+
+    /** ChangeKey changes the priority value of the item held by the given handle,
+     *  and then readjusts its position in the MinHeap as appropriate.
+     *
+     * @param handle The handle returned by Insert for the item we wish to modify.
+     * @param newValue The item's new priority value.
+     * @throws IllegalArgumentException If the handle or newValue parameter is null,
+     *  or the handle is not in this MinHeap.
+     */
+    void ChangeKey(HeapNode<K, V> handle, V newValue) throws IllegalArgumentException;
+
+    /** ChangeKeys changes the priority values of every item in the passed-in map to its
+     *  mapped value. The whole batch is validated before the heap is modified.
+     *
+     * @param items The items to modify, mapped to their new priority values.
+     * @throws IllegalArgumentException If the items parameter, or any item or value in it, is null.
+     * @throws NullPointerException If any item does not exist in the MinHeap.
+     * @throws UnsupportedOperationException If keyed lookup is disabled for this MinHeap.
+     */
+    void ChangeKeys(Map<? extends K, ? extends V> items) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException;
+
+    /** meld moves every item of the passed-in heap into this MinHeap, leaving the other heap
+     *  empty. Handles returned by the other heap's Insert remain valid, and now refer to items
+     *  in this heap. Both heaps must be the same kind of engine and agree on keyed lookup.
+     *
+     * @param other The heap whose items are moved into this one.
+     * @throws IllegalArgumentException If the other parameter is null, is this heap, is a different
+     *  kind of engine, differs in keyed lookup, or holds an item this keyed heap already holds.
+     * @throws OutOfMemoryError If this MinHeap is bounded and cannot hold the other heap's items.
+     */
+    void meld(MinHeap<K, V> other) throws IllegalArgumentException, OutOfMemoryError;
+
+    /** isValid checks whether the given handle still refers to an item in this MinHeap.
+     *
+     * @param handle The handle returned by Insert.
+     * @return True if the handle's item has not been removed from this MinHeap.
+     */
+    boolean isValid(HeapNode<K, V> handle);
+
+    /** contains checks whether the given item is in this MinHeap.
+     *
+     * @param item The item to look for.
+     * @return True if the item is in the heap.
+     * @throws IllegalArgumentException If the item parameter is null.
+     * @throws UnsupportedOperationException If keyed lookup is disabled for this MinHeap.
+     */
+    boolean contains(K item) throws IllegalArgumentException, UnsupportedOperationException;
+
+    /** forEach passes every item in this MinHeap and its priority value to the passed-in
+     *  action, in the order the engine stores them rather than priority order.
+     *
+     * @param action The action to perform on each item and value.
+     */
+    void forEach(BiConsumer<? super K, ? super V> action);
+
+    /** isKeyed checks whether items in this MinHeap can be looked up by key.
+     *
+     * @return True if ChangeKey(K, V) and Delete(K) are supported.
+     */
+    boolean isKeyed();
+
+    /** ensureCapacity makes room, if necessary, for at least minCapacity items without resizing.
+     *
+     * @param minCapacity The number of items the heap must be able to hold.
+     * @throws IllegalArgumentException If the minCapacity parameter is less than zero.
+     */
+    void ensureCapacity(int minCapacity) throws IllegalArgumentException;
+
+    /** trimToSize releases the memory this MinHeap holds beyond its current size. */
+    void trimToSize();
+
+    /** capacity returns the number of items this MinHeap can hold before it is resized.
+     *
+     * @return The current capacity of the heap.
+     */
+    int capacity();
+
+    /** size returns the number of items in this MinHeap.
+     *
+     * @return The number of items in the heap.
+     */
+    int size();
+
+    /** isEmpty checks whether this MinHeap is empty.
+     *
+     * @return True if this MinHeap is empty.
+     */
+    boolean isEmpty();
+
+    /** isFull checks whether this MinHeap is full. An unbounded heap is never full.
+     *
+     * @return True if this MinHeap is bounded and full.
+     */
+    boolean isFull();
+}
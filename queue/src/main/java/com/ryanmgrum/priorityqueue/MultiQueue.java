@@ -0,0 +1,253 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/** The MultiQueue class is the relaxed mode of ConcurrentPriorityQueue. The items are spread
+ *  over several BinaryMinHeaps, called shards, each guarded by its own lock. Each item lives in
+ *  the shard chosen by its hash code, so ChangeKey and Delete go straight to the one shard that
+ *  can hold it. ExtractMin picks two shards at random and removes the minimum of whichever has
+ *  the smaller one, which keeps the items it removes close to the overall minimum while
+ *  letting threads that pick different shards proceed in parallel.
+ *
+ * @param <K> The type of item that will be stored in this queue.
+ * @param <V> The type of value that will be used to order the items in this queue.
+ */
+final class MultiQueue<K extends Comparable<? super K>, V extends Comparable<? super V>> extends ConcurrentPriorityQueue<K, V> {
+    private final BinaryMinHeap<K, V>[] shards; // shards holds the heaps the items are spread over.
+    private final ReentrantLock[] locks; // locks holds the lock guarding the shard at the same index.
+    private final AtomicReferenceArray<Top<K, V>> tops; // tops holds a snapshot of the root of each shard, published after every change so it can be sampled without locking.
+    private final LongAdder count = new LongAdder(); // The number of items in all of the shards.
+
+    /** The Top class is an immutable snapshot of the item and priority value at the root of
+     *  a shard. The shard's own HeapNodes change while its lock is held, so they are never
+     *  read outside of it; threads sampling the shards read these snapshots instead.
+     *
+     * @param <K> The type of the item.
+     * @param <V> The type of the priority value.
+     */
+    private static final class Top<K extends Comparable<? super K>, V extends Comparable<? super V>> {
+        final K item; // The item at the root of the shard.
+        final V value; // The item's priority value.
+
+        /** Constructor that creates a new Top for the passed-in item and value.
+         *
+         * @param newItem The item at the root of the shard.
+         * @param newValue The item's priority value.
+         */
+        Top(K newItem, V newValue) {
+            item = newItem;
+            value = newValue;
+        }
+
+        /** compareTo compares this Top with the passed-in one by priority value, then item.
+         *
+         * @param top The Top to compare to this Top.
+         * @return < 0 if this Top comes first, 0 if they are equal, and > 0 if it comes after.
+         */
+        int compareTo(Top<K, V> top) {
+            int comparison = value.compareTo(top.value);
+            return comparison != 0 ? comparison : item.compareTo(top.item);
+        }
+    }
+
+    /** Constructor that creates a new MultiQueue with the passed-in number of shards.
+     *
+     * @param newShards The number of BinaryMinHeaps to spread the items over.
+     * @throws IllegalArgumentException If the newShards parameter is less than 1.
+     */
+    @SuppressWarnings("unchecked")
+    MultiQueue(int newShards) throws IllegalArgumentException {
+        if (newShards < 1)
+            throw new IllegalArgumentException("Error while creating MultiQueue: newShards parameter (" + newShards + ") is less than 1!");
+
+        shards = new BinaryMinHeap[newShards];
+        locks = new ReentrantLock[newShards];
+        tops = new AtomicReferenceArray<>(newShards);
+        for (int i = 0; i < newShards; i++) {
+            shards[i] = new BinaryMinHeap<>(16, true, GrowthPolicy.unbounded());
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /** ShardOf returns the index of the shard that holds the passed-in item.
+     *
+     * @param item The item to place.
+     * @return The index of the item's shard.
+     */
+    private int ShardOf(K item) {
+        int h = item.hashCode() * 0x9E3779B9; // Fibonacci hashing spreads clustered hash codes.
+        return Math.floorMod(h ^ (h >>> 16), shards.length);
+    }
+
+    /** Lock takes the lock of the shard at the passed-in index, counting a lock failure
+     *  if another thread already holds it.
+     *
+     * @param shard The index of the shard to lock.
+     */
+    private void Lock(int shard) {
+        if (!locks[shard].tryLock()) {
+            metrics.recordLockFailure();
+            locks[shard].lock();
+        }
+    }
+
+    /** Unlock publishes a snapshot of the current root of the shard at the passed-in index
+     *  and releases its lock. It must only be called while holding that lock.
+     *
+     * @param shard The index of the shard to unlock.
+     */
+    private void Unlock(int shard) {
+        HeapNode<K, V> root = shards[shard].FindMinNode();
+        Top<K, V> top = tops.get(shard);
+        if (root == null)
+            tops.set(shard, null);
+        else if (top == null || top.item != root.getKey() || top.value != root.getValue())
+            tops.set(shard, new Top<>(root.getKey(), root.getValue())); // Only allocate when the root changed.
+        locks[shard].unlock();
+    }
+
+    @Override
+    public void Insert(K item, V value) throws IllegalArgumentException {
+        // First check that the item and value parameters are not null.
+        if (item == null)
+            throw new IllegalArgumentException("Error while executing Insert(K, V) in ConcurrentPriorityQueue: The item parameter is null!");
+        else if (value == null)
+            throw new IllegalArgumentException("Error while executing Insert(K, V) in ConcurrentPriorityQueue for item \"" + item + "\": The value parameter is null!");
+
+        metrics.recordOperation();
+        int shard = ShardOf(item);
+        Lock(shard);
+        try {
+            int before = shards[shard].size();
+            shards[shard].Insert(item, value);
+            if (shards[shard].size() > before)
+                count.increment();
+        } finally {
+            Unlock(shard);
+        }
+    }
+
+    @Override
+    public void ChangeKey(K item, V newValue) throws IllegalArgumentException, NullPointerException {
+        if (item == null)
+            throw new IllegalArgumentException("Error while executing ChangeKey(K, V) in ConcurrentPriorityQueue: The item parameter is null!");
+        else if (newValue == null)
+            throw new IllegalArgumentException("Error while executing ChangeKey(K, V) in ConcurrentPriorityQueue for item \"" + item + "\": The newValue parameter is null!");
+
+        metrics.recordOperation();
+        int shard = ShardOf(item);
+        Lock(shard);
+        try {
+            if (shards[shard].isEmpty())
+                throw new NullPointerException("Error while executing ChangeKey(K, V) in ConcurrentPriorityQueue for item \"" + item + "\", newValue \"" + newValue + "\": The item does not exist!");
+            shards[shard].ChangeKey(item, newValue);
+        } finally {
+            Unlock(shard);
+        }
+    }
+
+    @Override
+    public void Delete(K item) throws IllegalArgumentException, NullPointerException {
+        // First check that the item parameter is not null.
+        if (item == null)
+            throw new IllegalArgumentException("Error while executing Delete(K) in ConcurrentPriorityQueue: The item parameter is null!");
+
+        metrics.recordOperation();
+        int shard = ShardOf(item);
+        Lock(shard);
+        try {
+            if (shards[shard].isEmpty())
+                throw new NullPointerException("Error while executing Delete(K) in ConcurrentPriorityQueue for item \"" + item + "\": The item does not exist!");
+            shards[shard].Delete(item);
+            count.decrement();
+        } finally {
+            Unlock(shard);
+        }
+    }
+
+    /** MinShard returns the index of the shard whose published root is smallest.
+     *
+     * @return The index of the shard with the smallest root, or -1 if every shard is empty.
+     */
+    private int MinShard() {
+        int best = -1;
+        Top<K, V> bestTop = null;
+        for (int i = 0; i < shards.length; i++) {
+            Top<K, V> top = tops.get(i);
+            if (top != null && (bestTop == null || top.compareTo(bestTop) < 0)) {
+                best = i;
+                bestTop = top;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public K FindMin() {
+        int shard = MinShard();
+        if (shard < 0)
+            return null;
+        Top<K, V> top = tops.get(shard);
+        return top == null ? null : top.item;
+    }
+
+    @Override
+    public K ExtractMin() {
+        metrics.recordOperation();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (true) {
+            // Sample two shards, and pick the one whose root comes first.
+            int i = random.nextInt(shards.length), j = random.nextInt(shards.length);
+            Top<K, V> a = tops.get(i), b = tops.get(j);
+            int shard;
+            if (a == null && b == null) {
+                metrics.recordEmptySample();
+                shard = MinShard();
+                if (shard < 0)
+                    return null;
+            } else if (a == null)
+                shard = j;
+            else if (b == null)
+                shard = i;
+            else
+                shard = a.compareTo(b) <= 0 ? i : j;
+
+            // Rather than wait for a busy shard, back off briefly and sample again.
+            if (!locks[shard].tryLock()) {
+                metrics.recordLockFailure();
+                metrics.recordRetry();
+                Thread.onSpinWait();
+                continue;
+            }
+            try {
+                K result = shards[shard].ExtractMin();
+                if (result != null) {
+                    count.decrement();
+                    return result;
+                }
+            } finally {
+                Unlock(shard);
+            }
+            metrics.recordRetry(); // The shard was emptied after it was sampled.
+        }
+    }
+
+    @Override
+    public int size() {
+        return (int) Math.max(0, Math.min(Integer.MAX_VALUE, count.sum()));
+    }
+
+    @Override
+    public boolean isRelaxed() {
+        return true;
+    }
+}
@@ -0,0 +1,151 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/** The OffHeapIndex class maps the long keys stored in an OffHeapPriorityQueue to their heap
+ *  indices, using an open-addressing hash table with linear probing, like SlotIndex. The table
+ *  lives in a direct ByteBuffer, so it adds nothing to the garbage-collected heap. Each slot
+ *  holds an 8-byte key and a 4-byte heap index, where index 0 marks an empty slot. The probe
+ *  loops read the buffer directly, since going through ProbeTable's Object[] of keys would box
+ *  every key; the table sizing and backward-shift rule are ProbeTable's.
+ */
+class OffHeapIndex {
+    private static final int MAXIMUM_CAPACITY = 1 << 27; // The largest table size whose bytes fit in a ByteBuffer.
+    private static final int SLOT_BYTES = 12; // The size of a slot: an 8-byte key and a 4-byte heap index.
+    static final int MAX_SIZE = MAXIMUM_CAPACITY / 2; // The largest number of keys the index can hold.
+
+    private ByteBuffer table; // table holds the slots of the hash table.
+    private int size; // The current number of keys in the index.
+    private int mask; // The table size - 1, used to wrap probe sequences around the table.
+
+    /** Constructor that creates a new OffHeapIndex able to hold at least
+     *  expectedSize keys before it needs to resize.
+     *
+     * @param expectedSize The number of keys expected to be stored in the index.
+     * @throws IllegalArgumentException If the expectedSize parameter is less than zero.
+     */
+    OffHeapIndex(int expectedSize) throws IllegalArgumentException {
+        if (expectedSize < 0)
+            throw new IllegalArgumentException("Error while creating OffHeapIndex: expectedSize parameter (" + expectedSize + ") is less than 0!");
+
+        allocate(ProbeTable.tableSizeFor(expectedSize, MAXIMUM_CAPACITY));
+    }
+
+    /** allocate replaces the hash table with an empty one of the given capacity.
+     *
+     * @param capacity The new table size, which must be a power of two.
+     */
+    private void allocate(int capacity) {
+        table = ByteBuffer.allocateDirect(capacity * SLOT_BYTES).order(ByteOrder.nativeOrder());
+        mask = capacity - 1;
+        size = 0;
+    }
+
+    /** home returns the home slot of the passed-in key in the hash table.
+     *
+     * @param key The key to hash.
+     * @return The first slot to probe for the key.
+     */
+    private int home(long key) {
+        long h = key * 0x9E3779B97F4A7C15L; // Fibonacci hashing spreads clustered keys.
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    /** find returns the slot holding the passed-in key, or -1 if it is absent.
+     *
+     * @param key The key to look for.
+     * @return The slot of the key, or -1 if the key is not in the index.
+     */
+    private int find(long key) {
+        for (int i = home(key); table.getInt(i * SLOT_BYTES + 8) != 0; i = (i + 1) & mask)
+            if (table.getLong(i * SLOT_BYTES) == key)
+                return i;
+        return -1;
+    }
+
+    /** get returns the heap index associated with the passed-in key.
+     *
+     * @param key The key to look up.
+     * @return The key's heap index, or 0 if the key is not in the index.
+     */
+    int get(long key) {
+        int i = find(key);
+        return i < 0 ? 0 : table.getInt(i * SLOT_BYTES + 8);
+    }
+
+    /** put associates the passed-in heap index with the key, replacing any
+     *  index previously stored for it.
+     *
+     * @param key The key to store.
+     * @param index The heap index to associate with the key, which must be at least 1.
+     */
+    void put(long key, int index) {
+        if (2L * (size + 1) > mask + 1 && mask + 1 < MAXIMUM_CAPACITY)
+            resize((mask + 1) << 1);
+
+        int i = home(key);
+        while (table.getInt(i * SLOT_BYTES + 8) != 0) {
+            if (table.getLong(i * SLOT_BYTES) == key) {
+                table.putInt(i * SLOT_BYTES + 8, index);
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        table.putLong(i * SLOT_BYTES, key);
+        table.putInt(i * SLOT_BYTES + 8, index);
+        size++;
+    }
+
+    /** remove deletes the passed-in key from the index, shifting back any
+     *  keys further along its probe sequence so that no tombstones are needed.
+     *
+     * @param key The key to remove.
+     */
+    void remove(long key) {
+        int i = find(key);
+        if (i < 0)
+            return;
+
+        size--;
+        for (int j = (i + 1) & mask; table.getInt(j * SLOT_BYTES + 8) != 0; j = (j + 1) & mask) {
+            long moved = table.getLong(j * SLOT_BYTES);
+            if (ProbeTable.fillsHole(i, j, home(moved), mask)) {
+                table.putLong(i * SLOT_BYTES, moved);
+                table.putInt(i * SLOT_BYTES + 8, table.getInt(j * SLOT_BYTES + 8));
+                i = j;
+            }
+        }
+        table.putInt(i * SLOT_BYTES + 8, 0);
+    }
+
+    /** trimToSize shrinks the hash table to the smallest size that keeps
+     *  the load factor at or below one half for the keys it holds.
+     */
+    void trimToSize() {
+        int capacity = ProbeTable.tableSizeFor(size, MAXIMUM_CAPACITY);
+        if (capacity < mask + 1)
+            resize(capacity);
+    }
+
+    /** resize rehashes every key into a new table of the given capacity.
+     *
+     * @param capacity The new table size, which must be a power of two.
+     */
+    private void resize(int capacity) {
+        ByteBuffer old = table;
+        int oldCapacity = mask + 1;
+        allocate(capacity);
+        for (int i = 0; i < oldCapacity; i++) {
+            int index = old.getInt(i * SLOT_BYTES + 8);
+            if (index != 0)
+                put(old.getLong(i * SLOT_BYTES), index);
+        }
+    }
+}
@@ -0,0 +1,495 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/** The OffHeapPriorityQueue class is a PriorityQueue for very large numbers of entries, whose
+ *  items are long keys (such as the IDs of records stored elsewhere) with long priority values.
+ *  The binary heap is kept outside the garbage-collected heap, in a direct ByteBuffer or in a
+ *  memory-mapped file, as 16-byte entries of a priority value and a key. Resident memory is
+ *  therefore about 16 bytes per entry, and the garbage collector never has to scan the queue,
+ *  however large it grows.
+ *
+ *  Looking up entries by key, for ChangeKey, Delete, contains and getValue, needs an
+ *  OffHeapIndex, which is also kept off-heap but costs another 24 to 48 bytes per entry, and a
+ *  hash update for each entry moved by a sift. It is therefore optional: an unindexed queue only
+ *  supports Insert, FindMin and ExtractMin, and allows duplicate keys.
+ *
+ *  A ByteBuffer holds at most 2 GB, so a queue holds at most MAX_CAPACITY entries, or
+ *  OffHeapIndex.MAX_SIZE entries when indexed.
+ */
+public class OffHeapPriorityQueue implements AutoCloseable {
+    private static final int ENTRY_BYTES = 16; // The size of an entry: an 8-byte priority value and an 8-byte key.
+    public static final int MAX_CAPACITY = Integer.MAX_VALUE / ENTRY_BYTES - 1; // The largest number of entries a ByteBuffer can hold, after the unused entry 0.
+
+    private ByteBuffer heap; // heap holds the entries, with entry i at byte i * ENTRY_BYTES; entry 0 is unused.
+    private final FileChannel file; // file is the channel heap is mapped from, or null if heap is a direct buffer.
+    private final OffHeapIndex Position; // Position maps each key to its heap index, or is null if keyed lookup is disabled.
+    private int size; // The current number of entries in the heap.
+    private final GrowthPolicy growth; // growth decides when and how far the heap is resized.
+    private final int minimumCapacity; // The capacity the heap was created with, which it never shrinks below.
+
+    /** Constructor that creates a new, indexed OffHeapPriorityQueue in direct memory with an
+     *  initial capacity of the passed-in newSize parameter, which grows as needed.
+     *
+     * @param newSize The initial capacity of this OffHeapPriorityQueue.
+     * @throws IllegalArgumentException If the newSize parameter is less than zero or too large.
+     */
+    public OffHeapPriorityQueue(int newSize) throws IllegalArgumentException {
+        this(newSize, GrowthPolicy.unbounded(), true);
+    }
+
+    /** Constructor that creates a new OffHeapPriorityQueue in direct memory with an initial
+     *  capacity of the passed-in newSize parameter, which is resized according to the passed-in
+     *  GrowthPolicy.
+     *
+     * @param newSize The initial capacity of this OffHeapPriorityQueue, and its maximum size if newGrowth is bounded.
+     * @param newGrowth The policy that decides when the heap grows and shrinks.
+     * @param indexed Whether ChangeKey, Delete, contains and getValue are supported.
+     * @throws IllegalArgumentException If the newSize parameter is less than zero or too large, or newGrowth is null.
+     */
+    public OffHeapPriorityQueue(int newSize, GrowthPolicy newGrowth, boolean indexed) throws IllegalArgumentException {
+        Validate(newSize, newGrowth, indexed);
+
+        file = null;
+        growth = newGrowth;
+        minimumCapacity = newSize;
+        Position = indexed ? new OffHeapIndex(newSize) : null;
+        heap = Allocate(newSize);
+    }
+
+    /** Constructor that creates a new OffHeapPriorityQueue in a memory-mapped file, with an
+     *  initial capacity of the passed-in newSize parameter, which grows according to the passed-in
+     *  GrowthPolicy. Any existing contents of the file are discarded. Only the heap entries are
+     *  mapped; the index, if any, stays in direct memory. The operating system pages entries in
+     *  and out of the file as needed, so the queue may hold more entries than fit in memory.
+     *
+     * @param path The file to map the heap into, which is created if it does not exist.
+     * @param newSize The initial capacity of this OffHeapPriorityQueue, and its maximum size if newGrowth is bounded.
+     * @param newGrowth The policy that decides when the heap grows. A file-backed heap never shrinks.
+     * @param indexed Whether ChangeKey, Delete, contains and getValue are supported.
+     * @throws IllegalArgumentException If the path parameter is null, newSize is less than zero or too large, or newGrowth is null.
+     * @throws IOException If the file cannot be opened or mapped.
+     */
+    public OffHeapPriorityQueue(Path path, int newSize, GrowthPolicy newGrowth, boolean indexed) throws IllegalArgumentException, IOException {
+        if (path == null)
+            throw new IllegalArgumentException("Error while creating OffHeapPriorityQueue: path parameter is null!");
+        Validate(newSize, newGrowth, indexed);
+
+        file = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        growth = newGrowth;
+        minimumCapacity = newSize;
+        Position = indexed ? new OffHeapIndex(newSize) : null;
+        try {
+            heap = Allocate(newSize);
+        } catch (UncheckedIOException e) {
+            file.close();
+            throw e.getCause();
+        }
+    }
+
+    /** Validate checks the constructor parameters shared by every constructor.
+     *
+     * @param newSize The initial capacity of the queue.
+     * @param newGrowth The policy that decides when the heap grows and shrinks.
+     * @param indexed Whether the queue has an OffHeapIndex.
+     * @throws IllegalArgumentException If the newSize parameter is less than zero or too large, or newGrowth is null.
+     */
+    private static void Validate(int newSize, GrowthPolicy newGrowth, boolean indexed) throws IllegalArgumentException {
+        if (newSize < 0)
+            throw new IllegalArgumentException("Error while creating OffHeapPriorityQueue: newSize parameter (" + newSize + ") is less than 0!");
+        else if (newSize > maximum(indexed))
+            throw new IllegalArgumentException("Error while creating OffHeapPriorityQueue: newSize parameter (" + newSize + ") is greater than " + maximum(indexed) + "!");
+        else if (newGrowth == null)
+            throw new IllegalArgumentException("Error while creating OffHeapPriorityQueue: newGrowth parameter is null!");
+    }
+
+    /** maximum returns the largest capacity of a queue with or without an index.
+     *
+     * @param indexed Whether the queue has an OffHeapIndex.
+     * @return The largest number of entries the queue can hold.
+     */
+    private static int maximum(boolean indexed) {
+        return indexed ? Math.min(MAX_CAPACITY, OffHeapIndex.MAX_SIZE) : MAX_CAPACITY;
+    }
+
+    /** Allocate returns a buffer able to hold the passed-in number of entries, (+1 since the
+     *  heap starts at entry 1). A file-backed buffer maps the start of the file, so the entries
+     *  already written to the file appear in the new buffer without being copied.
+     *
+     * @param capacity The number of entries the buffer must hold.
+     * @return The new buffer, in native byte order.
+     * @throws UncheckedIOException If the file cannot be mapped.
+     */
+    private ByteBuffer Allocate(int capacity) throws UncheckedIOException {
+        int bytes = (capacity + 1) * ENTRY_BYTES;
+        try {
+            ByteBuffer buffer = file == null ? ByteBuffer.allocateDirect(bytes) : file.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+            return buffer.order(ByteOrder.nativeOrder());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error while executing Allocate(int) in OffHeapPriorityQueue for capacity \"" + capacity + "\": " + e.getMessage(), e);
+        }
+    }
+
+    /** Resize moves the heap into a buffer able to hold the passed-in number of entries.
+     *  A file-backed heap is remapped rather than copied.
+     *
+     * @param capacity The new capacity of the heap, which must be at least size.
+     * @throws UncheckedIOException If the file cannot be mapped.
+     */
+    private void Resize(int capacity) throws UncheckedIOException {
+        ByteBuffer resized = Allocate(capacity);
+        if (file == null)
+            resized.put(0, heap, 0, (size + 1) * ENTRY_BYTES);
+        heap = resized;
+    }
+
+    /** priority returns the priority value of the entry at the passed-in heap index.
+     *
+     * @param index The heap index of the entry.
+     * @return The entry's priority value.
+     */
+    private long priority(int index) {
+        return heap.getLong(index * ENTRY_BYTES);
+    }
+
+    /** key returns the key of the entry at the passed-in heap index.
+     *
+     * @param index The heap index of the entry.
+     * @return The entry's key.
+     */
+    private long key(int index) {
+        return heap.getLong(index * ENTRY_BYTES + 8);
+    }
+
+    /** less checks whether the first priority and key come before the second.
+     *
+     * @param priorityA The first priority value.
+     * @param keyA The first key.
+     * @param priorityB The second priority value.
+     * @param keyB The second key.
+     * @return True if the first priority value, then key, is less than the second.
+     */
+    private static boolean less(long priorityA, long keyA, long priorityB, long keyB) {
+        return priorityA < priorityB || (priorityA == priorityB && keyA < keyB);
+    }
+
+    /** Place stores the given entry at the passed-in heap index and records its new position.
+     *
+     * @param index The heap index to store the entry at.
+     * @param priority The entry's priority value.
+     * @param key The entry's key.
+     */
+    private void Place(int index, long priority, long key) {
+        heap.putLong(index * ENTRY_BYTES, priority);
+        heap.putLong(index * ENTRY_BYTES + 8, key);
+        if (Position != null)
+            Position.put(key, index);
+    }
+
+    /** Heapify_Up moves the hole at the passed-in index up the heap, shifting each parent
+     *  that belongs below the given entry down into it, and then places the entry in the hole.
+     *
+     * @param index The index of the hole to start from.
+     * @param priority The priority value of the entry to place.
+     * @param key The key of the entry to place.
+     */
+    private void Heapify_Up(int index, long priority, long key) {
+        while (index > 1) {
+            int j = index >>> 1; // j is index's parent.
+            long parent = priority(j);
+            if (!less(priority, key, parent, key(j)))
+                break;
+            Place(index, parent, key(j));
+            index = j;
+        }
+        Place(index, priority, key);
+    }
+
+    /** Heapify_Down moves the hole at the passed-in index down the heap, shifting the smaller
+     *  child up into it while that child belongs above the given entry, and then places the entry in the hole.
+     *
+     * @param index The index of the hole to start from.
+     * @param priority The priority value of the entry to place.
+     * @param key The key of the entry to place.
+     */
+    private void Heapify_Down(int index, long priority, long key) {
+        int half = size >>> 1; // Entries past half have no children.
+        while (index <= half) {
+            int j = 2*index; // j is the smaller of index's children.
+            if (j < size && less(priority(j+1), key(j+1), priority(j), key(j)))
+                j++;
+            long child = priority(j);
+            if (!less(child, key(j), priority, key))
+                break;
+            Place(index, child, key(j));
+            index = j;
+        }
+        Place(index, priority, key);
+    }
+
+    /** Insert adds a new key to the OffHeapPriorityQueue with the given priority value. If the
+     *  queue is indexed and the key is already in it, its priority value is changed instead.
+     *
+     * @param key The key to add to the OffHeapPriorityQueue.
+     * @param value The priority value to set for the key.
+     * @throws OutOfMemoryError If the OffHeapPriorityQueue is bounded and full, or cannot grow any further.
+     * @throws UncheckedIOException If a file-backed queue cannot grow its mapping.
+     */
+    public void Insert(long key, long value) throws OutOfMemoryError, UncheckedIOException {
+        int index = Position != null ? Position.get(key) : 0;
+        if (index != 0) // If the key already exists in the heap, update its value.
+            ChangeKey(index, value);
+        else if (isFull())
+            throw new OutOfMemoryError("Error while executing Insert(long, long) in OffHeapPriorityQueue for key \"" + key + "\", value \"" + value + "\": OffHeapPriorityQueue is full!");
+        else {
+            if (size == capacity())
+                Resize(Math.min(growth.grow(capacity(), size + 1), maximum(isIndexed())));
+            size++;
+            Heapify_Up(size, value, key);
+        }
+    }
+
+    /** FindMin returns the key with the minimum value, then smallest key,
+     *  in this OffHeapPriorityQueue, but does not remove it from the queue.
+     *
+     * @return The key with the lowest priority value.
+     * @throws IllegalStateException If the OffHeapPriorityQueue is empty.
+     */
+    public long FindMin() throws IllegalStateException {
+        if (isEmpty())
+            throw new IllegalStateException("Error while executing FindMin() in OffHeapPriorityQueue: The OffHeapPriorityQueue is empty!");
+
+        return key(1);
+    }
+
+    /** FindMinValue returns the priority value of the key returned by FindMin.
+     *
+     * @return The lowest priority value stored in this queue.
+     * @throws IllegalStateException If the OffHeapPriorityQueue is empty.
+     */
+    public long FindMinValue() throws IllegalStateException {
+        if (isEmpty())
+            throw new IllegalStateException("Error while executing FindMinValue() in OffHeapPriorityQueue: The OffHeapPriorityQueue is empty!");
+
+        return priority(1);
+    }
+
+    /** Delete removes the entry at the given passed-in index from the heap.
+     *
+     * @param index The index of the entry to remove, between 1 and size.
+     */
+    private void Delete(int index) {
+        if (Position != null)
+            Position.remove(key(index));
+
+        long priority = priority(size);
+        long key = key(size);
+        size--;
+        if (index <= size) {
+            // The last entry may belong above or below index, so shift it in whichever direction applies.
+            if (index > 1 && less(priority, key, priority(index >>> 1), key(index >>> 1)))
+                Heapify_Up(index, priority, key);
+            else
+                Heapify_Down(index, priority, key);
+        }
+
+        if (file == null) {
+            int capacity = growth.shrink(capacity(), size, minimumCapacity);
+            if (capacity < capacity()) {
+                Resize(capacity);
+                if (Position != null)
+                    Position.trimToSize();
+            }
+        }
+    }
+
+    /** Delete removes the given key from the OffHeapPriorityQueue.
+     *
+     * @param key The key to remove from the queue.
+     * @throws IllegalStateException If the OffHeapPriorityQueue is empty.
+     * @throws NullPointerException If the key does not exist in the OffHeapPriorityQueue.
+     * @throws UnsupportedOperationException If the OffHeapPriorityQueue is not indexed.
+     */
+    public void Delete(long key) throws IllegalStateException, NullPointerException, UnsupportedOperationException {
+        if (Position == null)
+            throw new UnsupportedOperationException("Error while executing Delete(long) in OffHeapPriorityQueue for key \"" + key + "\": Keyed lookup is disabled!");
+        else if (isEmpty())
+            throw new IllegalStateException("Error while executing Delete(long) in OffHeapPriorityQueue for key \"" + key + "\": The OffHeapPriorityQueue is empty!");
+
+        int index = Position.get(key); // Fetch the key's index within the heap.
+        if (index == 0)
+            throw new NullPointerException("Error while executing Delete(long) in OffHeapPriorityQueue for key \"" + key + "\": The key does not exist!");
+
+        Delete(index);
+    }
+
+    /** ExtractMin removes the entry with the smallest priority value,
+     *  then smallest key, from the OffHeapPriorityQueue.
+     *
+     * @return The key of the first entry in the OffHeapPriorityQueue.
+     * @throws IllegalStateException If the OffHeapPriorityQueue is empty.
+     */
+    public long ExtractMin() throws IllegalStateException {
+        if (isEmpty())
+            throw new IllegalStateException("Error while executing ExtractMin() in OffHeapPriorityQueue: The OffHeapPriorityQueue is empty!");
+
+        long result = key(1);
+        Delete(1);
+        return result;
+    }
+
+    /** ChangeKey changes the priority value of the entry at the given index,
+     *  and then readjusts its position in the heap as appropriate.
+     *
+     * @param index The index of the entry whose priority value we wish to modify.
+     * @param newValue The entry's new priority value.
+     */
+    private void ChangeKey(int index, long newValue) {
+        long oldValue = priority(index);
+        if (newValue < oldValue)
+            Heapify_Up(index, newValue, key(index));
+        else if (newValue > oldValue)
+            Heapify_Down(index, newValue, key(index));
+    }
+
+    /** ChangeKey changes the priority value of the given key, and then
+     *  readjusts its position in the OffHeapPriorityQueue as appropriate.
+     *
+     * @param key The key whose priority value we wish to modify.
+     * @param newValue The key's new priority value.
+     * @throws IllegalStateException If the queue is empty.
+     * @throws NullPointerException If the key does not exist in the OffHeapPriorityQueue.
+     * @throws UnsupportedOperationException If the OffHeapPriorityQueue is not indexed.
+     */
+    public void ChangeKey(long key, long newValue) throws IllegalStateException, NullPointerException, UnsupportedOperationException {
+        if (Position == null)
+            throw new UnsupportedOperationException("Error while executing ChangeKey(long, long) in OffHeapPriorityQueue for key \"" + key + "\": Keyed lookup is disabled!");
+        else if (isEmpty())
+            throw new IllegalStateException("Error while executing ChangeKey(long, long) in OffHeapPriorityQueue for key \"" + key + "\", newValue \"" + newValue + "\": The queue is empty!");
+
+        int index = Position.get(key); // Fetch the key's index within the heap.
+        if (index == 0)
+            throw new NullPointerException("Error while executing ChangeKey(long, long) in OffHeapPriorityQueue for key \"" + key + "\", newValue \"" + newValue + "\": The key does not exist!");
+
+        ChangeKey(index, newValue);
+    }
+
+    /** contains checks whether the given key is in this OffHeapPriorityQueue.
+     *
+     * @param key The key to look for.
+     * @return True if the key is in the queue.
+     * @throws UnsupportedOperationException If the OffHeapPriorityQueue is not indexed.
+     */
+    public boolean contains(long key) throws UnsupportedOperationException {
+        if (Position == null)
+            throw new UnsupportedOperationException("Error while executing contains(long) in OffHeapPriorityQueue for key \"" + key + "\": Keyed lookup is disabled!");
+
+        return Position.get(key) != 0;
+    }
+
+    /** getValue returns the priority value of the given key.
+     *
+     * @param key The key whose priority value we wish to read.
+     * @return The key's priority value.
+     * @throws NullPointerException If the key does not exist in the OffHeapPriorityQueue.
+     * @throws UnsupportedOperationException If the OffHeapPriorityQueue is not indexed.
+     */
+    public long getValue(long key) throws NullPointerException, UnsupportedOperationException {
+        if (Position == null)
+            throw new UnsupportedOperationException("Error while executing getValue(long) in OffHeapPriorityQueue for key \"" + key + "\": Keyed lookup is disabled!");
+
+        int index = Position.get(key);
+        if (index == 0)
+            throw new NullPointerException("Error while executing getValue(long) in OffHeapPriorityQueue for key \"" + key + "\": The key does not exist!");
+
+        return priority(index);
+    }
+
+    /** isIndexed checks whether entries in this OffHeapPriorityQueue can be looked up by key.
+     *
+     * @return True if ChangeKey, Delete, contains and getValue are supported.
+     */
+    public boolean isIndexed() {
+        return Position != null;
+    }
+
+    /** isFileBacked checks whether this OffHeapPriorityQueue is stored in a memory-mapped file.
+     *
+     * @return True if the heap is mapped from a file, false if it is in direct memory.
+     */
+    public boolean isFileBacked() {
+        return file != null;
+    }
+
+    /** ensureCapacity grows this OffHeapPriorityQueue, if necessary, so that it can hold at least
+     *  minCapacity entries without resizing. For a bounded queue, this raises its maximum size.
+     *
+     * @param minCapacity The number of entries the queue must be able to hold.
+     * @throws IllegalArgumentException If the minCapacity parameter is less than zero or too large.
+     * @throws UncheckedIOException If a file-backed queue cannot grow its mapping.
+     */
+    public void ensureCapacity(int minCapacity) throws IllegalArgumentException, UncheckedIOException {
+        if (minCapacity < 0 || minCapacity > maximum(isIndexed()))
+            throw new IllegalArgumentException("Error while executing ensureCapacity(int) in OffHeapPriorityQueue: The minCapacity parameter (" + minCapacity + ") is not between 0 and " + maximum(isIndexed()) + "!");
+
+        if (minCapacity > capacity())
+            Resize(growth.isBounded() ? minCapacity : Math.min(growth.grow(capacity(), minCapacity), maximum(isIndexed())));
+    }
+
+    /** capacity returns the number of entries this OffHeapPriorityQueue can hold before it is resized.
+     *
+     * @return The current capacity of the queue.
+     */
+    public int capacity() {
+        return heap.capacity() / ENTRY_BYTES - 1;
+    }
+
+    /** size returns the number of entries in this OffHeapPriorityQueue.
+     *
+     * @return The number of entries in the queue.
+     */
+    public int size() {
+        return size;
+    }
+
+    /** isEmpty checks whether this OffHeapPriorityQueue is empty.
+     *
+     * @return True if this OffHeapPriorityQueue is empty.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** isFull checks whether this OffHeapPriorityQueue is full. An unbounded queue is only full
+     *  once it reaches the largest capacity a ByteBuffer allows.
+     *
+     * @return True if this OffHeapPriorityQueue cannot hold another entry.
+     */
+    public boolean isFull() {
+        return size == (growth.isBounded() ? capacity() : maximum(isIndexed()));
+    }
+
+    /** close releases the file behind a file-backed OffHeapPriorityQueue. The memory of the heap
+     *  and index is returned to the operating system once the queue is garbage collected. The
+     *  queue must not be used after it is closed.
+     *
+     * @throws IOException If the file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        if (file != null)
+            file.close();
+    }
+}
@@ -0,0 +1,550 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/** The PairingHeap class is based on a pairing heap, which is a heap-ordered tree whose nodes may
+ *  have any number of children. Two trees are combined by linking the root with the larger
+ *  priority value under the other, so Insert, meld and ChangeKey decreases take O(1) time, and
+ *  ExtractMin re-links the root's children in two passes in O(log n) amortized time. Unlike
+ *  BinaryMinHeap, the heap has no backing array, so it grows one node at a time and is never full.
+ *
+ * @param <K> The item type for this PairingHeap.
+ * @param <V> The value type to order the keys.
+ */
+public class PairingHeap<K extends Comparable<? super K>, V extends Comparable<? super V>> implements MinHeap<K, V> {
+    private PairingNode<K, V> root; // The node with the smallest priority value, then item, or null if the heap is empty.
+    private PositionIndex<K, PairingNode<K, V>> Position; // Position maps each item K to its PairingNode, or is null if keyed lookup is disabled.
+    private final boolean keyed; // Whether items can be looked up by key, and are therefore unique in the heap.
+    private int size; // The current number of nodes in the heap.
+    private PairingNode.Owner owner = new PairingNode.Owner(); // owner identifies the nodes that belong to this heap.
+
+    /** Constructor that creates a new, empty PairingHeap whose items can be looked up by key. */
+    public PairingHeap() {
+        this(true);
+    }
+
+    /** Constructor that creates a new, empty PairingHeap, optionally without the index
+     *  that allows items to be looked up by key.
+     *
+     * @param newKeyed Whether ChangeKey(K, V) and Delete(K) are supported. When false, items are
+     *  only reachable through the handles returned by Insert, and the same item may be inserted more than once.
+     */
+    public PairingHeap(boolean newKeyed) {
+        keyed = newKeyed;
+        Position = keyed ? new PositionIndex<>(0) : null;
+        size = 0;
+    }
+
+    /** Link combines the two passed-in trees into one by making the root with the larger
+     *  priority value, then item, the leftmost child of the other.
+     *
+     * @param a The root of the first tree, which has no siblings.
+     * @param b The root of the second tree, which has no siblings.
+     * @return The root of the combined tree.
+     */
+    private PairingNode<K, V> Link(PairingNode<K, V> a, PairingNode<K, V> b) {
+        if (b.compareTo(a) < 0) {
+            PairingNode<K, V> swap = a;
+            a = b;
+            b = swap;
+        }
+
+        b.next = a.child;
+        if (a.child != null)
+            a.child.prev = b;
+        b.prev = a;
+        a.child = b;
+        return a;
+    }
+
+    /** Cut removes the subtree rooted at the passed-in node from its parent's list of children.
+     *
+     * @param node The node to cut out, which must not be the root.
+     */
+    private void Cut(PairingNode<K, V> node) {
+        if (node.prev.child == node) // The node is the leftmost child of prev.
+            node.prev.child = node.next;
+        else
+            node.prev.next = node.next;
+        if (node.next != null)
+            node.next.prev = node.prev;
+        node.prev = null;
+        node.next = null;
+    }
+
+    /** MergePairs combines the passed-in list of siblings into a single tree. The first pass links
+     *  the siblings in pairs from left to right, and the second links the resulting trees from
+     *  right to left, which is what gives ExtractMin its O(log n) amortized bound.
+     *
+     * @param first The leftmost of the siblings, or null if there are none.
+     * @return The root of the combined tree, or null if there were no siblings.
+     */
+    private PairingNode<K, V> MergePairs(PairingNode<K, V> first) {
+        // First pass: link the siblings in pairs, chaining the results in reverse order through next.
+        PairingNode<K, V> pairs = null;
+        while (first != null) {
+            PairingNode<K, V> a = first;
+            PairingNode<K, V> b = a.next;
+            first = b != null ? b.next : null;
+            a.prev = a.next = null;
+            if (b != null) {
+                b.prev = b.next = null;
+                a = Link(a, b);
+            }
+            a.next = pairs;
+            pairs = a;
+        }
+
+        // Second pass: link the pairs from the rightmost to the leftmost.
+        PairingNode<K, V> result = pairs;
+        if (result != null) {
+            pairs = result.next;
+            result.next = null;
+            while (pairs != null) {
+                PairingNode<K, V> tree = pairs;
+                pairs = tree.next;
+                tree.next = null;
+                result = Link(result, tree);
+            }
+        }
+        return result;
+    }
+
+    /** Remove takes the passed-in node out of the heap, and merges its children back in.
+     *
+     * @param node The node to remove, which must be in this heap.
+     */
+    private void Remove(PairingNode<K, V> node) {
+        if (node == root)
+            root = MergePairs(node.child);
+        else {
+            Cut(node);
+            PairingNode<K, V> children = MergePairs(node.child);
+            if (children != null)
+                root = Link(root, children);
+        }
+        node.child = null;
+        node.owner = null;
+        if (keyed)
+            Position.remove(node.getKey());
+        size--;
+    }
+
+    /** ChangeKey changes the priority value of the passed-in node, and then readjusts its
+     *  position in the PairingHeap as appropriate. A decrease cuts the node's subtree out and
+     *  links it to the root in O(1) time, since only the node itself can now be out of order;
+     *  an increase also has to merge the node's children back into the heap.
+     *
+     * @param node The node whose priority value we wish to modify.
+     * @param newValue The node's new priority value.
+     */
+    private void ChangeKey(PairingNode<K, V> node, V newValue) {
+        int comparison = newValue.compareTo(node.getValue());
+        node.setValue(newValue);
+        if (comparison < 0) {
+            if (node != root) {
+                Cut(node);
+                root = Link(root, node);
+            }
+        } else if (comparison > 0) {
+            PairingNode<K, V> children = MergePairs(node.child);
+            node.child = null;
+            if (node == root)
+                root = children == null ? node : Link(node, children);
+            else {
+                Cut(node);
+                root = Link(root, node);
+                if (children != null)
+                    root = Link(root, children);
+            }
+        }
+    }
+
+    /** Insert adds a new item to the PairingHeap with the given priority value.
+     *
+     * @param item The item to add to the PairingHeap.
+     * @param value The priority value to set for the item.
+     * @return The handle of the item's node, which can be passed to ChangeKey(HeapNode, V)
+     *  and Delete(HeapNode) while the item remains in the heap.
+     * @throws IllegalArgumentException If the item or value parameter is null.
+     * @throws OutOfMemoryError If the PairingHeap already holds Integer.MAX_VALUE items.
+     */
+    public HeapNode<K, V> Insert(K item, V value) throws IllegalArgumentException, OutOfMemoryError {
+        // First check that the item and value parameters are not null.
+        if (item == null)
+            throw new IllegalArgumentException("Error while executing Insert(K, V) in PairingHeap: The item parameter is null!");
+        else if (value == null)
+            throw new IllegalArgumentException("Error while executing Insert(K, V) in PairingHeap for item \"" + item + "\": The value parameter is null!");
+
+        PairingNode<K, V> node = keyed ? Position.get(item) : null;
+        if (node != null) // If the item already exists in the heap, update its value.
+            ChangeKey(node, value);
+        else if (size == Integer.MAX_VALUE)
+            throw new OutOfMemoryError("Error while executing Insert(K, V) in PairingHeap for item \"" + item + "\", value \"" + value + "\": PairingHeap is full!");
+        else {
+            node = new PairingNode<>(item, value, owner);
+            root = root == null ? node : Link(root, node);
+            if (keyed)
+                Position.put(item, node);
+            size++;
+        }
+        return node;
+    }
+
+    /** InsertAll adds every item in the passed-in map to the PairingHeap with its mapped
+     *  priority value, or changes the priority value of items already in a keyed heap. The
+     *  whole batch is validated before the heap is modified.
+     *
+     * @param items The items to add, mapped to their priority values.
+     * @throws IllegalArgumentException If the items parameter, or any item or value in it, is null.
+     * @throws OutOfMemoryError If the PairingHeap cannot hold the new items.
+     */
+    public void InsertAll(Map<? extends K, ? extends V> items) throws IllegalArgumentException, OutOfMemoryError {
+        if (items == null)
+            throw new IllegalArgumentException("Error while executing InsertAll(Map<K, V>) in PairingHeap: The items parameter is null!");
+
+        for (Map.Entry<? extends K, ? extends V> entry : items.entrySet()) {
+            if (entry.getKey() == null)
+                throw new IllegalArgumentException("Error while executing InsertAll(Map<K, V>) in PairingHeap: An item is null!");
+            else if (entry.getValue() == null)
+                throw new IllegalArgumentException("Error while executing InsertAll(Map<K, V>) in PairingHeap for item \"" + entry.getKey() + "\": The value is null!");
+        }
+        if ((long) size + items.size() > Integer.MAX_VALUE)
+            throw new OutOfMemoryError("Error while executing InsertAll(Map<K, V>) in PairingHeap for " + items.size() + " new items: PairingHeap is full!");
+
+        for (Map.Entry<? extends K, ? extends V> entry : items.entrySet())
+            Insert(entry.getKey(), entry.getValue());
+    }
+
+    /** FindMin returns the item with the minimum value, then natural ordering,
+     *  in this PairingHeap, but does not remove it from the heap.
+     *
+     * @return The lowest-priority value, then item, stored in this heap,
+     *  or null if the heap is empty.
+     */
+    public K FindMin() {
+        if (isEmpty())
+            return null;
+        else
+            return root.getKey();
+    }
+
+    /** ExtractMin removes the first entry with the smallest priority value,
+     *  then smallest entry based on natural ordering, from the PairingHeap.
+     *
+     * @return The first entry in the PairingHeap, or null if the PairingHeap is empty.
+     */
+    public K ExtractMin() {
+        if (isEmpty())
+            return null;
+
+        K result = root.getKey();
+        Remove(root);
+        return result;
+    }
+
+    /** ExtractMin removes up to n entries with the smallest priority values, then smallest
+     *  entries based on natural ordering, from the PairingHeap, and adds them in order to
+     *  the passed-in collection.
+     *
+     * @param n The maximum number of entries to remove.
+     * @param out The collection to add the removed entries to.
+     * @return The number of entries removed, which is less than n only if the heap ran out.
+     * @throws IllegalArgumentException If n is negative or the out parameter is null.
+     */
+    public int ExtractMin(int n, Collection<? super K> out) throws IllegalArgumentException {
+        if (n < 0)
+            throw new IllegalArgumentException("Error while executing ExtractMin(int, Collection<K>) in PairingHeap: The n parameter (" + n + ") is less than 0!");
+        else if (out == null)
+            throw new IllegalArgumentException("Error while executing ExtractMin(int, Collection<K>) in PairingHeap: The out parameter is null!");
+
+        int count = Math.min(n, size);
+        for (int i = 0; i < count; i++) {
+            out.add(root.getKey());
+            Remove(root);
+        }
+        return count;
+    }
+
+    /** Delete removes the given item from the PairingHeap.
+     *
+     * @param item The item to remove from the heap.
+     * @throws IllegalArgumentException If the item parameter is null.
+     * @throws IllegalStateException If the PairingHeap is empty.
+     * @throws NullPointerException If the item does not exist in the PairingHeap.
+     * @throws UnsupportedOperationException If keyed lookup is disabled for this PairingHeap.
+     */
+    public void Delete(K item) throws IllegalArgumentException, IllegalStateException, NullPointerException, UnsupportedOperationException {
+        // First check that the item parameter is not null.
+        if (item == null)
+            throw new IllegalArgumentException("Error while executing Delete(K) in PairingHeap: The item parameter is null!");
+        else if (!keyed)
+            throw new UnsupportedOperationException("Error while executing Delete(K) in PairingHeap for item \"" + item + "\": Keyed lookup is disabled!");
+        else if (isEmpty())
+            throw new IllegalStateException("Error while executing Delete(K) in PairingHeap for item \"" + item + "\": The PairingHeap is empty!");
+
+        PairingNode<K, V> node = Position.get(item); // Fetch the item's node within the heap.
+        if (node == null)
+            throw new NullPointerException("Error while executing Delete(K) in PairingHeap for item \"" + item + "\": The item does not exist!");
+
+        Remove(node);
+    }
+
+    /** Delete removes the item held by the given handle from the PairingHeap.
+     *
+     * @param handle The handle returned by Insert for the item to remove.
+     * @throws IllegalArgumentException If the handle parameter is null or is not in this PairingHeap.
+     */
+    public void Delete(HeapNode<K, V> handle) throws IllegalArgumentException {
+        if (handle == null)
+            throw new IllegalArgumentException("Error while executing Delete(HeapNode<K, V>) in PairingHeap: The handle parameter is null!");
+        else if (!isValid(handle))
+            throw new IllegalArgumentException("Error while executing Delete(HeapNode<K, V>) in PairingHeap for item \"" + handle.getKey() + "\": The handle is not in this PairingHeap!");
+
+        Remove((PairingNode<K, V>) handle);
+    }
+
+    /** ChangeKey changes the priority value of the given item, and then
+     *  readjusts its position in the PairingHeap as appropriate.
+     *
+     * @param item The item whose priority value we wish to modify.
+     * @param newValue The item's new priority value.
+     * @throws IllegalArgumentException If the item or newValue parameter is null.
+     * @throws IllegalStateException If the heap is empty.
+     * @throws NullPointerException If the item does not exist in the PairingHeap.
+     * @throws UnsupportedOperationException If keyed lookup is disabled for this PairingHeap.
+     */
+    public void ChangeKey(K item, V newValue) throws IllegalArgumentException, IllegalStateException, NullPointerException, UnsupportedOperationException {
+        if (item == null)
+            throw new IllegalArgumentException("Error while executing ChangeKey(K, V) in PairingHeap: The item parameter is null!");
+        else if (newValue == null)
+            throw new IllegalArgumentException("Error while executing ChangeKey(K, V) in PairingHeap for item \"" + item + "\": The newValue parameter is null!");
+        else if (!keyed)
+            throw new UnsupportedOperationException("Error while executing ChangeKey(K, V) in PairingHeap for item \"" + item + "\": Keyed lookup is disabled!");
+        else if (isEmpty())
+            throw new IllegalStateException("Error while executing ChangeKey(K, V) in PairingHeap for item \"" + item + "\", newValue \"" + newValue + "\": The heap is empty!");
+
+        PairingNode<K, V> node = Position.get(item); // Fetch the item's node within the heap.
+        if (node == null)
+            throw new NullPointerException("Error while executing ChangeKey(K, V) in PairingHeap for item \"" + item + "\", newValue \"" + newValue + "\": The item does not exist!");
+
+        ChangeKey(node, newValue);
+    }
+
+    /** ChangeKey changes the priority value of the item held by the given handle,
+     *  and then readjusts its position in the PairingHeap as appropriate.
+     *
+     * @param handle The handle returned by Insert for the item we wish to modify.
+     * @param newValue The item's new priority value.
+     * @throws IllegalArgumentException If the handle or newValue parameter is null,
+     *  or the handle is not in this PairingHeap.
+     */
+    public void ChangeKey(HeapNode<K, V> handle, V newValue) throws IllegalArgumentException {
+        if (handle == null)
+            throw new IllegalArgumentException("Error while executing ChangeKey(HeapNode<K, V>, V) in PairingHeap: The handle parameter is null!");
+        else if (newValue == null)
+            throw new IllegalArgumentException("Error while executing ChangeKey(HeapNode<K, V>, V) in PairingHeap for item \"" + handle.getKey() + "\": The newValue parameter is null!");
+        else if (!isValid(handle))
+            throw new IllegalArgumentException("Error while executing ChangeKey(HeapNode<K, V>, V) in PairingHeap for item \"" + handle.getKey() + "\", newValue \"" + newValue + "\": The handle is not in this PairingHeap!");
+
+        ChangeKey((PairingNode<K, V>) handle, newValue);
+    }
+
+    /** ChangeKeys changes the priority values of every item in the passed-in map to its mapped
+     *  value. The whole batch is validated before the heap is modified.
+     *
+     * @param items The items to modify, mapped to their new priority values.
+     * @throws IllegalArgumentException If the items parameter, or any item or value in it, is null.
+     * @throws NullPointerException If any item does not exist in the PairingHeap.
+     * @throws UnsupportedOperationException If keyed lookup is disabled for this PairingHeap.
+     */
+    public void ChangeKeys(Map<? extends K, ? extends V> items) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        if (items == null)
+            throw new IllegalArgumentException("Error while executing ChangeKeys(Map<K, V>) in PairingHeap: The items parameter is null!");
+        else if (!keyed)
+            throw new UnsupportedOperationException("Error while executing ChangeKeys(Map<K, V>) in PairingHeap: Keyed lookup is disabled!");
+
+        for (Map.Entry<? extends K, ? extends V> entry : items.entrySet()) {
+            if (entry.getKey() == null)
+                throw new IllegalArgumentException("Error while executing ChangeKeys(Map<K, V>) in PairingHeap: An item is null!");
+            else if (entry.getValue() == null)
+                throw new IllegalArgumentException("Error while executing ChangeKeys(Map<K, V>) in PairingHeap for item \"" + entry.getKey() + "\": The value is null!");
+            else if (!Position.containsKey(entry.getKey()))
+                throw new NullPointerException("Error while executing ChangeKeys(Map<K, V>) in PairingHeap for item \"" + entry.getKey() + "\": The item does not exist!");
+        }
+
+        for (Map.Entry<? extends K, ? extends V> entry : items.entrySet())
+            ChangeKey(Position.get(entry.getKey()), entry.getValue());
+    }
+
+    /** meld moves every node of the passed-in PairingHeap into this one in O(1) time by linking
+     *  the two roots, leaving the other heap empty. Handles from the other heap remain valid here,
+     *  since its Owner is forwarded to this heap's. In a keyed heap, the smaller of the two key
+     *  indexes is also merged into the larger, which takes time proportional to the smaller heap.
+     *
+     * @param other The PairingHeap whose nodes are moved into this one.
+     * @throws IllegalArgumentException If the other parameter is null, is this heap, is not a
+     *  PairingHeap, differs in keyed lookup, or holds an item this keyed heap already holds.
+     * @throws OutOfMemoryError If the melded heap would hold more than Integer.MAX_VALUE items.
+     */
+    public void meld(MinHeap<K, V> other) throws IllegalArgumentException, OutOfMemoryError {
+        if (other == null)
+            throw new IllegalArgumentException("Error while executing meld(MinHeap<K, V>) in PairingHeap: The other parameter is null!");
+        else if (other == this)
+            throw new IllegalArgumentException("Error while executing meld(MinHeap<K, V>) in PairingHeap: A heap cannot be melded with itself!");
+        else if (!(other instanceof PairingHeap))
+            throw new IllegalArgumentException("Error while executing meld(MinHeap<K, V>) in PairingHeap: The other parameter is a " + other.getClass().getSimpleName() + ", not a PairingHeap!");
+        else if (other.isKeyed() != keyed)
+            throw new IllegalArgumentException("Error while executing meld(MinHeap<K, V>) in PairingHeap: Only one of the heaps has keyed lookup enabled!");
+
+        PairingHeap<K, V> source = (PairingHeap<K, V>) other;
+        if ((long) size + source.size > Integer.MAX_VALUE)
+            throw new OutOfMemoryError("Error while executing meld(MinHeap<K, V>) in PairingHeap for " + source.size + " new items: PairingHeap is full!");
+
+        if (keyed) {
+            // Move the entries of the smaller index into the larger one, after checking for items in both heaps.
+            PairingHeap<K, V> smaller = size < source.size ? this : source;
+            PositionIndex<K, PairingNode<K, V>> larger = smaller == this ? source.Position : Position;
+            smaller.ForEachNode(node -> {
+                if (larger.containsKey(node.getKey()))
+                    throw new IllegalArgumentException("Error while executing meld(MinHeap<K, V>) in PairingHeap for item \"" + node.getKey() + "\": The item is in both heaps!");
+            });
+            smaller.ForEachNode(node -> larger.put(node.getKey(), node));
+            Position = larger;
+            source.Position = new PositionIndex<>(0);
+        }
+
+        if (source.root != null)
+            root = root == null ? source.root : Link(root, source.root);
+        size += source.size;
+        source.owner.forwardTo(owner);
+
+        // Leave the other heap empty, with a fresh Owner so that the moved nodes are no longer valid there.
+        source.root = null;
+        source.size = 0;
+        source.owner = new PairingNode.Owner();
+    }
+
+    /** ForEachNode passes every node in this PairingHeap to the passed-in action, in depth-first order.
+     *
+     * @param action The action to perform on each node.
+     */
+    private void ForEachNode(Consumer<PairingNode<K, V>> action) {
+        if (root == null)
+            return;
+
+        ArrayDeque<PairingNode<K, V>> pending = new ArrayDeque<>(); // The first nodes of the sibling lists still to visit.
+        pending.push(root);
+        while (!pending.isEmpty())
+            for (PairingNode<K, V> node = pending.pop(); node != null; node = node.next) {
+                action.accept(node);
+                if (node.child != null)
+                    pending.push(node.child);
+            }
+    }
+
+    /** isValid checks whether the given handle still refers to an item in this PairingHeap.
+     *
+     * @param handle The handle returned by Insert.
+     * @return True if the handle's item has not been removed from this PairingHeap.
+     */
+    public boolean isValid(HeapNode<K, V> handle) {
+        if (!(handle instanceof PairingNode))
+            return false;
+
+        PairingNode.Owner nodeOwner = ((PairingNode<K, V>) handle).owner;
+        return nodeOwner != null && nodeOwner.find() == owner;
+    }
+
+    /** contains checks whether the given item is in this PairingHeap.
+     *
+     * @param item The item to look for.
+     * @return True if the item is in the heap.
+     * @throws IllegalArgumentException If the item parameter is null.
+     * @throws UnsupportedOperationException If keyed lookup is disabled for this PairingHeap.
+     */
+    public boolean contains(K item) throws IllegalArgumentException, UnsupportedOperationException {
+        if (item == null)
+            throw new IllegalArgumentException("Error while executing contains(K) in PairingHeap: The item parameter is null!");
+        else if (!keyed)
+            throw new UnsupportedOperationException("Error while executing contains(K) in PairingHeap for item \"" + item + "\": Keyed lookup is disabled!");
+
+        return Position.containsKey(item);
+    }
+
+    /** forEach passes every item in this PairingHeap and its priority value to the passed-in
+     *  action, in depth-first tree order rather than priority order.
+     *
+     * @param action The action to perform on each item and value.
+     */
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        ForEachNode(node -> action.accept(node.getKey(), node.getValue()));
+    }
+
+    /** isKeyed checks whether items in this PairingHeap can be looked up by key.
+     *
+     * @return True if ChangeKey(K, V) and Delete(K) are supported.
+     */
+    public boolean isKeyed() {
+        return keyed;
+    }
+
+    /** ensureCapacity does nothing but check its parameter, since a PairingHeap
+     *  allocates one node per item and never needs to be resized.
+     *
+     * @param minCapacity The number of items the heap must be able to hold.
+     * @throws IllegalArgumentException If the minCapacity parameter is less than zero.
+     */
+    public void ensureCapacity(int minCapacity) throws IllegalArgumentException {
+        if (minCapacity < 0)
+            throw new IllegalArgumentException("Error while executing ensureCapacity(int) in PairingHeap: The minCapacity parameter (" + minCapacity + ") is less than 0!");
+    }
+
+    /** trimToSize shrinks this PairingHeap's key index to fit its current size. */
+    public void trimToSize() {
+        if (keyed)
+            Position.trimToSize();
+    }
+
+    /** capacity returns the number of items this PairingHeap can hold, which is only limited by memory.
+     *
+     * @return Integer.MAX_VALUE.
+     */
+    public int capacity() {
+        return Integer.MAX_VALUE;
+    }
+
+    /** size returns the number of items in this PairingHeap.
+     *
+     * @return The number of items in the heap.
+     */
+    public int size() {
+        return size;
+    }
+
+    /** isEmpty checks whether this PairingHeap is empty.
+     *
+     * @return True if this PairingHeap is empty.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** isFull checks whether this PairingHeap is full, which it never is.
+     *
+     * @return False.
+     */
+    public boolean isFull() {
+        return false;
+    }
+}
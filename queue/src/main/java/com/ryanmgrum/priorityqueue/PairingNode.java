@@ -0,0 +1,68 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue;
+
+/** The PairingNode class is a HeapNode linked into the tree of a PairingHeap. Each node points
+ *  to its leftmost child and its right sibling, and back to its left sibling, or to its parent
+ *  if it is the leftmost child, so that any node can be cut out of the tree in O(1) time.
+ *
+ * @param <K> The key type stored in the PairingNode.
+ * @param <V> The associated value type stored in the PairingNode.
+ */
+class PairingNode<K extends Comparable<? super K>, V extends Comparable<? super V>> extends HeapNode<K, V> {
+    PairingNode<K, V> child; // The leftmost child of this node, or null if it has none.
+    PairingNode<K, V> next; // The right sibling of this node, or null if it is the rightmost child or a root.
+    PairingNode<K, V> prev; // The left sibling of this node, its parent if it is the leftmost child, or null if it is a root.
+    Owner owner; // The heap this node was inserted into, or null once it has been removed.
+
+    /** Constructor that creates a new PairingNode using the passed-in newKey and newValue.
+     *
+     * @param newKey The new key to set in this node.
+     * @param newValue The associated value to set for the key in this node.
+     * @param newOwner The Owner of the heap the node is inserted into.
+     * @throws IllegalArgumentException If either newKey or newValue are null.
+     */
+    PairingNode(K newKey, V newValue, Owner newOwner) throws IllegalArgumentException {
+        super(newKey, newValue);
+        owner = newOwner;
+    }
+
+    /** The Owner class identifies the PairingHeap a node belongs to. When one heap is melded into
+     *  another, the absorbed heap's Owner is forwarded to the other's instead of every node being
+     *  updated, and find follows and shortens these forwarding chains as in a union-find structure.
+     */
+    static final class Owner {
+        private Owner forward; // The Owner this one was melded into, or null if it is still current.
+
+        /** find returns the current Owner of the nodes that point to this one.
+         *
+         * @return The Owner at the end of the forwarding chain.
+         */
+        Owner find() {
+            Owner current = this;
+            while (current.forward != null)
+                current = current.forward;
+
+            // Point every Owner along the chain straight at the current one.
+            Owner owner = this;
+            while (owner != current) {
+                Owner next = owner.forward;
+                owner.forward = current;
+                owner = next;
+            }
+            return current;
+        }
+
+        /** forwardTo records that the nodes of this Owner now belong to the passed-in one.
+         *
+         * @param target The Owner of the heap this one was melded into.
+         */
+        void forwardTo(Owner target) {
+            forward = target;
+        }
+    }
+}
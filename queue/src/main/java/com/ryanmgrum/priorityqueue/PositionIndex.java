@@ -0,0 +1,78 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue;
+
+/** The PositionIndex class maps the items stored in a heap to the HeapNodes
+ *  that hold them, using a ProbeTable. The nodes track their own position in
+ *  the heap, so the index only changes when an item is added or removed, never
+ *  while the heap is being sifted.
+ *
+ * @param <K> The item type stored in this PositionIndex.
+ * @param <E> The entry type associated with each item.
+ */
+class PositionIndex<K, E> extends ProbeTable<K, Object[]> {
+    /** Constructor that creates a new PositionIndex able to hold at least
+     *  expectedSize items before it needs to resize.
+     *
+     * @param expectedSize The number of items expected to be stored in the index.
+     * @throws IllegalArgumentException If the expectedSize parameter is less than zero.
+     */
+    PositionIndex(int expectedSize) throws IllegalArgumentException {
+        super(expectedSize);
+    }
+
+    @Override
+    Object[] newValues(int capacity) {
+        return new Object[capacity];
+    }
+
+    @Override
+    void move(int from, int to) {
+        values[to] = values[from];
+    }
+
+    /** get returns the entry associated with the passed-in item.
+     *
+     * @param item The item to look up.
+     * @return The item's entry, or null if the item is not in the index.
+     */
+    @SuppressWarnings("unchecked")
+    E get(K item) {
+        int i = find(item);
+        return i < 0 ? null : (E) values[i];
+    }
+
+    /** containsKey checks whether the passed-in item is stored in the index.
+     *
+     * @param item The item to look for.
+     * @return True if the item is in the index.
+     */
+    boolean containsKey(K item) {
+        return find(item) >= 0;
+    }
+
+    /** put associates the passed-in entry with the item, replacing any
+     *  entry previously stored for it.
+     *
+     * @param item The item to store.
+     * @param entry The entry to associate with the item.
+     */
+    void put(K item, E entry) {
+        int i = claim(item); // claim may resize the table, replacing values.
+        values[i] = entry;
+    }
+
+    /** remove deletes the passed-in item from the index.
+     *
+     * @param item The item to remove.
+     */
+    void remove(K item) {
+        int i = delete(item);
+        if (i >= 0)
+            values[i] = null; // Let the removed entry be garbage collected.
+    }
+}
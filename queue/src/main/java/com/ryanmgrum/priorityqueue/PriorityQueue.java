@@ -0,0 +1,438 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue;
+
+import java.util.Collection;
+import java.util.Map;
+
+/** This PriorityQueue uses a MinHeap engine to organize its entries: a BinaryMinHeap unless
+ *  another engine, such as a PairingHeap or RadixHeap, is passed to its constructor.
+ *
+ * @param <K> The type of item that will be stored in this PriorityQueue.
+ * @param <V> The type of value that will be used to order the items in this PriorityQueue.
+ */
+public class PriorityQueue<K extends Comparable<? super K>, V extends Comparable<? super V>> {
+    MinHeap<K, V> queue; // The heap engine used to store this queue's contents.
+    
+    /** Constructor that takes a size to instantiate its PriorityQueue.
+     * 
+     * @param newSize The size to use to create the new PriorityQueue.
+     * @throws IllegalArgumentException If the newSize parameter is
+     *  less than 0.
+     */
+    public PriorityQueue(int newSize) throws IllegalArgumentException {
+        // First check that the newSize parameter is greater than or equal to 0.
+        if (newSize < 0)
+            throw new IllegalArgumentException("Error while creating a new PriorityQueue: The newSize parameter is less than 0!");
+        
+        queue = new BinaryMinHeap<>(newSize);
+    }
+    
+    /** Constructor that takes a size to instantiate its PriorityQueue, and whether
+     *  its items can be looked up by key.
+     * 
+     * @param newSize The size to use to create the new PriorityQueue.
+     * @param keyed Whether ChangeKey(K, V) and Delete(K) are supported. Disabling
+     *  keyed lookup saves the memory of the key index; items are then only reachable
+     *  through the handles returned by Insert.
+     * @throws IllegalArgumentException If the newSize parameter is
+     *  less than 0.
+     */
+    public PriorityQueue(int newSize, boolean keyed) throws IllegalArgumentException {
+        // First check that the newSize parameter is greater than or equal to 0.
+        if (newSize < 0)
+            throw new IllegalArgumentException("Error while creating a new PriorityQueue: The newSize parameter is less than 0!");
+        
+        queue = new BinaryMinHeap<>(newSize, keyed);
+    }
+    
+    /** Constructor that takes an initial size to instantiate its PriorityQueue,
+     *  and the policy used to grow and shrink it.
+     * 
+     * @param newSize The initial capacity of the new PriorityQueue, and its
+     *  maximum size if growth is GrowthPolicy.BOUNDED.
+     * @param growth The policy that decides when the queue grows and shrinks.
+     * @throws IllegalArgumentException If the newSize parameter is
+     *  less than 0, or the growth parameter is null.
+     */
+    public PriorityQueue(int newSize, GrowthPolicy growth) throws IllegalArgumentException {
+        this(newSize, true, growth);
+    }
+    
+    /** Constructor that takes an initial size to instantiate its PriorityQueue,
+     *  whether its items can be looked up by key, and the policy used to grow and shrink it.
+     * 
+     * @param newSize The initial capacity of the new PriorityQueue, and its
+     *  maximum size if growth is GrowthPolicy.BOUNDED.
+     * @param keyed Whether ChangeKey(K, V) and Delete(K) are supported.
+     * @param growth The policy that decides when the queue grows and shrinks.
+     * @throws IllegalArgumentException If the newSize parameter is
+     *  less than 0, or the growth parameter is null.
+     */
+    public PriorityQueue(int newSize, boolean keyed, GrowthPolicy growth) throws IllegalArgumentException {
+        this(newSize, keyed, growth, HeapLayout.BINARY);
+    }
+    
+    /** Constructor that takes a size to instantiate its PriorityQueue, and the layout of its heap.
+     * 
+     * @param newSize The size to use to create the new PriorityQueue.
+     * @param layout The layout of the heap, such as HeapLayout.dAry(4) for a 4-ary heap.
+     *  Wider heaps favor workloads dominated by Insert and ChangeKey decreases, which
+     *  only move items up; HeapLayout.BINARY favors workloads dominated by ExtractMin.
+     * @throws IllegalArgumentException If the newSize parameter is
+     *  less than 0, or the layout parameter is null.
+     */
+    public PriorityQueue(int newSize, HeapLayout layout) throws IllegalArgumentException {
+        this(newSize, true, GrowthPolicy.BOUNDED, layout);
+    }
+    
+    /** Constructor that takes an initial size to instantiate its PriorityQueue, whether
+     *  its items can be looked up by key, the policy used to grow and shrink it, and the
+     *  layout of its heap.
+     * 
+     * @param newSize The initial capacity of the new PriorityQueue, and its
+     *  maximum size if growth is GrowthPolicy.BOUNDED.
+     * @param keyed Whether ChangeKey(K, V) and Delete(K) are supported.
+     * @param growth The policy that decides when the queue grows and shrinks.
+     * @param layout The layout of the heap.
+     * @throws IllegalArgumentException If the newSize parameter is
+     *  less than 0, or the growth or layout parameter is null.
+     */
+    public PriorityQueue(int newSize, boolean keyed, GrowthPolicy growth, HeapLayout layout) throws IllegalArgumentException {
+        // First check that the newSize parameter is greater than or equal to 0.
+        if (newSize < 0)
+            throw new IllegalArgumentException("Error while creating a new PriorityQueue: The newSize parameter is less than 0!");
+        else if (growth == null)
+            throw new IllegalArgumentException("Error while creating a new PriorityQueue: The growth parameter is null!");
+        else if (layout == null)
+            throw new IllegalArgumentException("Error while creating a new PriorityQueue: The layout parameter is null!");
+        
+        queue = new BinaryMinHeap<>(newSize, keyed, growth, layout);
+    }
+    
+    /** Constructor that takes the heap engine to organize its entries with. A PairingHeap suits
+     *  workloads dominated by ChangeKey decreases, such as Dijkstra's algorithm, or that meld
+     *  queues together, since it does both in O(1) time. A RadixHeap suits long priority values
+     *  that never go below the last one extracted, such as Dijkstra's algorithm with integer weights.
+     * 
+     * @param engine The empty heap to store this PriorityQueue's contents in.
+     * @throws IllegalArgumentException If the engine parameter is null or is not empty.
+     */
+    public PriorityQueue(MinHeap<K, V> engine) throws IllegalArgumentException {
+        if (engine == null)
+            throw new IllegalArgumentException("Error while creating a new PriorityQueue: The engine parameter is null!");
+        else if (!engine.isEmpty())
+            throw new IllegalArgumentException("Error while creating a new PriorityQueue: The engine parameter is not empty!");
+        
+        queue = engine;
+    }
+    
+    /** from creates a new, unbounded PriorityQueue holding every item in the passed-in map
+     *  with its mapped priority value. The heap is built bottom-up in O(n) time.
+     * 
+     * @param <K> The type of item that will be stored in the new PriorityQueue.
+     * @param <V> The type of value that will be used to order the items.
+     * @param items The items to add, mapped to their priority values.
+     * @return The new PriorityQueue.
+     * @throws IllegalArgumentException If the items parameter, or any item or value in it, is null.
+     */
+    public static <K extends Comparable<? super K>, V extends Comparable<? super V>> PriorityQueue<K, V> from(Map<? extends K, ? extends V> items) throws IllegalArgumentException {
+        if (items == null)
+            throw new IllegalArgumentException("Error while executing from(Map<K, V>) in PriorityQueue: The items parameter is null!");
+        
+        PriorityQueue<K, V> result = new PriorityQueue<>(items.size(), GrowthPolicy.unbounded());
+        result.InsertAll(items);
+        return result;
+    }
+    
+    /** Insert adds a new item to the Priority Queue with the given priority value.
+     * 
+     * @param item The item to add to the Priority Queue.
+     * @param value The priority value to set for the item.
+     * @return The handle of the item, which can be passed to ChangeKey(HeapNode, V),
+     *  Delete(HeapNode) and isValid(HeapNode) to skip looking the item up by key.
+     * @throws IllegalArgumentException If the item or value parameter is null.
+     * @throws OutOfMemoryError If the PriorityQueue is bounded and full.
+     */
+    public HeapNode<K, V> Insert(K item, V value) throws IllegalArgumentException, OutOfMemoryError {
+        // First check that the item and value parameters are not null.
+        if (item == null)
+            throw new IllegalArgumentException("Error while executing Insert(K, V) in PriorityQueue: The item parameter is null!");
+        else if (value == null)
+            throw new IllegalArgumentException("Error while executing Insert(K, V) in PriorityQueue for item \"" + item + "\": The value parameter is null!");
+
+        return queue.Insert(item, value);
+    }
+    
+    /** InsertAll adds every item in the passed-in map to the Priority Queue with its mapped
+     *  priority value, or changes the priority value of items already in a keyed queue.
+     *  Large batches are heapified bottom-up in O(n) time instead of being inserted one by one.
+     * 
+     * @param items The items to add, mapped to their priority values.
+     * @throws IllegalArgumentException If the items parameter, or any item or value in it, is null.
+     * @throws OutOfMemoryError If the PriorityQueue is bounded and cannot hold the new items.
+     */
+    public void InsertAll(Map<? extends K, ? extends V> items) throws IllegalArgumentException, OutOfMemoryError {
+        if (items == null)
+            throw new IllegalArgumentException("Error while executing InsertAll(Map<K, V>) in PriorityQueue: The items parameter is null!");
+        
+        queue.InsertAll(items);
+    }
+    
+    /** ChangeKey changes the priority value of the given item, and then
+     *  readjusts its position in the heap as appropriate.
+     * 
+     * @param item The item whose priority value we wish to modify.
+     * @param newValue The item's new priority value.
+     * @throws IllegalArgumentException If the item or newValue parameter is null.
+     * @throws IllegalStateException If the queue is empty.
+     * @throws NullPointerException If the item does not exist in the Priority Queue.
+     * @throws UnsupportedOperationException If keyed lookup is disabled for this PriorityQueue.
+     */
+    public void ChangeKey(K item, V newValue) throws IllegalArgumentException, IllegalStateException, NullPointerException, UnsupportedOperationException {
+        if (item == null)
+            throw new IllegalArgumentException("Error while executing ChangeKey(K, V) in PriorityQueue: The item parameter is null!");
+        else if (newValue == null)
+            throw new IllegalArgumentException("Error while executing ChangeKey(K, V) in PriorityQueue for item \"" + item + "\": The newValue parameter is null!");
+        else if (!queue.isEmpty())
+            queue.ChangeKey(item, newValue);
+        else
+            throw new IllegalStateException("Error while executing ChangeKey(K, V) in PriorityQueue for item \"" + item + "\", newValue \"" + newValue + "\": The queue is empty!");
+    }
+    
+    /** ChangeKey changes the priority value of the item held by the given handle,
+     *  and then readjusts its position in the heap as appropriate.
+     * 
+     * @param handle The handle returned by Insert for the item we wish to modify.
+     * @param newValue The item's new priority value.
+     * @throws IllegalArgumentException If the handle or newValue parameter is null,
+     *  or the handle is not in this PriorityQueue.
+     */
+    public void ChangeKey(HeapNode<K, V> handle, V newValue) throws IllegalArgumentException {
+        if (handle == null)
+            throw new IllegalArgumentException("Error while executing ChangeKey(HeapNode<K, V>, V) in PriorityQueue: The handle parameter is null!");
+        else if (newValue == null)
+            throw new IllegalArgumentException("Error while executing ChangeKey(HeapNode<K, V>, V) in PriorityQueue for item \"" + handle.getKey() + "\": The newValue parameter is null!");
+        
+        queue.ChangeKey(handle, newValue);
+    }
+    
+    /** ChangeKeys changes the priority values of every item in the passed-in map to its
+     *  mapped value. Large batches are applied by rebuilding the heap in O(n) time.
+     * 
+     * @param items The items to modify, mapped to their new priority values.
+     * @throws IllegalArgumentException If the items parameter, or any item or value in it, is null.
+     * @throws NullPointerException If any item does not exist in the Priority Queue.
+     * @throws UnsupportedOperationException If keyed lookup is disabled for this PriorityQueue.
+     */
+    public void ChangeKeys(Map<? extends K, ? extends V> items) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        if (items == null)
+            throw new IllegalArgumentException("Error while executing ChangeKeys(Map<K, V>) in PriorityQueue: The items parameter is null!");
+        
+        queue.ChangeKeys(items);
+    }
+    
+    /** FindMin returns the item with the minimum value, then natural ordering,
+     *  in this PriorityQueue, but does not remove it from the queue.
+     * 
+     * @return The lowest-priority value, then smallest item for items with
+     *  equal priority, stored in this queue, or null if the queue is empty.
+     */
+    public K FindMin() {
+        if (queue.isEmpty())
+            return null;
+        else
+            return queue.FindMin();
+    }
+    
+    /** ExtractMin removes the first entry with the smallest priority value,
+     *  then smallest entry based on natural ordering, from the PriorityQueue.
+     * 
+     * @return The first entry in the PriorityQueue, or null if the PriorityQueue is empty.
+     */
+    public K ExtractMin() {
+        if (queue.isEmpty())
+            return null;
+        else
+            return queue.ExtractMin();
+    }
+    
+    /** ExtractMin removes up to n entries with the smallest priority values, then smallest
+     *  entries based on natural ordering, from the PriorityQueue, and adds them in order
+     *  to the passed-in collection.
+     * 
+     * @param n The maximum number of entries to remove.
+     * @param out The collection to add the removed entries to.
+     * @return The number of entries removed, which is less than n only if the queue ran out.
+     * @throws IllegalArgumentException If n is negative or the out parameter is null.
+     */
+    public int ExtractMin(int n, Collection<? super K> out) throws IllegalArgumentException {
+        if (n < 0)
+            throw new IllegalArgumentException("Error while executing ExtractMin(int, Collection<K>) in PriorityQueue: The n parameter (" + n + ") is less than 0!");
+        else if (out == null)
+            throw new IllegalArgumentException("Error while executing ExtractMin(int, Collection<K>) in PriorityQueue: The out parameter is null!");
+        
+        return queue.ExtractMin(n, out);
+    }
+    
+    /** Delete removes the given item from the PriorityQueue.
+     * 
+     * @param item The item to remove from the queue.
+     * @throws IllegalArgumentException If the item parameter is null.
+     * @throws IllegalStateException If the PriorityQueue is empty.
+     * @throws NullPointerException If the item does not exist in the PriorityQueue.
+     * @throws UnsupportedOperationException If keyed lookup is disabled for this PriorityQueue.
+     */
+    public void Delete(K item) throws IllegalArgumentException, IllegalStateException, NullPointerException, UnsupportedOperationException {
+        // First check that the item parameter is not null.
+        if (item == null)
+            throw new IllegalArgumentException("Error while executing Delete(K) in PriorityQueue: The item parameter is null!");
+        else if (queue.isEmpty())
+            throw new IllegalStateException("Error while executing Delete(K) in PriorityQueue for item \"" + item + "\": The PriorityQueue is empty!");
+        
+        queue.Delete(item);
+    }
+    
+    /** Delete removes the item held by the given handle from the PriorityQueue.
+     * 
+     * @param handle The handle returned by Insert for the item to remove.
+     * @throws IllegalArgumentException If the handle parameter is null or is not in this PriorityQueue.
+     */
+    public void Delete(HeapNode<K, V> handle) throws IllegalArgumentException {
+        // First check that the handle parameter is not null.
+        if (handle == null)
+            throw new IllegalArgumentException("Error while executing Delete(HeapNode<K, V>) in PriorityQueue: The handle parameter is null!");
+        
+        queue.Delete(handle);
+    }
+    
+    /** meld moves every item of the passed-in PriorityQueue into this one, leaving the other queue
+     *  empty, instead of extracting and reinserting them one at a time. With PairingHeap engines
+     *  this takes O(1) time, plus time proportional to the smaller queue to merge their key indexes;
+     *  with BinaryMinHeap engines the combined heap is rebuilt in O(n + m) time. Handles returned by
+     *  the other queue's Insert remain valid, and now refer to items in this queue.
+     * 
+     * @param other The PriorityQueue whose items are moved into this one.
+     * @throws IllegalArgumentException If the other parameter is null, is this queue, uses a different
+     *  kind of engine, differs in keyed lookup, or holds an item this keyed queue already holds.
+     * @throws OutOfMemoryError If this PriorityQueue is bounded and cannot hold the other queue's items.
+     */
+    public void meld(PriorityQueue<K, V> other) throws IllegalArgumentException, OutOfMemoryError {
+        if (other == null)
+            throw new IllegalArgumentException("Error while executing meld(PriorityQueue<K, V>) in PriorityQueue: The other parameter is null!");
+        
+        queue.meld(other.queue);
+    }
+    
+    /** isValid checks whether the given handle still refers to an item in this PriorityQueue.
+     * 
+     * @param handle The handle returned by Insert.
+     * @return True if the handle's item has not been removed from this PriorityQueue.
+     */
+    public boolean isValid(HeapNode<K, V> handle) {
+        return queue.isValid(handle);
+    }
+    
+    /** contains checks whether the given item is in this PriorityQueue.
+     * 
+     * @param item The item to look for.
+     * @return True if the item is in the queue.
+     * @throws IllegalArgumentException If the item parameter is null.
+     * @throws UnsupportedOperationException If keyed lookup is disabled for this PriorityQueue.
+     */
+    public boolean contains(K item) throws IllegalArgumentException, UnsupportedOperationException {
+        if (item == null)
+            throw new IllegalArgumentException("Error while executing contains(K) in PriorityQueue: The item parameter is null!");
+        
+        return queue.contains(item);
+    }
+    
+    /** isKeyed checks whether items in this PriorityQueue can be looked up by key.
+     * 
+     * @return True if ChangeKey(K, V) and Delete(K) are supported.
+     */
+    public boolean isKeyed() {
+        return queue.isKeyed();
+    }
+
+    /** enableMetrics starts recording this PriorityQueue's operations, sift work and size
+     *  into a HeapMetrics, which can then be read directly or registered with JMX and JFR.
+     *
+     * @return The HeapMetrics recording this queue, which is the same on every call.
+     * @throws UnsupportedOperationException If metrics were not compiled in, because the system
+     *  property "com.ryanmgrum.priorityqueue.metrics" was not true at startup, or this
+     *  PriorityQueue's engine is not a BinaryMinHeap, which is the only engine that records them.
+     */
+    public HeapMetrics enableMetrics() throws UnsupportedOperationException {
+        if (!HeapMetrics.ENABLED)
+            throw new UnsupportedOperationException("Error while executing enableMetrics() in PriorityQueue: Metrics are disabled; start the JVM with -Dcom.ryanmgrum.priorityqueue.metrics=true!");
+        else if (!(queue instanceof BinaryMinHeap))
+            throw new UnsupportedOperationException("Error while executing enableMetrics() in PriorityQueue: Metrics are only recorded by a BinaryMinHeap, not a " + queue.getClass().getSimpleName() + "!");
+
+        BinaryMinHeap<K, V> heap = (BinaryMinHeap<K, V>) queue;
+        if (heap.getMetrics() == null)
+            heap.setMetrics(new HeapMetrics());
+        return heap.getMetrics();
+    }
+
+    /** getMetrics returns the HeapMetrics recording this PriorityQueue.
+     *
+     * @return The HeapMetrics returned by enableMetrics, or null if metrics were never enabled.
+     */
+    public HeapMetrics getMetrics() {
+        return queue instanceof BinaryMinHeap ? ((BinaryMinHeap<K, V>) queue).getMetrics() : null;
+    }
+
+    /** ensureCapacity grows this PriorityQueue, if necessary, so that it can hold at least
+     *  minCapacity items without resizing. For a bounded queue, this raises its maximum size.
+     * 
+     * @param minCapacity The number of items the queue must be able to hold.
+     * @throws IllegalArgumentException If the minCapacity parameter is less than zero.
+     */
+    public void ensureCapacity(int minCapacity) throws IllegalArgumentException {
+        queue.ensureCapacity(minCapacity);
+    }
+    
+    /** trimToSize releases the memory this PriorityQueue holds beyond its current size,
+     *  down to the size it was created with. A bounded queue keeps its capacity.
+     */
+    public void trimToSize() {
+        queue.trimToSize();
+    }
+    
+    /** capacity returns the number of items this PriorityQueue can hold before it is resized.
+     * 
+     * @return The current capacity of the queue.
+     */
+    public int capacity() {
+        return queue.capacity();
+    }
+    
+    /** size returns the number of items in this PriorityQueue.
+     * 
+     * @return The number of items in the queue.
+     */
+    public int size() {
+        return queue.size();
+    }
+    
+    /** isEmpty checks whether this PriorityQueue is empty.
+     * 
+     * @return True if this PriorityQueue is empty.
+     */
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+    
+    /** isFull checks whether this PriorityQueue is full. An unbounded queue is never full.
+     * 
+     * @return True if this PriorityQueue is bounded and full.
+     */
+    public boolean isFull() {
+        return queue.isFull();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,194 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue;
+
+/** The ProbeTable class is the open-addressing hash table with linear probing shared by the
+ *  indexes that map the items of a heap to where they are kept: PositionIndex, which maps them
+ *  to HeapNodes, and SlotIndex, which maps them to int slots. ProbeTable keeps the items and
+ *  does all of the probing; each subclass keeps its values in an array of type A, parallel to
+ *  the items, so that SlotIndex can use a primitive array. Removing an item shifts back the
+ *  items further along its probe sequence, moving their values along with them, so that no
+ *  tombstones are needed. OffHeapIndex keeps its long keys in a ByteBuffer rather than in an
+ *  Object[], so it runs its own probe loops, but sizes its table and decides which keys shift
+ *  back with the static methods here.
+ *
+ * @param <K> The item type stored in this ProbeTable.
+ * @param <A> The array type holding the values, such as Object[] or int[].
+ */
+abstract class ProbeTable<K, A> {
+    private static final int MINIMUM_CAPACITY = 16; // The smallest table size used by the table.
+    private static final int MAXIMUM_CAPACITY = 1 << 30; // The largest power-of-two length of an Object[].
+
+    private Object[] keys; // keys holds the items stored in the table, or null for an empty slot.
+    A values; // values holds the value associated with the item in the same slot of keys.
+    private int size; // The current number of items in the table.
+    private int mask; // keys.length - 1, used to wrap probe sequences around the table.
+
+    /** Constructor that creates a new ProbeTable able to hold at least
+     *  expectedSize items before it needs to resize.
+     *
+     * @param expectedSize The number of items expected to be stored in the table.
+     * @throws IllegalArgumentException If the expectedSize parameter is less than zero.
+     */
+    ProbeTable(int expectedSize) throws IllegalArgumentException {
+        if (expectedSize < 0)
+            throw new IllegalArgumentException("Error while creating " + getClass().getSimpleName() + ": expectedSize parameter (" + expectedSize + ") is less than 0!");
+
+        allocate(tableSizeFor(expectedSize, MAXIMUM_CAPACITY));
+    }
+
+    /** newValues creates an empty array of values for a table of the given capacity. It is
+     *  called from ProbeTable's constructor, so it must not use the subclass's fields.
+     *
+     * @param capacity The table size.
+     * @return The new array of values.
+     */
+    abstract A newValues(int capacity);
+
+    /** move copies the value in one slot of values to another, as delete shifts items back.
+     *
+     * @param from The slot to copy the value from.
+     * @param to The slot to copy the value to.
+     */
+    abstract void move(int from, int to);
+
+    /** tableSizeFor returns the power-of-two table size, but no more than maximum, that keeps
+     *  the load factor at or below one half for the passed-in number of items.
+     *
+     * @param count The number of items to make room for.
+     * @param maximum The largest table size allowed, which must be a power of two.
+     * @return The table size to allocate.
+     */
+    static int tableSizeFor(int count, int maximum) {
+        int capacity = MINIMUM_CAPACITY;
+        while (capacity < maximum && capacity < 2L * count)
+            capacity <<= 1;
+        return capacity;
+    }
+
+    /** fillsHole checks whether the item in slot j may move back into the hole left at slot i
+     *  by a delete, which it may unless its home slot lies cyclically in (i, j]: then it would
+     *  move before its home slot, where a probe starting at its home would never reach it.
+     *
+     * @param hole The empty slot, i.
+     * @param slot The slot of the item further along the probe sequence, j.
+     * @param home The home slot of the item in slot j.
+     * @param mask The table size - 1.
+     * @return True if the item in slot j should move into the hole.
+     */
+    static boolean fillsHole(int hole, int slot, int home, int mask) {
+        return ((slot - home) & mask) >= ((slot - hole) & mask);
+    }
+
+    /** allocate replaces the hash table with an empty one of the given capacity.
+     *
+     * @param capacity The new table size, which must be a power of two.
+     */
+    private void allocate(int capacity) {
+        keys = new Object[capacity];
+        values = newValues(capacity);
+        mask = capacity - 1;
+        size = 0;
+    }
+
+    /** home returns the home slot of the passed-in item in the hash table.
+     *
+     * @param item The item to hash.
+     * @return The index of the first slot to probe for the item.
+     */
+    private int home(Object item) {
+        int h = item.hashCode() * 0x9E3779B9; // Fibonacci hashing spreads clustered hash codes.
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    /** find returns the slot holding the passed-in item, or -1 if it is absent.
+     *
+     * @param item The item to look for.
+     * @return The slot of the item, or -1 if the item is not in the table.
+     */
+    final int find(Object item) {
+        for (int i = home(item); keys[i] != null; i = (i + 1) & mask)
+            if (keys[i].equals(item))
+                return i;
+        return -1;
+    }
+
+    /** claim returns the slot holding the passed-in item, first adding the item to the table,
+     *  with whatever value its new slot holds, if it is absent. The caller then stores the
+     *  item's value in that slot of values.
+     *
+     * @param item The item to look for or add.
+     * @return The slot of the item.
+     */
+    final int claim(K item) {
+        if (2 * (size + 1) > keys.length)
+            resize(keys.length << 1);
+
+        int i = home(item);
+        while (keys[i] != null) {
+            if (keys[i].equals(item))
+                return i;
+            i = (i + 1) & mask;
+        }
+        keys[i] = item;
+        size++;
+        return i;
+    }
+
+    /** delete removes the passed-in item from the table, shifting back any
+     *  items further along its probe sequence, along with their values.
+     *
+     * @param item The item to remove.
+     * @return The slot left empty, whose value the caller may clear, or -1 if the item was absent.
+     */
+    final int delete(Object item) {
+        int i = find(item);
+        if (i < 0)
+            return -1;
+
+        size--;
+        for (int j = (i + 1) & mask; keys[j] != null; j = (j + 1) & mask) {
+            if (fillsHole(i, j, home(keys[j]), mask)) {
+                keys[i] = keys[j];
+                move(j, i);
+                i = j;
+            }
+        }
+        keys[i] = null;
+        return i;
+    }
+
+    /** trimToSize shrinks the hash table to the smallest size that keeps
+     *  the load factor at or below one half for the items it holds.
+     */
+    final void trimToSize() {
+        int capacity = tableSizeFor(size, MAXIMUM_CAPACITY);
+        if (capacity < keys.length)
+            resize(capacity);
+    }
+
+    /** clear removes every item from the table. */
+    final void clear() {
+        allocate(MINIMUM_CAPACITY);
+    }
+
+    /** resize rehashes every item, and its value, into a new table of the given capacity.
+     *
+     * @param capacity The new table size, which must be a power of two.
+     */
+    @SuppressWarnings("unchecked")
+    private void resize(int capacity) {
+        Object[] oldKeys = keys;
+        A oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++)
+            if (oldKeys[i] != null) {
+                int slot = claim((K) oldKeys[i]);
+                System.arraycopy(oldValues, i, values, slot, 1);
+            }
+    }
+}
@@ -0,0 +1,551 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/** The RadixHeap class is a monotone priority queue for long priority values, as found in
+ *  Dijkstra's algorithm with integer edge weights, where no item is ever given a priority value
+ *  below the last one extracted. Instead of comparing nodes, it files each node into one of 65
+ *  buckets by the highest bit in which its value differs from the last extracted value, so
+ *  Insert, ChangeKey and Delete take O(1) time. ExtractMin empties the first non-empty bucket
+ *  into lower ones, and since a node only ever moves to lower buckets, each node is moved at
+ *  most 64 times over its life in the heap.
+ *
+ *  Inserting an item, or changing its priority value, below the last extracted value would break
+ *  the buckets, so it fails fast with an IllegalArgumentException. Items with equal priority
+ *  values are not ordered by their natural ordering, unlike in the other MinHeaps.
+ *
+ * @param <K> The item type for this RadixHeap.
+ */
+public class RadixHeap<K extends Comparable<? super K>> implements MinHeap<K, Long> {
+    private static final int BUCKETS = 65; // Bucket 0 holds values equal to the last extracted one, and bucket i those differing first in bit i - 1.
+
+    private final RadixNode<K>[] buckets; // buckets holds the first node of each bucket's list, or null if the bucket is empty.
+    private PositionIndex<K, RadixNode<K>> Position; // Position maps each item K to its RadixNode, or is null if keyed lookup is disabled.
+    private final boolean keyed; // Whether items can be looked up by key, and are therefore unique in the heap.
+    private int size; // The current number of nodes in the heap.
+    private long lastExtracted = Long.MIN_VALUE; // The priority value of the last extracted node, which every node's value is at least.
+    private RadixNode<K> min; // The smallest node in the first non-empty bucket above 0, once found, or null if unknown.
+
+    /** Constructor that creates a new, empty RadixHeap whose items can be looked up by key. */
+    public RadixHeap() {
+        this(true);
+    }
+
+    /** Constructor that creates a new, empty RadixHeap, optionally without the index
+     *  that allows items to be looked up by key.
+     *
+     * @param newKeyed Whether ChangeKey(K, V) and Delete(K) are supported. When false, items are
+     *  only reachable through the handles returned by Insert, and the same item may be inserted more than once.
+     */
+    @SuppressWarnings("unchecked")
+    public RadixHeap(boolean newKeyed) {
+        keyed = newKeyed;
+        buckets = (RadixNode<K>[]) new RadixNode[BUCKETS];
+        Position = keyed ? new PositionIndex<>(0) : null;
+        size = 0;
+    }
+
+    /** Bucket returns the bucket a node with the passed-in priority value belongs in.
+     *
+     * @param value The priority value, which must be at least lastExtracted.
+     * @return 0 if value equals lastExtracted, or 1 plus the highest bit in which they differ.
+     */
+    private int Bucket(long value) {
+        return 64 - Long.numberOfLeadingZeros(value ^ lastExtracted);
+    }
+
+    /** Link adds the passed-in node to the front of the bucket its priority value belongs in.
+     *
+     * @param node The node to link, which is not in any bucket.
+     */
+    private void Link(RadixNode<K> node) {
+        int bucket = Bucket(node.priority);
+        node.bucket = bucket;
+        node.prev = null;
+        node.next = buckets[bucket];
+        if (node.next != null)
+            node.next.prev = node;
+        buckets[bucket] = node;
+        if (min != null && node.priority < min.priority)
+            min = node;
+    }
+
+    /** Unlink removes the passed-in node from its bucket.
+     *
+     * @param node The node to unlink, which is in one of the buckets.
+     */
+    private void Unlink(RadixNode<K> node) {
+        if (node.prev != null)
+            node.prev.next = node.next;
+        else
+            buckets[node.bucket] = node.next;
+        if (node.next != null)
+            node.next.prev = node.prev;
+        node.prev = null;
+        node.next = null;
+        if (node == min)
+            min = null;
+    }
+
+    /** MinNode returns the node with the smallest priority value. Every node in bucket 0 has the
+     *  smallest possible value; otherwise the first non-empty bucket is scanned once, and the
+     *  result is kept until that node is unlinked or a smaller one is linked.
+     *
+     * @return The node with the smallest priority value, or null if the heap is empty.
+     */
+    private RadixNode<K> MinNode() {
+        if (buckets[0] != null)
+            return buckets[0];
+        else if (min != null || size == 0)
+            return min;
+
+        int bucket = 1;
+        while (buckets[bucket] == null)
+            bucket++;
+        RadixNode<K> result = buckets[bucket];
+        for (RadixNode<K> node = result.next; node != null; node = node.next)
+            if (node.priority < result.priority)
+                result = node;
+        min = result;
+        return result;
+    }
+
+    /** CheckMonotone checks that the passed-in priority value is not below the last extracted one.
+     *
+     * @param method The signature of the calling method, for the error message.
+     * @param item The item being given the value, for the error message.
+     * @param value The priority value to check.
+     * @throws IllegalArgumentException If value is less than the last extracted priority value.
+     */
+    private void CheckMonotone(String method, K item, long value) throws IllegalArgumentException {
+        if (value < lastExtracted)
+            throw new IllegalArgumentException("Error while executing " + method + " in RadixHeap for item \"" + item + "\", value \"" + value + "\": The value is less than the last extracted value (" + lastExtracted + ")!");
+    }
+
+    /** Remove takes the passed-in node out of the heap.
+     *
+     * @param node The node to remove, which must be in this heap.
+     */
+    private void Remove(RadixNode<K> node) {
+        Unlink(node);
+        node.heap = null;
+        if (keyed)
+            Position.remove(node.getKey());
+        size--;
+    }
+
+    /** Reprioritize changes the priority value of the passed-in node, and moves it to the bucket
+     *  its new value belongs in.
+     *
+     * @param node The node whose priority value we wish to modify.
+     * @param newValue The node's new priority value, which must be at least lastExtracted.
+     */
+    private void Reprioritize(RadixNode<K> node, long newValue) {
+        if (newValue == node.priority)
+            return;
+
+        Unlink(node);
+        node.setValue(newValue);
+        node.priority = newValue;
+        Link(node);
+    }
+
+    /** Insert adds a new item to the RadixHeap with the given priority value,
+     *  or changes the priority value of the item if the heap is keyed and already holds it.
+     *
+     * @param item The item to add to the RadixHeap.
+     * @param value The priority value to set for the item.
+     * @return The handle of the item's node, which can be passed to ChangeKey(HeapNode, V)
+     *  and Delete(HeapNode) while the item remains in the heap.
+     * @throws IllegalArgumentException If the item or value parameter is null, or the value
+     *  is less than the last extracted priority value.
+     * @throws OutOfMemoryError If the RadixHeap already holds Integer.MAX_VALUE items.
+     */
+    public HeapNode<K, Long> Insert(K item, Long value) throws IllegalArgumentException, OutOfMemoryError {
+        // First check that the item and value parameters are not null.
+        if (item == null)
+            throw new IllegalArgumentException("Error while executing Insert(K, V) in RadixHeap: The item parameter is null!");
+        else if (value == null)
+            throw new IllegalArgumentException("Error while executing Insert(K, V) in RadixHeap for item \"" + item + "\": The value parameter is null!");
+        CheckMonotone("Insert(K, V)", item, value);
+
+        RadixNode<K> node = keyed ? Position.get(item) : null;
+        if (node != null) // If the item already exists in the heap, update its value.
+            Reprioritize(node, value);
+        else if (size == Integer.MAX_VALUE)
+            throw new OutOfMemoryError("Error while executing Insert(K, V) in RadixHeap for item \"" + item + "\", value \"" + value + "\": RadixHeap is full!");
+        else {
+            node = new RadixNode<>(item, value, this);
+            Link(node);
+            if (keyed)
+                Position.put(item, node);
+            size++;
+        }
+        return node;
+    }
+
+    /** InsertAll adds every item in the passed-in map to the RadixHeap with its mapped
+     *  priority value, or changes the priority value of items already in a keyed heap. The
+     *  whole batch is validated before the heap is modified.
+     *
+     * @param items The items to add, mapped to their priority values.
+     * @throws IllegalArgumentException If the items parameter, or any item or value in it, is null,
+     *  or any value is less than the last extracted priority value.
+     * @throws OutOfMemoryError If the RadixHeap cannot hold the new items.
+     */
+    public void InsertAll(Map<? extends K, ? extends Long> items) throws IllegalArgumentException, OutOfMemoryError {
+        if (items == null)
+            throw new IllegalArgumentException("Error while executing InsertAll(Map<K, V>) in RadixHeap: The items parameter is null!");
+
+        for (Map.Entry<? extends K, ? extends Long> entry : items.entrySet()) {
+            if (entry.getKey() == null)
+                throw new IllegalArgumentException("Error while executing InsertAll(Map<K, V>) in RadixHeap: An item is null!");
+            else if (entry.getValue() == null)
+                throw new IllegalArgumentException("Error while executing InsertAll(Map<K, V>) in RadixHeap for item \"" + entry.getKey() + "\": The value is null!");
+            CheckMonotone("InsertAll(Map<K, V>)", entry.getKey(), entry.getValue());
+        }
+        if ((long) size + items.size() > Integer.MAX_VALUE)
+            throw new OutOfMemoryError("Error while executing InsertAll(Map<K, V>) in RadixHeap for " + items.size() + " new items: RadixHeap is full!");
+
+        for (Map.Entry<? extends K, ? extends Long> entry : items.entrySet())
+            Insert(entry.getKey(), entry.getValue());
+    }
+
+    /** FindMin returns an item with the minimum priority value in this RadixHeap,
+     *  but does not remove it from the heap.
+     *
+     * @return An item with the lowest priority value stored in this heap, which
+     *  is the one ExtractMin would remove, or null if the heap is empty.
+     */
+    public K FindMin() {
+        RadixNode<K> node = MinNode();
+        return node == null ? null : node.getKey();
+    }
+
+    /** ExtractMin removes an entry with the smallest priority value from the RadixHeap. If bucket
+     *  0 is empty, the smallest node of the first non-empty bucket becomes the last extracted
+     *  value, and that bucket's nodes are redistributed into lower buckets.
+     *
+     * @return An entry with the smallest priority value, or null if the RadixHeap is empty.
+     */
+    public K ExtractMin() {
+        RadixNode<K> node = MinNode();
+        if (node == null)
+            return null;
+
+        if (node.bucket != 0) {
+            lastExtracted = node.priority;
+            RadixNode<K> list = buckets[node.bucket];
+            buckets[node.bucket] = null;
+            min = null;
+            while (list != null) {
+                RadixNode<K> next = list.next;
+                Link(list);
+                list = next;
+            }
+        }
+        Remove(node);
+        return node.getKey();
+    }
+
+    /** ExtractMin removes up to n entries with the smallest priority values from the RadixHeap,
+     *  and adds them in order to the passed-in collection.
+     *
+     * @param n The maximum number of entries to remove.
+     * @param out The collection to add the removed entries to.
+     * @return The number of entries removed, which is less than n only if the heap ran out.
+     * @throws IllegalArgumentException If n is negative or the out parameter is null.
+     */
+    public int ExtractMin(int n, Collection<? super K> out) throws IllegalArgumentException {
+        if (n < 0)
+            throw new IllegalArgumentException("Error while executing ExtractMin(int, Collection<K>) in RadixHeap: The n parameter (" + n + ") is less than 0!");
+        else if (out == null)
+            throw new IllegalArgumentException("Error while executing ExtractMin(int, Collection<K>) in RadixHeap: The out parameter is null!");
+
+        int count = Math.min(n, size);
+        for (int i = 0; i < count; i++)
+            out.add(ExtractMin());
+        return count;
+    }
+
+    /** Delete removes the given item from the RadixHeap.
+     *
+     * @param item The item to remove from the heap.
+     * @throws IllegalArgumentException If the item parameter is null.
+     * @throws IllegalStateException If the RadixHeap is empty.
+     * @throws NullPointerException If the item does not exist in the RadixHeap.
+     * @throws UnsupportedOperationException If keyed lookup is disabled for this RadixHeap.
+     */
+    public void Delete(K item) throws IllegalArgumentException, IllegalStateException, NullPointerException, UnsupportedOperationException {
+        // First check that the item parameter is not null.
+        if (item == null)
+            throw new IllegalArgumentException("Error while executing Delete(K) in RadixHeap: The item parameter is null!");
+        else if (!keyed)
+            throw new UnsupportedOperationException("Error while executing Delete(K) in RadixHeap for item \"" + item + "\": Keyed lookup is disabled!");
+        else if (isEmpty())
+            throw new IllegalStateException("Error while executing Delete(K) in RadixHeap for item \"" + item + "\": The RadixHeap is empty!");
+
+        RadixNode<K> node = Position.get(item); // Fetch the item's node within the heap.
+        if (node == null)
+            throw new NullPointerException("Error while executing Delete(K) in RadixHeap for item \"" + item + "\": The item does not exist!");
+
+        Remove(node);
+    }
+
+    /** Delete removes the item held by the given handle from the RadixHeap.
+     *
+     * @param handle The handle returned by Insert for the item to remove.
+     * @throws IllegalArgumentException If the handle parameter is null or is not in this RadixHeap.
+     */
+    public void Delete(HeapNode<K, Long> handle) throws IllegalArgumentException {
+        if (handle == null)
+            throw new IllegalArgumentException("Error while executing Delete(HeapNode<K, V>) in RadixHeap: The handle parameter is null!");
+        else if (!isValid(handle))
+            throw new IllegalArgumentException("Error while executing Delete(HeapNode<K, V>) in RadixHeap for item \"" + handle.getKey() + "\": The handle is not in this RadixHeap!");
+
+        Remove((RadixNode<K>) handle);
+    }
+
+    /** ChangeKey changes the priority value of the given item, and then
+     *  moves it to the bucket its new value belongs in.
+     *
+     * @param item The item whose priority value we wish to modify.
+     * @param newValue The item's new priority value.
+     * @throws IllegalArgumentException If the item or newValue parameter is null, or newValue
+     *  is less than the last extracted priority value.
+     * @throws IllegalStateException If the heap is empty.
+     * @throws NullPointerException If the item does not exist in the RadixHeap.
+     * @throws UnsupportedOperationException If keyed lookup is disabled for this RadixHeap.
+     */
+    public void ChangeKey(K item, Long newValue) throws IllegalArgumentException, IllegalStateException, NullPointerException, UnsupportedOperationException {
+        if (item == null)
+            throw new IllegalArgumentException("Error while executing ChangeKey(K, V) in RadixHeap: The item parameter is null!");
+        else if (newValue == null)
+            throw new IllegalArgumentException("Error while executing ChangeKey(K, V) in RadixHeap for item \"" + item + "\": The newValue parameter is null!");
+        else if (!keyed)
+            throw new UnsupportedOperationException("Error while executing ChangeKey(K, V) in RadixHeap for item \"" + item + "\": Keyed lookup is disabled!");
+        else if (isEmpty())
+            throw new IllegalStateException("Error while executing ChangeKey(K, V) in RadixHeap for item \"" + item + "\", newValue \"" + newValue + "\": The heap is empty!");
+        CheckMonotone("ChangeKey(K, V)", item, newValue);
+
+        RadixNode<K> node = Position.get(item); // Fetch the item's node within the heap.
+        if (node == null)
+            throw new NullPointerException("Error while executing ChangeKey(K, V) in RadixHeap for item \"" + item + "\", newValue \"" + newValue + "\": The item does not exist!");
+
+        Reprioritize(node, newValue);
+    }
+
+    /** ChangeKey changes the priority value of the item held by the given handle,
+     *  and then moves it to the bucket its new value belongs in.
+     *
+     * @param handle The handle returned by Insert for the item we wish to modify.
+     * @param newValue The item's new priority value.
+     * @throws IllegalArgumentException If the handle or newValue parameter is null, the handle
+     *  is not in this RadixHeap, or newValue is less than the last extracted priority value.
+     */
+    public void ChangeKey(HeapNode<K, Long> handle, Long newValue) throws IllegalArgumentException {
+        if (handle == null)
+            throw new IllegalArgumentException("Error while executing ChangeKey(HeapNode<K, V>, V) in RadixHeap: The handle parameter is null!");
+        else if (newValue == null)
+            throw new IllegalArgumentException("Error while executing ChangeKey(HeapNode<K, V>, V) in RadixHeap for item \"" + handle.getKey() + "\": The newValue parameter is null!");
+        else if (!isValid(handle))
+            throw new IllegalArgumentException("Error while executing ChangeKey(HeapNode<K, V>, V) in RadixHeap for item \"" + handle.getKey() + "\", newValue \"" + newValue + "\": The handle is not in this RadixHeap!");
+        CheckMonotone("ChangeKey(HeapNode<K, V>, V)", handle.getKey(), newValue);
+
+        Reprioritize((RadixNode<K>) handle, newValue);
+    }
+
+    /** ChangeKeys changes the priority values of every item in the passed-in map to its mapped
+     *  value. The whole batch is validated before the heap is modified.
+     *
+     * @param items The items to modify, mapped to their new priority values.
+     * @throws IllegalArgumentException If the items parameter, or any item or value in it, is null,
+     *  or any value is less than the last extracted priority value.
+     * @throws NullPointerException If any item does not exist in the RadixHeap.
+     * @throws UnsupportedOperationException If keyed lookup is disabled for this RadixHeap.
+     */
+    public void ChangeKeys(Map<? extends K, ? extends Long> items) throws IllegalArgumentException, NullPointerException, UnsupportedOperationException {
+        if (items == null)
+            throw new IllegalArgumentException("Error while executing ChangeKeys(Map<K, V>) in RadixHeap: The items parameter is null!");
+        else if (!keyed)
+            throw new UnsupportedOperationException("Error while executing ChangeKeys(Map<K, V>) in RadixHeap: Keyed lookup is disabled!");
+
+        for (Map.Entry<? extends K, ? extends Long> entry : items.entrySet()) {
+            if (entry.getKey() == null)
+                throw new IllegalArgumentException("Error while executing ChangeKeys(Map<K, V>) in RadixHeap: An item is null!");
+            else if (entry.getValue() == null)
+                throw new IllegalArgumentException("Error while executing ChangeKeys(Map<K, V>) in RadixHeap for item \"" + entry.getKey() + "\": The value is null!");
+            else if (!Position.containsKey(entry.getKey()))
+                throw new NullPointerException("Error while executing ChangeKeys(Map<K, V>) in RadixHeap for item \"" + entry.getKey() + "\": The item does not exist!");
+            CheckMonotone("ChangeKeys(Map<K, V>)", entry.getKey(), entry.getValue());
+        }
+
+        for (Map.Entry<? extends K, ? extends Long> entry : items.entrySet())
+            Reprioritize(Position.get(entry.getKey()), entry.getValue());
+    }
+
+    /** meld moves every node of the passed-in RadixHeap into this one, leaving the other heap
+     *  empty. Handles from the other heap remain valid here. Each node has to be filed into this
+     *  heap's buckets, so meld takes time proportional to the other heap's size.
+     *
+     * @param other The RadixHeap whose nodes are moved into this one.
+     * @throws IllegalArgumentException If the other parameter is null, is this heap, is not a
+     *  RadixHeap, differs in keyed lookup, holds an item this keyed heap already holds, or holds
+     *  a priority value less than this heap's last extracted value.
+     * @throws OutOfMemoryError If the melded heap would hold more than Integer.MAX_VALUE items.
+     */
+    public void meld(MinHeap<K, Long> other) throws IllegalArgumentException, OutOfMemoryError {
+        if (other == null)
+            throw new IllegalArgumentException("Error while executing meld(MinHeap<K, V>) in RadixHeap: The other parameter is null!");
+        else if (other == this)
+            throw new IllegalArgumentException("Error while executing meld(MinHeap<K, V>) in RadixHeap: A heap cannot be melded with itself!");
+        else if (!(other instanceof RadixHeap))
+            throw new IllegalArgumentException("Error while executing meld(MinHeap<K, V>) in RadixHeap: The other parameter is a " + other.getClass().getSimpleName() + ", not a RadixHeap!");
+        else if (other.isKeyed() != keyed)
+            throw new IllegalArgumentException("Error while executing meld(MinHeap<K, V>) in RadixHeap: Only one of the heaps has keyed lookup enabled!");
+
+        RadixHeap<K> source = (RadixHeap<K>) other;
+        if (source.isEmpty())
+            return;
+        else if ((long) size + source.size > Integer.MAX_VALUE)
+            throw new OutOfMemoryError("Error while executing meld(MinHeap<K, V>) in RadixHeap for " + source.size + " new items: RadixHeap is full!");
+
+        RadixNode<K> smallest = source.MinNode();
+        CheckMonotone("meld(MinHeap<K, V>)", smallest.getKey(), smallest.priority);
+        if (keyed)
+            for (RadixNode<K> first : source.buckets)
+                for (RadixNode<K> node = first; node != null; node = node.next)
+                    if (Position.containsKey(node.getKey()))
+                        throw new IllegalArgumentException("Error while executing meld(MinHeap<K, V>) in RadixHeap for item \"" + node.getKey() + "\": The item is in both heaps!");
+
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            RadixNode<K> list = source.buckets[bucket];
+            source.buckets[bucket] = null;
+            while (list != null) {
+                RadixNode<K> next = list.next;
+                list.heap = this;
+                Link(list);
+                if (keyed)
+                    Position.put(list.getKey(), list);
+                list = next;
+            }
+        }
+        size += source.size;
+
+        // Leave the other heap empty.
+        source.size = 0;
+        source.min = null;
+        if (source.keyed)
+            source.Position.clear();
+    }
+
+    /** isValid checks whether the given handle still refers to an item in this RadixHeap.
+     *
+     * @param handle The handle returned by Insert.
+     * @return True if the handle's item has not been removed from this RadixHeap.
+     */
+    public boolean isValid(HeapNode<K, Long> handle) {
+        return handle instanceof RadixNode && ((RadixNode<K>) handle).heap == this;
+    }
+
+    /** contains checks whether the given item is in this RadixHeap.
+     *
+     * @param item The item to look for.
+     * @return True if the item is in the heap.
+     * @throws IllegalArgumentException If the item parameter is null.
+     * @throws UnsupportedOperationException If keyed lookup is disabled for this RadixHeap.
+     */
+    public boolean contains(K item) throws IllegalArgumentException, UnsupportedOperationException {
+        if (item == null)
+            throw new IllegalArgumentException("Error while executing contains(K) in RadixHeap: The item parameter is null!");
+        else if (!keyed)
+            throw new UnsupportedOperationException("Error while executing contains(K) in RadixHeap for item \"" + item + "\": Keyed lookup is disabled!");
+
+        return Position.containsKey(item);
+    }
+
+    /** forEach passes every item in this RadixHeap and its priority value to the passed-in
+     *  action, bucket by bucket rather than in priority order.
+     *
+     * @param action The action to perform on each item and value.
+     */
+    public void forEach(BiConsumer<? super K, ? super Long> action) {
+        for (RadixNode<K> first : buckets)
+            for (RadixNode<K> node = first; node != null; node = node.next)
+                action.accept(node.getKey(), node.getValue());
+    }
+
+    /** getLastExtracted returns the priority value of the last item ExtractMin removed,
+     *  which is the smallest value that can still be inserted.
+     *
+     * @return The last extracted priority value, or Long.MIN_VALUE if none has been extracted.
+     */
+    public long getLastExtracted() {
+        return lastExtracted;
+    }
+
+    /** isKeyed checks whether items in this RadixHeap can be looked up by key.
+     *
+     * @return True if ChangeKey(K, V) and Delete(K) are supported.
+     */
+    public boolean isKeyed() {
+        return keyed;
+    }
+
+    /** ensureCapacity does nothing but check its parameter, since a RadixHeap
+     *  allocates one node per item and never needs to be resized.
+     *
+     * @param minCapacity The number of items the heap must be able to hold.
+     * @throws IllegalArgumentException If the minCapacity parameter is less than zero.
+     */
+    public void ensureCapacity(int minCapacity) throws IllegalArgumentException {
+        if (minCapacity < 0)
+            throw new IllegalArgumentException("Error while executing ensureCapacity(int) in RadixHeap: The minCapacity parameter (" + minCapacity + ") is less than 0!");
+    }
+
+    /** trimToSize shrinks this RadixHeap's key index to fit its current size. */
+    public void trimToSize() {
+        if (keyed)
+            Position.trimToSize();
+    }
+
+    /** capacity returns the number of items this RadixHeap can hold, which is only limited by memory.
+     *
+     * @return Integer.MAX_VALUE.
+     */
+    public int capacity() {
+        return Integer.MAX_VALUE;
+    }
+
+    /** size returns the number of items in this RadixHeap.
+     *
+     * @return The number of items in the heap.
+     */
+    public int size() {
+        return size;
+    }
+
+    /** isEmpty checks whether this RadixHeap is empty.
+     *
+     * @return True if this RadixHeap is empty.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** isFull checks whether this RadixHeap is full, which it never is.
+     *
+     * @return False.
+     */
+    public boolean isFull() {
+        return false;
+    }
+}
@@ -0,0 +1,33 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue;
+
+/** The RadixNode class is a HeapNode linked into one of the buckets of a RadixHeap. Each bucket
+ *  is a doubly linked list, so a node can be moved to another bucket or removed in O(1) time.
+ *
+ * @param <K> The key type stored in the RadixNode.
+ */
+class RadixNode<K extends Comparable<? super K>> extends HeapNode<K, Long> {
+    long priority; // The priority value of this node, kept unboxed so that the buckets can be computed without unboxing.
+    int bucket; // The index of the bucket this node is linked into.
+    RadixNode<K> next; // The next node in the bucket, or null if this is the last.
+    RadixNode<K> prev; // The previous node in the bucket, or null if this is the first.
+    RadixHeap<K> heap; // The heap this node belongs to, or null once it has been removed.
+
+    /** Constructor that creates a new RadixNode using the passed-in newKey and newValue.
+     *
+     * @param newKey The new key to set in this node.
+     * @param newValue The associated priority value to set for the key in this node.
+     * @param newHeap The heap the node is inserted into.
+     * @throws IllegalArgumentException If newKey is null.
+     */
+    RadixNode(K newKey, long newValue, RadixHeap<K> newHeap) throws IllegalArgumentException {
+        super(newKey, newValue);
+        priority = newValue;
+        heap = newHeap;
+    }
+}
@@ -0,0 +1,116 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/** The SkipListPriorityQueue class is the strict mode of ConcurrentPriorityQueue.
+ *  The entries are HeapNodes kept in a lock-free skip list ordered by priority value, then item,
+ *  and Position maps each item to its current node. A HeapNode is never modified once it is in
+ *  the skip list; ChangeKey replaces it with a new node instead. Every change to an item runs
+ *  inside Position's per-item lock, so changes to the same item are serialized, while ExtractMin
+ *  only takes that lock to claim the node it removed from the skip list.
+ *
+ * @param <K> The type of item that will be stored in this queue.
+ * @param <V> The type of value that will be used to order the items in this queue.
+ */
+final class SkipListPriorityQueue<K extends Comparable<? super K>, V extends Comparable<? super V>> extends ConcurrentPriorityQueue<K, V> {
+    private final ConcurrentSkipListMap<HeapNode<K, V>, Boolean> nodes = new ConcurrentSkipListMap<>(HeapNode::compareTo); // nodes orders the current node of every item.
+    private final ConcurrentHashMap<K, HeapNode<K, V>> Position = new ConcurrentHashMap<>(); // Position maps each item K to its current node.
+
+    @Override
+    public void Insert(K item, V value) throws IllegalArgumentException {
+        // First check that the item and value parameters are not null.
+        if (item == null)
+            throw new IllegalArgumentException("Error while executing Insert(K, V) in ConcurrentPriorityQueue: The item parameter is null!");
+        else if (value == null)
+            throw new IllegalArgumentException("Error while executing Insert(K, V) in ConcurrentPriorityQueue for item \"" + item + "\": The value parameter is null!");
+
+        metrics.recordOperation();
+        Position.compute(item, (key, old) -> Replace(old, key, value));
+    }
+
+    @Override
+    public void ChangeKey(K item, V newValue) throws IllegalArgumentException, NullPointerException {
+        if (item == null)
+            throw new IllegalArgumentException("Error while executing ChangeKey(K, V) in ConcurrentPriorityQueue: The item parameter is null!");
+        else if (newValue == null)
+            throw new IllegalArgumentException("Error while executing ChangeKey(K, V) in ConcurrentPriorityQueue for item \"" + item + "\": The newValue parameter is null!");
+
+        metrics.recordOperation();
+        if (Position.computeIfPresent(item, (key, old) -> Replace(old, key, newValue)) == null)
+            throw new NullPointerException("Error while executing ChangeKey(K, V) in ConcurrentPriorityQueue for item \"" + item + "\", newValue \"" + newValue + "\": The item does not exist!");
+    }
+
+    /** Replace swaps the passed-in node in the skip list for a new node holding the given
+     *  item and value. It must only be called while holding Position's lock for the item.
+     *  The new node goes in before the old one comes out, so the item never disappears from
+     *  the skip list; an ExtractMin that polls the old node in between fails to claim it,
+     *  because Position maps the item to the new node by then, and retries.
+     *
+     * @param old The item's current node, or null if it has none.
+     * @param item The item to store.
+     * @param value The item's new priority value.
+     * @return The item's new node.
+     */
+    private HeapNode<K, V> Replace(HeapNode<K, V> old, K item, V value) {
+        if (old != null && old.getValue().compareTo(value) == 0)
+            return old; // The new node would be equal to old, so the skip list would keep old anyway.
+        HeapNode<K, V> node = new HeapNode<>(item, value);
+        nodes.put(node, Boolean.TRUE);
+        if (old != null)
+            nodes.remove(old); // If ExtractMin already removed old, it will fail to claim it and retry.
+        return node;
+    }
+
+    @Override
+    public void Delete(K item) throws IllegalArgumentException, NullPointerException {
+        // First check that the item parameter is not null.
+        if (item == null)
+            throw new IllegalArgumentException("Error while executing Delete(K) in ConcurrentPriorityQueue: The item parameter is null!");
+
+        metrics.recordOperation();
+        HeapNode<K, V> node = Position.remove(item);
+        if (node == null)
+            throw new NullPointerException("Error while executing Delete(K) in ConcurrentPriorityQueue for item \"" + item + "\": The item does not exist!");
+        nodes.remove(node);
+    }
+
+    @Override
+    public K FindMin() {
+        Map.Entry<HeapNode<K, V>, Boolean> first = nodes.firstEntry();
+        return first == null ? null : first.getKey().getKey();
+    }
+
+    @Override
+    public K ExtractMin() {
+        metrics.recordOperation();
+        while (true) {
+            Map.Entry<HeapNode<K, V>, Boolean> first = nodes.pollFirstEntry();
+            if (first == null)
+                return null;
+
+            // Claim the node; this fails if ChangeKey or Delete replaced it after it was polled.
+            HeapNode<K, V> node = first.getKey();
+            if (Position.remove(node.getKey(), node))
+                return node.getKey();
+            metrics.recordRetry();
+        }
+    }
+
+    @Override
+    public int size() {
+        return Position.size();
+    }
+
+    @Override
+    public boolean isRelaxed() {
+        return false;
+    }
+}
@@ -0,0 +1,65 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue;
+
+/** The SlotIndex class maps the items stored in a primitive heap to the int slots
+ *  that track their positions, using a ProbeTable. Unlike PositionIndex, the slots
+ *  are stored in a primitive array, so adding an item does not allocate anything
+ *  beyond an occasional resize of the table.
+ *
+ * @param <K> The item type stored in this SlotIndex.
+ */
+class SlotIndex<K> extends ProbeTable<K, int[]> {
+    /** Constructor that creates a new SlotIndex able to hold at least
+     *  expectedSize items before it needs to resize.
+     *
+     * @param expectedSize The number of items expected to be stored in the index.
+     * @throws IllegalArgumentException If the expectedSize parameter is less than zero.
+     */
+    SlotIndex(int expectedSize) throws IllegalArgumentException {
+        super(expectedSize);
+    }
+
+    @Override
+    int[] newValues(int capacity) {
+        return new int[capacity];
+    }
+
+    @Override
+    void move(int from, int to) {
+        values[to] = values[from];
+    }
+
+    /** get returns the slot associated with the passed-in item.
+     *
+     * @param item The item to look up.
+     * @return The item's slot, or -1 if the item is not in the index.
+     */
+    int get(K item) {
+        int i = find(item);
+        return i < 0 ? -1 : values[i];
+    }
+
+    /** put associates the passed-in slot with the item, replacing any
+     *  slot previously stored for it.
+     *
+     * @param item The item to store.
+     * @param slot The slot to associate with the item.
+     */
+    void put(K item, int slot) {
+        int i = claim(item); // claim may resize the table, replacing values.
+        values[i] = slot;
+    }
+
+    /** remove deletes the passed-in item from the index.
+     *
+     * @param item The item to remove.
+     */
+    void remove(K item) {
+        delete(item);
+    }
+}
@@ -0,0 +1,369 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/** The TimerQueue class is a thread-safe priority queue whose priority values are deadlines,
+ *  in milliseconds since the epoch, and whose items can only be extracted once their deadline
+ *  has passed. The deadlines are kept in a LongPriorityQueue, so scheduling a timer allocates
+ *  no node and rescheduling or cancelling it is a keyed ChangeKey or Delete.
+ *
+ *  Threads waiting in take follow the leader-follower pattern: only the leader sleeps until the
+ *  earliest deadline, while the others wait until they are signaled. When a timer is scheduled
+ *  ahead of the current earliest deadline, the leader is replaced so that the new deadline is not
+ *  missed. This way, an idle TimerQueue with many waiting threads wakes up once per deadline
+ *  rather than once per thread.
+ *
+ * @param <K> The type of item that will be scheduled in this TimerQueue.
+ */
+public class TimerQueue<K extends Comparable<? super K>> {
+    private final LongPriorityQueue<K> queue; // queue holds the items by deadline, and is only accessed while holding lock.
+    private final LongSupplier clock; // clock returns the current time in milliseconds since the epoch.
+    private final ReentrantLock lock = new ReentrantLock(); // lock guards queue and leader.
+    private final Condition available = lock.newCondition(); // available is signaled when a new earliest deadline is scheduled or a leader is needed.
+    private Thread leader; // leader is the thread sleeping until the earliest deadline, or null if there is none.
+
+    /** Constructor that creates a new, unbounded TimerQueue with an initial size of the passed-in
+     *  newSize parameter, which reads the time from System.currentTimeMillis.
+     *
+     * @param newSize The initial capacity of this TimerQueue.
+     * @throws IllegalArgumentException If the newSize parameter is less than 0.
+     */
+    public TimerQueue(int newSize) throws IllegalArgumentException {
+        this(newSize, GrowthPolicy.unbounded(), System::currentTimeMillis);
+    }
+
+    /** Constructor that creates a new TimerQueue with an initial size of the passed-in newSize
+     *  parameter, which grows and shrinks according to the passed-in GrowthPolicy, and reads the
+     *  time from the passed-in clock.
+     *
+     * @param newSize The initial capacity of this TimerQueue, and its maximum size if growth is bounded.
+     * @param growth The policy that decides when the queue grows and shrinks.
+     * @param newClock The source of the current time, in milliseconds since the epoch.
+     * @throws IllegalArgumentException If the newSize parameter is less than 0, or growth or newClock is null.
+     */
+    public TimerQueue(int newSize, GrowthPolicy growth, LongSupplier newClock) throws IllegalArgumentException {
+        if (newClock == null)
+            throw new IllegalArgumentException("Error while creating TimerQueue: newClock parameter is null!");
+
+        queue = new LongPriorityQueue<>(newSize, growth);
+        clock = newClock;
+    }
+
+    /** Insert schedules the given item for the passed-in deadline, or reschedules it if it is
+     *  already in the queue.
+     *
+     * @param item The item to schedule.
+     * @param deadline The time at which the item becomes extractable, in milliseconds since the epoch.
+     * @throws IllegalArgumentException If the item parameter is null.
+     * @throws OutOfMemoryError If the TimerQueue is bounded and full.
+     */
+    public void Insert(K item, long deadline) throws IllegalArgumentException, OutOfMemoryError {
+        // First check that the item parameter is not null.
+        if (item == null)
+            throw new IllegalArgumentException("Error while executing Insert(K, long) in TimerQueue: The item parameter is null!");
+
+        lock.lock();
+        try {
+            queue.Insert(item, deadline);
+            WakeIfFirst(item);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** ChangeKey reschedules the given item for the passed-in deadline.
+     *
+     * @param item The item to reschedule.
+     * @param newDeadline The item's new deadline, in milliseconds since the epoch.
+     * @throws IllegalArgumentException If the item parameter is null.
+     * @throws IllegalStateException If the queue is empty.
+     * @throws NullPointerException If the item is not scheduled in the TimerQueue.
+     */
+    public void ChangeKey(K item, long newDeadline) throws IllegalArgumentException, IllegalStateException, NullPointerException {
+        lock.lock();
+        try {
+            queue.ChangeKey(item, newDeadline);
+            WakeIfFirst(item);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** WakeIfFirst replaces the leader if the passed-in item now has the earliest deadline, since
+     *  the leader may be sleeping until a later one. It must be called while holding lock.
+     *
+     * @param item The item that was just scheduled.
+     */
+    private void WakeIfFirst(K item) {
+        if (item.equals(queue.FindMin())) {
+            leader = null;
+            available.signal();
+        }
+    }
+
+    /** Delete cancels the given item.
+     *
+     * @param item The item to cancel.
+     * @throws IllegalArgumentException If the item parameter is null.
+     * @throws IllegalStateException If the queue is empty.
+     * @throws NullPointerException If the item is not scheduled in the TimerQueue.
+     */
+    public void Delete(K item) throws IllegalArgumentException, IllegalStateException, NullPointerException {
+        lock.lock();
+        try {
+            queue.Delete(item);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** poll removes the item with the earliest deadline from the queue if that deadline has passed.
+     *
+     * @return The item with the earliest deadline, or null if the queue is empty or no deadline has passed.
+     */
+    public K poll() {
+        lock.lock();
+        try {
+            if (queue.isEmpty() || queue.FindMinValue() > clock.getAsLong())
+                return null;
+            return queue.ExtractMin();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** take removes the item with the earliest deadline from the queue, waiting until that
+     *  deadline has passed.
+     *
+     * @return The item with the earliest deadline.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    public K take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (true) {
+                if (queue.isEmpty()) {
+                    available.await();
+                    continue;
+                }
+                long delay = Delay(queue.FindMinValue(), clock.getAsLong());
+                if (delay <= 0)
+                    return queue.ExtractMin();
+                if (leader != null)
+                    available.await();
+                else
+                    AwaitAsLeader(TimeUnit.MILLISECONDS.toNanos(delay));
+            }
+        } finally {
+            if (leader == null && !queue.isEmpty())
+                available.signal(); // Hand leadership to the next waiting thread.
+            lock.unlock();
+        }
+    }
+
+    /** poll removes the item with the earliest deadline from the queue, waiting up to the given
+     *  time for that deadline to pass.
+     *
+     * @param timeout How long to wait, in units of unit.
+     * @param unit The unit of the timeout parameter.
+     * @return The item with the earliest deadline, or null if no deadline passed in time.
+     * @throws IllegalArgumentException If the unit parameter is null.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    public K poll(long timeout, TimeUnit unit) throws IllegalArgumentException, InterruptedException {
+        if (unit == null)
+            throw new IllegalArgumentException("Error while executing poll(long, TimeUnit) in TimerQueue: The unit parameter is null!");
+
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (true) {
+                if (queue.isEmpty()) {
+                    if (nanos <= 0)
+                        return null;
+                    nanos = available.awaitNanos(nanos);
+                    continue;
+                }
+                long delay = TimeUnit.MILLISECONDS.toNanos(Delay(queue.FindMinValue(), clock.getAsLong()));
+                if (delay <= 0)
+                    return queue.ExtractMin();
+                if (nanos <= 0)
+                    return null;
+                if (nanos < delay || leader != null)
+                    nanos = available.awaitNanos(nanos);
+                else
+                    nanos -= delay - AwaitAsLeader(delay);
+            }
+        } finally {
+            if (leader == null && !queue.isEmpty())
+                available.signal(); // Hand leadership to the next waiting thread.
+            lock.unlock();
+        }
+    }
+
+    /** Delay returns the time from now until the passed-in deadline, saturating at Long.MIN_VALUE
+     *  and Long.MAX_VALUE instead of overflowing for extreme deadlines.
+     *
+     * @param deadline The deadline, in milliseconds since the epoch.
+     * @param now The current time, in milliseconds since the epoch.
+     * @return The time until the deadline in milliseconds, which is zero or negative if it has passed.
+     */
+    private static long Delay(long deadline, long now) {
+        long delay = deadline - now;
+        if (((deadline ^ now) & (deadline ^ delay)) < 0) // The subtraction overflowed.
+            return deadline < now ? Long.MIN_VALUE : Long.MAX_VALUE;
+        return delay;
+    }
+
+    /** AwaitAsLeader makes the current thread the leader and sleeps until the passed-in delay
+     *  has elapsed, or another thread signals a change. It must be called while holding lock.
+     *
+     * @param nanos The time until the earliest deadline, in nanoseconds.
+     * @return The time left of the delay when the thread woke up, in nanoseconds.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    private long AwaitAsLeader(long nanos) throws InterruptedException {
+        Thread current = Thread.currentThread();
+        leader = current;
+        try {
+            return available.awaitNanos(nanos);
+        } finally {
+            if (leader == current)
+                leader = null;
+        }
+    }
+
+    /** ExtractDue removes every item whose deadline has passed from the queue, in deadline order,
+     *  and adds them to the passed-in collection. The clock is read once, so items that fall due
+     *  while the batch is drained are left for the next call.
+     *
+     * @param out The collection to add the due items to.
+     * @return The number of items removed.
+     * @throws IllegalArgumentException If the out parameter is null.
+     */
+    public int ExtractDue(Collection<? super K> out) throws IllegalArgumentException {
+        return ExtractDue(Integer.MAX_VALUE, out);
+    }
+
+    /** ExtractDue removes up to max items whose deadlines have passed from the queue, in deadline
+     *  order, and adds them to the passed-in collection.
+     *
+     * @param max The maximum number of items to remove.
+     * @param out The collection to add the due items to.
+     * @return The number of items removed.
+     * @throws IllegalArgumentException If max is negative or the out parameter is null.
+     */
+    public int ExtractDue(int max, Collection<? super K> out) throws IllegalArgumentException {
+        if (max < 0)
+            throw new IllegalArgumentException("Error while executing ExtractDue(int, Collection<K>) in TimerQueue: The max parameter (" + max + ") is less than 0!");
+        else if (out == null)
+            throw new IllegalArgumentException("Error while executing ExtractDue(int, Collection<K>) in TimerQueue: The out parameter is null!");
+
+        lock.lock();
+        try {
+            long now = clock.getAsLong();
+            int count = 0;
+            while (count < max && !queue.isEmpty() && queue.FindMinValue() <= now) {
+                out.add(queue.ExtractMin());
+                count++;
+            }
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** FindMin returns the item with the earliest deadline, whether or not it has passed,
+     *  without removing it from the queue.
+     *
+     * @return The item with the earliest deadline, or null if the queue is empty.
+     */
+    public K FindMin() {
+        lock.lock();
+        try {
+            return queue.FindMin();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** getDelay returns how long remains until the earliest deadline.
+     *
+     * @param unit The unit to return the delay in.
+     * @return The time until the earliest deadline, which is zero or negative if it has passed.
+     * @throws IllegalArgumentException If the unit parameter is null.
+     * @throws IllegalStateException If the TimerQueue is empty.
+     */
+    public long getDelay(TimeUnit unit) throws IllegalArgumentException, IllegalStateException {
+        if (unit == null)
+            throw new IllegalArgumentException("Error while executing getDelay(TimeUnit) in TimerQueue: The unit parameter is null!");
+
+        lock.lock();
+        try {
+            return unit.convert(Delay(queue.FindMinValue(), clock.getAsLong()), TimeUnit.MILLISECONDS);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** getDeadline returns the deadline the given item is scheduled for.
+     *
+     * @param item The item whose deadline we wish to read.
+     * @return The item's deadline, in milliseconds since the epoch.
+     * @throws IllegalArgumentException If the item parameter is null.
+     * @throws NullPointerException If the item is not scheduled in the TimerQueue.
+     */
+    public long getDeadline(K item) throws IllegalArgumentException, NullPointerException {
+        lock.lock();
+        try {
+            return queue.getValue(item);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** contains checks whether the given item is scheduled in this TimerQueue.
+     *
+     * @param item The item to look for.
+     * @return True if the item is scheduled.
+     */
+    public boolean contains(K item) {
+        lock.lock();
+        try {
+            return queue.contains(item);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** size returns the number of items scheduled in this TimerQueue, whether due or not.
+     *
+     * @return The number of items in the queue.
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** isEmpty checks whether this TimerQueue is empty.
+     *
+     * @return True if no items are scheduled.
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+}
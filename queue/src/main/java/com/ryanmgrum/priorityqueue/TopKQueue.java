@@ -0,0 +1,391 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue;
+
+import java.util.Collection;
+
+/** The TopKQueue class keeps the best k items offered to it, for selecting the top items of a
+ *  stream too large to hold. It is based on a min-max heap: a binary heap whose even levels are
+ *  ordered like a min-heap and whose odd levels are ordered like a max-heap, so that both the
+ *  smallest and the largest entry can be found in O(1) time and removed in O(log k) time.
+ *
+ *  Depending on retainLargest, the best items are those with the largest or the smallest priority
+ *  values, then items. Once the queue is full, offer compares each new entry with the worst one
+ *  kept, the threshold, and rejects it in O(1) time without allocating if it is not better, or
+ *  evicts the worst entry in O(log k) time otherwise. Unlike PriorityQueue, a full TopKQueue
+ *  never throws, and items are not looked up by key, so the same item may be kept more than once.
+ *
+ *  A TopKQueue is not synchronized; to select from several threads, give each thread its own
+ *  TopKQueue and combine them with merge at the end.
+ *
+ * @param <K> The type of item that will be stored in this TopKQueue.
+ * @param <V> The type of value that will be used to order the items in this TopKQueue.
+ */
+public class TopKQueue<K extends Comparable<? super K>, V extends Comparable<? super V>> {
+    private final HeapNode<K, V>[] heap; // heap contains the HeapNodes that make up the min-max heap, from index 1.
+    private final boolean retainLargest; // Whether the entries with the largest, rather than smallest, priority values are kept.
+    private int size; // The current number of nodes in the heap.
+
+    /** Constructor that creates a new TopKQueue keeping the k entries with the largest priority values.
+     *
+     * @param k The number of entries to keep.
+     * @throws IllegalArgumentException If k is less than 1.
+     */
+    public TopKQueue(int k) throws IllegalArgumentException {
+        this(k, true);
+    }
+
+    /** Constructor that creates a new TopKQueue keeping the k best entries.
+     *
+     * @param k The number of entries to keep.
+     * @param newRetainLargest True to keep the entries with the largest priority values, evicting
+     *  the smallest, or false to keep those with the smallest, evicting the largest.
+     * @throws IllegalArgumentException If k is less than 1, or too large for an array.
+     */
+    @SuppressWarnings("unchecked")
+    public TopKQueue(int k, boolean newRetainLargest) throws IllegalArgumentException {
+        if (k < 1 || k > Integer.MAX_VALUE - 9)
+            throw new IllegalArgumentException("Error while creating TopKQueue: k parameter (" + k + ") is not between 1 and " + (Integer.MAX_VALUE - 9) + "!");
+
+        heap = new HeapNode[k + 1]; // +1 since index 0 is not used, which keeps the parent and child arithmetic simple.
+        retainLargest = newRetainLargest;
+        size = 0;
+    }
+
+    /** Compare compares the passed-in entry with the passed-in node by priority value, then item.
+     *
+     * @param item The item of the entry.
+     * @param value The priority value of the entry.
+     * @param node The node to compare against.
+     * @return < 0 if the entry is less than the node, 0 if equal, and > 0 if greater.
+     */
+    private static <K extends Comparable<? super K>, V extends Comparable<? super V>> int Compare(K item, V value, HeapNode<K, V> node) {
+        int comparison = value.compareTo(node.getValue());
+        return comparison != 0 ? comparison : item.compareTo(node.getKey());
+    }
+
+    /** IsMinLevel checks whether the passed-in index is on a min level of the heap,
+     *  which are the even levels, counting the root as level 0.
+     *
+     * @param index The index to check.
+     * @return True if the node at index is no greater than any node below it.
+     */
+    private static boolean IsMinLevel(int index) {
+        return (Integer.numberOfLeadingZeros(index) & 1) == 1; // Level 31 - nlz(index) is even when nlz(index) is odd.
+    }
+
+    /** Swap exchanges the nodes at the two passed-in indices.
+     *
+     * @param a The index of the first node.
+     * @param b The index of the second node.
+     */
+    private void Swap(int a, int b) {
+        HeapNode<K, V> node = heap[a];
+        heap[a] = heap[b];
+        heap[b] = node;
+    }
+
+    /** Less checks whether the node at index a orders before the node at index b.
+     *
+     * @param a The index of the first node.
+     * @param b The index of the second node.
+     * @return True if the node at a is less than the node at b.
+     */
+    private boolean Less(int a, int b) {
+        return heap[a].compareTo(heap[b]) < 0;
+    }
+
+    /** Heapify_Up shifts the node at the passed-in index up the heap until it is in its proper
+     *  place. It first decides whether the node belongs among the min levels or the max levels
+     *  by comparing it with its parent, and then moves it up through its grandparents.
+     *
+     * @param index The index of the node to shift up.
+     */
+    private void Heapify_Up(int index) {
+        if (index == 1)
+            return;
+
+        int parent = index >>> 1;
+        boolean min = IsMinLevel(index);
+        if (min ? Less(parent, index) : Less(index, parent)) {
+            Swap(index, parent);
+            index = parent;
+            min = !min;
+        }
+
+        // Move the node up through its grandparents on the same kind of level.
+        for (int grandparent = index >>> 2; grandparent >= 1; index = grandparent, grandparent >>>= 2) {
+            if (min ? !Less(index, grandparent) : !Less(grandparent, index))
+                break;
+            Swap(index, grandparent);
+        }
+    }
+
+    /** Heapify_Down shifts the node at the passed-in index down the heap until it is in its
+     *  proper place. On a min level, it swaps the node with the smallest of its children and
+     *  grandchildren while that is smaller, and on a max level with the largest while that is
+     *  larger. After moving to a grandchild, the node may be out of order with the parent it
+     *  passed, in which case the two are swapped.
+     *
+     * @param index The index of the node to shift down.
+     */
+    private void Heapify_Down(int index) {
+        boolean min = IsMinLevel(index);
+        while (2L * index <= size) {
+            // Find the smallest (or largest) of the node's children and grandchildren.
+            int child = 2 * index;
+            int best = child;
+            if (child + 1 <= size && (min ? Less(child + 1, best) : Less(best, child + 1)))
+                best = child + 1;
+            long firstGrandchild = 4L * index;
+            for (long g = firstGrandchild; g < firstGrandchild + 4 && g <= size; g++)
+                if (min ? Less((int) g, best) : Less(best, (int) g))
+                    best = (int) g;
+
+            if (min ? !Less(best, index) : !Less(index, best))
+                return;
+            Swap(index, best);
+            if (best <= child + 1) // A child cannot have any further descendants out of order with it.
+                return;
+
+            int parent = best >>> 1;
+            if (min ? Less(parent, best) : Less(best, parent))
+                Swap(best, parent);
+            index = best;
+        }
+    }
+
+    /** MaxIndex returns the index of the node with the largest priority value, then item.
+     *
+     * @return 1 if the heap holds one node, or whichever of the root's children is larger.
+     */
+    private int MaxIndex() {
+        if (size <= 2)
+            return size;
+        return Less(2, 3) ? 3 : 2;
+    }
+
+    /** WorstIndex returns the index of the node offer would evict next.
+     *
+     * @return The index of the smallest node if retainLargest, or of the largest node otherwise.
+     */
+    private int WorstIndex() {
+        return retainLargest ? 1 : MaxIndex();
+    }
+
+    /** Remove removes the node at the passed-in index, which is either the root or the largest node.
+     *
+     * @param index The index of the node to remove.
+     */
+    private void Remove(int index) {
+        heap[index] = heap[size];
+        heap[size] = null;
+        size--;
+        if (index <= size)
+            Heapify_Down(index);
+    }
+
+    /** Replace puts the passed-in node in place of the node at the passed-in index, which is
+     *  either the root or the largest node, and shifts it to its proper place.
+     *
+     * @param index The index of the node to replace.
+     * @param node The node to put in its place.
+     */
+    private void Replace(int index, HeapNode<K, V> node) {
+        heap[index] = node;
+        if (index != 1 && Less(index, 1))
+            Swap(index, 1); // The new node is the smallest, so the old root takes its place on the max level.
+        Heapify_Down(index);
+    }
+
+    /** offer adds the passed-in item to the TopKQueue if there is room, or if it is better than
+     *  the worst entry kept, which is then evicted. Entries that are no better than the threshold
+     *  of a full queue are rejected in O(1) time.
+     *
+     * @param item The item to offer.
+     * @param value The priority value of the item.
+     * @return True if the item was kept, or false if it was rejected.
+     * @throws IllegalArgumentException If the item or value parameter is null.
+     */
+    public boolean offer(K item, V value) throws IllegalArgumentException {
+        // First check that the item and value parameters are not null.
+        if (item == null)
+            throw new IllegalArgumentException("Error while executing offer(K, V) in TopKQueue: The item parameter is null!");
+        else if (value == null)
+            throw new IllegalArgumentException("Error while executing offer(K, V) in TopKQueue for item \"" + item + "\": The value parameter is null!");
+
+        if (size < heap.length - 1) {
+            size++;
+            heap[size] = new HeapNode<>(item, value);
+            Heapify_Up(size);
+            return true;
+        }
+
+        int worst = WorstIndex();
+        int comparison = Compare(item, value, heap[worst]);
+        if (retainLargest ? comparison <= 0 : comparison >= 0)
+            return false;
+
+        Replace(worst, new HeapNode<>(item, value));
+        return true;
+    }
+
+    /** merge offers every entry of the passed-in TopKQueue to this one, so that this queue keeps
+     *  the best entries of both. The other queue is not changed. Entries below this queue's
+     *  threshold are rejected in O(1) time each, so merging a queue of m entries takes at most
+     *  O(m log k) time, and O(m) time when few of them are kept.
+     *
+     * @param other The TopKQueue whose entries are offered to this one.
+     * @throws IllegalArgumentException If the other parameter is null, is this queue, or
+     *  retains the opposite end of the ordering.
+     */
+    public void merge(TopKQueue<K, V> other) throws IllegalArgumentException {
+        if (other == null)
+            throw new IllegalArgumentException("Error while executing merge(TopKQueue<K, V>) in TopKQueue: The other parameter is null!");
+        else if (other == this)
+            throw new IllegalArgumentException("Error while executing merge(TopKQueue<K, V>) in TopKQueue: A queue cannot be merged with itself!");
+        else if (other.retainLargest != retainLargest)
+            throw new IllegalArgumentException("Error while executing merge(TopKQueue<K, V>) in TopKQueue: The queues retain opposite ends of the ordering!");
+
+        for (int index = 1; index <= other.size; index++)
+            offer(other.heap[index].getKey(), other.heap[index].getValue());
+    }
+
+    /** FindMin returns the item with the minimum value, then natural ordering,
+     *  in this TopKQueue, but does not remove it from the queue.
+     *
+     * @return The lowest-priority value, then item, stored in this queue, or null if the queue is empty.
+     */
+    public K FindMin() {
+        return isEmpty() ? null : heap[1].getKey();
+    }
+
+    /** FindMinValue returns the priority value of the item FindMin returns.
+     *
+     * @return The lowest priority value stored in this queue, or null if the queue is empty.
+     */
+    public V FindMinValue() {
+        return isEmpty() ? null : heap[1].getValue();
+    }
+
+    /** FindMax returns the item with the maximum value, then natural ordering,
+     *  in this TopKQueue, but does not remove it from the queue.
+     *
+     * @return The highest-priority value, then item, stored in this queue, or null if the queue is empty.
+     */
+    public K FindMax() {
+        return isEmpty() ? null : heap[MaxIndex()].getKey();
+    }
+
+    /** FindMaxValue returns the priority value of the item FindMax returns.
+     *
+     * @return The highest priority value stored in this queue, or null if the queue is empty.
+     */
+    public V FindMaxValue() {
+        return isEmpty() ? null : heap[MaxIndex()].getValue();
+    }
+
+    /** getThreshold returns the priority value an entry must beat to be kept by offer: the value
+     *  of the worst entry kept, once the queue is full.
+     *
+     * @return The priority value of the entry offer would evict next, or null if the queue is not full,
+     *  in which case every entry is kept.
+     */
+    public V getThreshold() {
+        return isFull() ? heap[WorstIndex()].getValue() : null;
+    }
+
+    /** ExtractMin removes the entry with the smallest priority value, then smallest
+     *  item based on natural ordering, from the TopKQueue.
+     *
+     * @return The smallest entry in the TopKQueue, or null if the TopKQueue is empty.
+     */
+    public K ExtractMin() {
+        if (isEmpty())
+            return null;
+
+        K result = heap[1].getKey();
+        Remove(1);
+        return result;
+    }
+
+    /** ExtractMax removes the entry with the largest priority value, then largest
+     *  item based on natural ordering, from the TopKQueue.
+     *
+     * @return The largest entry in the TopKQueue, or null if the TopKQueue is empty.
+     */
+    public K ExtractMax() {
+        if (isEmpty())
+            return null;
+
+        int index = MaxIndex();
+        K result = heap[index].getKey();
+        Remove(index);
+        return result;
+    }
+
+    /** ExtractBest removes up to n of the best entries from the TopKQueue, the largest first if
+     *  it retains the largest entries and the smallest first otherwise, and adds them in order
+     *  to the passed-in collection.
+     *
+     * @param n The maximum number of entries to remove.
+     * @param out The collection to add the removed entries to.
+     * @return The number of entries removed, which is less than n only if the queue ran out.
+     * @throws IllegalArgumentException If n is negative or the out parameter is null.
+     */
+    public int ExtractBest(int n, Collection<? super K> out) throws IllegalArgumentException {
+        if (n < 0)
+            throw new IllegalArgumentException("Error while executing ExtractBest(int, Collection<K>) in TopKQueue: The n parameter (" + n + ") is less than 0!");
+        else if (out == null)
+            throw new IllegalArgumentException("Error while executing ExtractBest(int, Collection<K>) in TopKQueue: The out parameter is null!");
+
+        int count = Math.min(n, size);
+        for (int i = 0; i < count; i++)
+            out.add(retainLargest ? ExtractMax() : ExtractMin());
+        return count;
+    }
+
+    /** isRetainingLargest checks which end of the ordering this TopKQueue keeps.
+     *
+     * @return True if the entries with the largest priority values are kept.
+     */
+    public boolean isRetainingLargest() {
+        return retainLargest;
+    }
+
+    /** capacity returns the number of entries this TopKQueue keeps.
+     *
+     * @return k.
+     */
+    public int capacity() {
+        return heap.length - 1;
+    }
+
+    /** size returns the number of entries in this TopKQueue.
+     *
+     * @return The number of entries in the queue.
+     */
+    public int size() {
+        return size;
+    }
+
+    /** isEmpty checks whether this TopKQueue is empty.
+     *
+     * @return True if this TopKQueue is empty.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** isFull checks whether this TopKQueue holds k entries, from when on offer evicts an entry for each one it keeps.
+     *
+     * @return True if this TopKQueue is full.
+     */
+    public boolean isFull() {
+        return size == heap.length - 1;
+    }
+}
@@ -0,0 +1,144 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/** BinaryMinHeapTest checks how a BinaryMinHeap's backing array follows its GrowthPolicy:
+ *  when it grows, when it shrinks again, and what ensureCapacity and trimToSize do.
+ */
+class BinaryMinHeapTest {
+    @Test
+    void boundedHeapRejectsInsertWhenFull() {
+        BinaryMinHeap<Integer, Integer> heap = new BinaryMinHeap<>(2, true, GrowthPolicy.BOUNDED);
+        heap.Insert(1, 1);
+        heap.Insert(2, 2);
+        assertTrue(heap.isFull());
+        assertThrows(OutOfMemoryError.class, () -> heap.Insert(3, 3));
+        heap.Insert(1, 0); // Changing a queued item needs no room.
+        assertEquals(2, heap.capacity());
+        assertEquals(1, heap.ExtractMin());
+    }
+
+    @Test
+    void unboundedHeapGrowsByItsFactor() {
+        BinaryMinHeap<Integer, Integer> heap = new BinaryMinHeap<>(4, true, GrowthPolicy.unbounded());
+        for (int i = 0; i < 4; i++)
+            heap.Insert(i, -i);
+        assertEquals(4, heap.capacity());
+        assertFalse(heap.isFull());
+        heap.Insert(4, -4);
+        assertEquals(8, heap.capacity());
+        for (int i = 5; i < 9; i++)
+            heap.Insert(i, -i);
+        assertEquals(16, heap.capacity());
+        for (int i = 8; i >= 0; i--)
+            assertEquals(i, heap.ExtractMin());
+    }
+
+    @Test
+    void shrinkWaitsForAQuarterAndHalvesTheCapacity() {
+        BinaryMinHeap<Integer, Integer> heap = new BinaryMinHeap<>(4, true, GrowthPolicy.unbounded());
+        for (int i = 0; i < 64; i++)
+            heap.Insert(i, i);
+        assertEquals(64, heap.capacity());
+
+        while (heap.size() > 17)
+            heap.ExtractMin();
+        assertEquals(64, heap.capacity());
+        heap.ExtractMin();
+        assertEquals(32, heap.capacity()); // At a quarter full, the heap halves.
+
+        // Growing back to the new capacity does not resize, so a heap hovering around one size stays put.
+        for (int i = 100; heap.size() < 32; i++)
+            heap.Insert(i, i);
+        assertEquals(32, heap.capacity());
+        heap.Insert(1000, 1000);
+        assertEquals(64, heap.capacity());
+
+        while (!heap.isEmpty())
+            heap.ExtractMin();
+        assertEquals(4, heap.capacity()); // Never below the capacity the heap was created with.
+    }
+
+    @Test
+    void zeroShrinkThresholdNeverShrinks() {
+        BinaryMinHeap<Integer, Integer> heap = new BinaryMinHeap<>(4, true, new GrowthPolicy(2, 0));
+        for (int i = 0; i < 64; i++)
+            heap.Insert(i, i);
+        while (!heap.isEmpty())
+            heap.ExtractMin();
+        assertEquals(64, heap.capacity());
+    }
+
+    @Test
+    void ensureCapacityMakesRoomAhead() {
+        BinaryMinHeap<Integer, Integer> unbounded = new BinaryMinHeap<>(4, true, GrowthPolicy.unbounded());
+        unbounded.ensureCapacity(10);
+        assertEquals(10, unbounded.capacity());
+        unbounded.ensureCapacity(2);
+        assertEquals(10, unbounded.capacity());
+        assertThrows(IllegalArgumentException.class, () -> unbounded.ensureCapacity(-1));
+
+        BinaryMinHeap<Integer, Integer> bounded = new BinaryMinHeap<>(2, true, GrowthPolicy.BOUNDED);
+        bounded.ensureCapacity(5); // For a bounded heap, this raises its maximum size.
+        for (int i = 0; i < 5; i++)
+            bounded.Insert(i, i);
+        assertTrue(bounded.isFull());
+        assertThrows(OutOfMemoryError.class, () -> bounded.Insert(5, 5));
+    }
+
+    @Test
+    void trimToSizeFitsTheArrayToTheItems() {
+        BinaryMinHeap<Integer, Integer> heap = new BinaryMinHeap<>(4, true, GrowthPolicy.unbounded());
+        for (int i = 0; i < 100; i++)
+            heap.Insert(i, i);
+        while (heap.size() > 50)
+            heap.ExtractMin();
+        assertEquals(128, heap.capacity());
+        heap.trimToSize();
+        assertEquals(50, heap.capacity());
+
+        heap.ChangeKey(99, -1); // The keyed index still finds every item after trimming.
+        assertEquals(99, heap.ExtractMin());
+        for (int i = 50; i < 99; i++)
+            assertEquals(i, heap.ExtractMin());
+        heap.trimToSize();
+        assertEquals(4, heap.capacity());
+
+        BinaryMinHeap<Integer, Integer> bounded = new BinaryMinHeap<>(8, true, GrowthPolicy.BOUNDED);
+        bounded.Insert(1, 1);
+        bounded.trimToSize();
+        assertEquals(8, bounded.capacity()); // A bounded heap's capacity is its maximum size.
+    }
+
+    @Test
+    void layoutArityIsBounded() {
+        assertThrows(IllegalArgumentException.class, () -> HeapLayout.dAry(HeapLayout.MAX_ARITY + 1));
+        assertThrows(IllegalArgumentException.class, () -> HeapLayout.cacheAligned(Integer.MAX_VALUE));
+        BinaryMinHeap<Integer, Integer> heap = new BinaryMinHeap<>(4, true, GrowthPolicy.unbounded(), HeapLayout.cacheAligned(HeapLayout.MAX_ARITY));
+        for (int i = 0; i < 100; i++)
+            heap.Insert(i, -i);
+        assertEquals(99, heap.ExtractMin());
+
+        // The widest aligned layout puts its root at index 63, which leaves less room for the heap itself.
+        assertThrows(IllegalArgumentException.class, () -> new BinaryMinHeap<Integer, Integer>(Integer.MAX_VALUE - 9, true, GrowthPolicy.BOUNDED, HeapLayout.cacheAligned(HeapLayout.MAX_ARITY)));
+    }
+
+    @Test
+    void growthPolicyRejectsBadParameters() {
+        assertThrows(IllegalArgumentException.class, () -> new GrowthPolicy(1, 0.25));
+        assertThrows(IllegalArgumentException.class, () -> new GrowthPolicy(2, 0.5));
+        assertThrows(IllegalArgumentException.class, () -> new GrowthPolicy(2, -0.1));
+        assertThrows(IllegalArgumentException.class, () -> new BinaryMinHeap<Integer, Integer>(4, true, null));
+    }
+}
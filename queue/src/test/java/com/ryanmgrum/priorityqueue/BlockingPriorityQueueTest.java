@@ -0,0 +1,194 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/** BlockingPriorityQueueTest checks that producers and consumers of a BlockingPriorityQueue
+ *  wait for each other, and that takeAsync futures are served in order.
+ */
+@Timeout(30)
+class BlockingPriorityQueueTest {
+    @Test
+    void offerReturnsFalseWhenFull() {
+        BlockingPriorityQueue<String, Integer> queue = new BlockingPriorityQueue<>(1);
+        assertTrue(queue.offer("a", 1));
+        assertFalse(queue.offer("b", 2));
+        assertTrue(queue.offer("a", 0)); // Changing a queued item needs no room.
+        assertEquals("a", queue.poll());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    void timedOfferAndPollGiveUp() throws InterruptedException {
+        BlockingPriorityQueue<String, Integer> queue = new BlockingPriorityQueue<>(1);
+        assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+        queue.put("a", 1);
+        assertFalse(queue.offer("b", 2, 10, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void takeWaitsForAnItem() throws Exception {
+        BlockingPriorityQueue<String, Integer> queue = new BlockingPriorityQueue<>(4);
+        AtomicReference<String> taken = new AtomicReference<>();
+        Thread consumer = new Thread(() -> {
+            try {
+                taken.set(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        consumer.start();
+        Thread.sleep(50);
+        queue.put("a", 1);
+        consumer.join();
+        assertEquals("a", taken.get());
+    }
+
+    @Test
+    void putWaitsForRoom() throws Exception {
+        BlockingPriorityQueue<String, Integer> queue = new BlockingPriorityQueue<>(1);
+        queue.put("a", 1);
+        CountDownLatch started = new CountDownLatch(1);
+        Thread producer = new Thread(() -> {
+            started.countDown();
+            try {
+                queue.put("b", 2);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+        started.await();
+        Thread.sleep(50);
+        assertEquals(1, queue.size());
+        assertEquals("a", queue.take());
+        producer.join();
+        assertEquals("b", queue.take());
+    }
+
+    @Test
+    void takeAsyncFuturesAreServedInOrder() throws Exception {
+        BlockingPriorityQueue<String, Integer> queue = new BlockingPriorityQueue<>(4);
+        CompletableFuture<String> first = queue.takeAsync(), second = queue.takeAsync();
+        queue.put("x", 5);
+        queue.put("y", 1);
+        assertEquals("x", first.get(1, TimeUnit.SECONDS));
+        assertEquals("y", second.get(1, TimeUnit.SECONDS));
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void cancelledTakeAsyncGivesUpItsPlace() throws Exception {
+        BlockingPriorityQueue<String, Integer> queue = new BlockingPriorityQueue<>(4);
+        CompletableFuture<String> cancelled = queue.takeAsync(), waiting = queue.takeAsync();
+        cancelled.cancel(false);
+        queue.put("a", 1);
+        assertEquals("a", waiting.get(1, TimeUnit.SECONDS));
+        queue.put("b", 2);
+        assertEquals("b", queue.take());
+    }
+
+    @Test
+    void producersAndConsumersExchangeEveryItem() throws Exception {
+        BlockingPriorityQueue<Integer, Integer> queue = new BlockingPriorityQueue<>(8);
+        int producers = 4, perProducer = 5000;
+        boolean[] seen = new boolean[producers * perProducer];
+        Thread[] threads = new Thread[producers];
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            threads[p] = new Thread(() -> {
+                try {
+                    for (int i = 0; i < perProducer; i++)
+                        queue.put(base + i, i);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            threads[p].start();
+        }
+        for (int i = 0; i < seen.length; i++) {
+            int item = queue.take();
+            assertFalse(seen[item]);
+            seen[item] = true;
+        }
+        for (Thread thread : threads)
+            thread.join();
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void cancelledAndTimedOutTakeAsyncCallsLeaveTheLine() throws Exception {
+        BlockingPriorityQueue<String, Integer> queue = new BlockingPriorityQueue<>(4);
+        for (int i = 0; i < 1000; i++)
+            queue.takeAsync().cancel(false);
+        assertEquals(0, queue.pendingTakes());
+
+        CompletableFuture<String> timedOut = queue.takeAsync().orTimeout(10, TimeUnit.MILLISECONDS);
+        CompletableFuture<String> waiting = queue.takeAsync();
+        assertThrows(ExecutionException.class, () -> timedOut.get(1, TimeUnit.SECONDS));
+        assertEquals(1, queue.pendingTakes());
+        queue.put("a", 1);
+        assertEquals("a", waiting.get(1, TimeUnit.SECONDS));
+        assertEquals(0, queue.pendingTakes());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void offersRacingACancelledTakeAsyncRespectTheBound() throws Exception {
+        BlockingPriorityQueue<Integer, Integer> queue = new BlockingPriorityQueue<>(1);
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        AtomicReference<CompletableFuture<Integer>> future = new AtomicReference<>();
+        AtomicBoolean otherAccepted = new AtomicBoolean();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        int rounds = 5000;
+        // Each round, one producer cancels the pending takeAsync and offers 99, while this thread
+        // offers 1. Whichever lands first, the queue must never hold more than one item.
+        Thread other = new Thread(() -> {
+            try {
+                for (int round = 0; round < rounds; round++) {
+                    barrier.await();
+                    future.get().cancel(false);
+                    otherAccepted.set(queue.offer(99, 99));
+                    barrier.await();
+                }
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        other.start();
+        for (int round = 0; round < rounds; round++) {
+            future.set(queue.takeAsync());
+            barrier.await();
+            boolean accepted = round % 2 == 0 ? queue.offer(1, 1) : queue.offer(1, 1, 0, TimeUnit.MILLISECONDS);
+            barrier.await();
+
+            int handedOver = future.get().isCancelled() ? 0 : 1;
+            assertEquals((accepted ? 1 : 0) + (otherAccepted.get() ? 1 : 0), queue.size() + handedOver);
+            assertTrue(queue.size() <= 1);
+            queue.poll();
+        }
+        other.join();
+        assertNull(failure.get());
+        assertEquals(0, queue.pendingTakes());
+    }
+}
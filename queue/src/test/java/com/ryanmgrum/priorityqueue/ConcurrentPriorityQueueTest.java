@@ -0,0 +1,183 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/** ConcurrentPriorityQueueTest checks both modes of ConcurrentPriorityQueue, alone and under
+ *  concurrent use.
+ */
+@Timeout(60)
+class ConcurrentPriorityQueueTest {
+    /** modes returns a factory for an empty queue of each mode.
+     *
+     * @return The name and factory of each mode.
+     */
+    static Stream<Arguments> modes() {
+        return Stream.of(
+            Arguments.of("strict", (Supplier<ConcurrentPriorityQueue<Integer, Integer>>) ConcurrentPriorityQueue::strict),
+            Arguments.of("relaxed", (Supplier<ConcurrentPriorityQueue<Integer, Integer>>) () -> ConcurrentPriorityQueue.relaxed(4)));
+    }
+
+    @Test
+    void strictQueueExtractsInOrder() {
+        ConcurrentPriorityQueue<String, Integer> queue = ConcurrentPriorityQueue.strict();
+        assertFalse(queue.isRelaxed());
+        queue.Insert("c", 3);
+        queue.Insert("a", 1);
+        queue.Insert("b", 2);
+        queue.ChangeKey("c", 0);
+        queue.Delete("b");
+        assertEquals("c", queue.FindMin());
+        assertEquals("c", queue.ExtractMin());
+        assertEquals("a", queue.ExtractMin());
+        assertNull(queue.ExtractMin());
+    }
+
+    @Test
+    void relaxedQueueWithOneShardIsExact() {
+        ConcurrentPriorityQueue<Integer, Integer> queue = ConcurrentPriorityQueue.relaxed(1);
+        assertTrue(queue.isRelaxed());
+        for (int i = 0; i < 100; i++)
+            queue.Insert(i, 100 - i);
+        for (int i = 99; i >= 0; i--) {
+            assertEquals(i, queue.FindMin());
+            assertEquals(i, queue.ExtractMin());
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("modes")
+    void missingItemsThrow(String name, Supplier<ConcurrentPriorityQueue<Integer, Integer>> factory) {
+        ConcurrentPriorityQueue<Integer, Integer> queue = factory.get();
+        assertThrows(NullPointerException.class, () -> queue.ChangeKey(1, 1));
+        assertThrows(NullPointerException.class, () -> queue.Delete(1));
+        assertThrows(IllegalArgumentException.class, () -> queue.Insert(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> queue.Insert(1, null));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("modes")
+    void everyItemIsExtractedExactlyOnce(String name, Supplier<ConcurrentPriorityQueue<Integer, Integer>> factory) throws InterruptedException {
+        ConcurrentPriorityQueue<Integer, Integer> queue = factory.get();
+        int threads = 4, perThread = 20_000;
+        AtomicIntegerArray extracted = new AtomicIntegerArray(threads * perThread);
+        Thread[] workers = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int base = t * perThread;
+            workers[t] = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    queue.Insert(base + i, (base + i) % 1000);
+                    if (i % 2 == 1) {
+                        Integer item = queue.ExtractMin();
+                        if (item != null)
+                            extracted.incrementAndGet(item);
+                    }
+                }
+            });
+            workers[t].start();
+        }
+        for (Thread worker : workers)
+            worker.join();
+
+        for (Integer item; (item = queue.ExtractMin()) != null; )
+            extracted.incrementAndGet(item);
+        for (int i = 0; i < extracted.length(); i++)
+            assertEquals(1, extracted.get(i), "item " + i);
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    void strictChangeKeyNeverHidesTheItemFromExtractMin() throws InterruptedException {
+        ConcurrentPriorityQueue<Integer, Integer> queue = ConcurrentPriorityQueue.strict();
+        queue.Insert(0, 0);
+        AtomicBoolean done = new AtomicBoolean();
+        Thread changer = new Thread(() -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            while (!done.get())
+                try {
+                    queue.ChangeKey(0, random.nextInt(1000));
+                } catch (NullPointerException e) {
+                    // ExtractMin holds the item for a moment before putting it back.
+                }
+        });
+        changer.start();
+        try {
+            // The item is only ever out of the queue while this thread holds it, so every
+            // ExtractMin must find it, however its node is being replaced.
+            for (int i = 0; i < 200_000; i++) {
+                assertEquals(0, queue.ExtractMin());
+                queue.Insert(0, i % 1000);
+            }
+        } finally {
+            done.set(true);
+            changer.join();
+        }
+        assertEquals(1, queue.size());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("modes")
+    void changeKeyRacingExtractMinLosesNoItem(String name, Supplier<ConcurrentPriorityQueue<Integer, Integer>> factory) throws InterruptedException {
+        ConcurrentPriorityQueue<Integer, Integer> queue = factory.get();
+        int items = 50_000;
+        for (int i = 0; i < items; i++)
+            queue.Insert(i, i);
+        AtomicIntegerArray extracted = new AtomicIntegerArray(items);
+        AtomicBoolean done = new AtomicBoolean();
+        Thread[] changers = new Thread[2], extractors = new Thread[2];
+        for (int t = 0; t < changers.length; t++) {
+            changers[t] = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                while (!done.get()) {
+                    int item = random.nextInt(items);
+                    try {
+                        queue.ChangeKey(item, random.nextInt(items));
+                    } catch (NullPointerException e) {
+                        // The item was already extracted.
+                    }
+                }
+            });
+            changers[t].start();
+        }
+        for (int t = 0; t < extractors.length; t++) {
+            extractors[t] = new Thread(() -> {
+                for (Integer item; (item = queue.ExtractMin()) != null; )
+                    extracted.incrementAndGet(item);
+            });
+            extractors[t].start();
+        }
+        for (Thread extractor : extractors)
+            extractor.join();
+        done.set(true);
+        for (Thread changer : changers)
+            changer.join();
+
+        // The extractors may stop early if they see the queue empty, so drain what is left.
+        for (Integer item; (item = queue.ExtractMin()) != null; )
+            extracted.incrementAndGet(item);
+        for (int i = 0; i < items; i++)
+            assertEquals(1, extracted.get(i), "item " + i);
+    }
+}
@@ -0,0 +1,76 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+/** DoublePriorityQueueTest checks that double priority values keep their order, and their
+ *  exact value, through the LongPriorityQueue they are stored in.
+ */
+class DoublePriorityQueueTest {
+    @Test
+    void ordersSpecialValuesLikeDoubleCompare() {
+        double[] values = {Double.POSITIVE_INFINITY, 0.0, -0.0, Double.MIN_VALUE, -Double.MIN_VALUE,
+            Double.MAX_VALUE, -Double.MAX_VALUE, Double.NEGATIVE_INFINITY, 1.5, -1.5};
+        DoublePriorityQueue<Integer> queue = new DoublePriorityQueue<>(values.length);
+        for (int i = 0; i < values.length; i++)
+            queue.Insert(i, values[i]);
+
+        double[] sorted = values.clone();
+        Arrays.sort(sorted); // Arrays.sort orders doubles as Double.compare does.
+        for (double expected : sorted) {
+            assertEquals(expected, queue.FindMinValue());
+            int item = queue.ExtractMin();
+            assertEquals(Double.doubleToRawLongBits(values[item]), Double.doubleToRawLongBits(expected));
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void matchesSortingRandomValues() {
+        SplittableRandom random = new SplittableRandom(23);
+        double[] values = new double[5000];
+        DoublePriorityQueue<Integer> queue = new DoublePriorityQueue<>(1, GrowthPolicy.unbounded());
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(-20, 20));
+            queue.Insert(i, values[i]);
+        }
+        for (int i = 0; i < values.length; i += 3) {
+            values[i] = -values[i];
+            queue.ChangeKey(i, values[i]);
+            assertEquals(values[i], queue.getValue(i));
+        }
+        Arrays.sort(values);
+        for (double expected : values) {
+            assertEquals(expected, queue.FindMinValue());
+            queue.ExtractMin();
+        }
+    }
+
+    @Test
+    void rejectsNaNAndMissingItems() {
+        DoublePriorityQueue<String> queue = new DoublePriorityQueue<>(1);
+        assertThrows(IllegalArgumentException.class, () -> queue.Insert("a", Double.NaN));
+        assertThrows(IllegalStateException.class, queue::FindMinValue);
+        queue.Insert("a", 1.0);
+        assertThrows(IllegalArgumentException.class, () -> queue.ChangeKey("a", Double.NaN));
+        assertThrows(OutOfMemoryError.class, () -> queue.Insert("b", 2.0));
+        NullPointerException missing = assertThrows(NullPointerException.class, () -> queue.ChangeKey("b", 2.0));
+        assertTrue(missing.getMessage().contains("ChangeKey(K, double) in DoublePriorityQueue"));
+        missing = assertThrows(NullPointerException.class, () -> queue.Delete("b"));
+        assertTrue(missing.getMessage().contains("Delete(K) in DoublePriorityQueue"));
+        missing = assertThrows(NullPointerException.class, () -> queue.getValue("b"));
+        assertTrue(missing.getMessage().contains("getValue(K) in DoublePriorityQueue"));
+    }
+}
@@ -0,0 +1,278 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+/** DurablePriorityQueueTest checks that a DurablePriorityQueue recovers what was logged from its
+ *  snapshot and logs, including after the damage a crash can leave behind.
+ */
+@Timeout(60)
+class DurablePriorityQueueTest {
+    @TempDir
+    Path directory; // A fresh directory for each test.
+
+    /** open opens the queue in the test directory.
+     *
+     * @param fsync The FsyncPolicy to use.
+     * @param snapshotThreshold The number of log records after which a snapshot is taken.
+     * @return The recovered queue.
+     * @throws IOException If the queue cannot be recovered.
+     */
+    private DurablePriorityQueue<Integer, Long> open(FsyncPolicy fsync, long snapshotThreshold) throws IOException {
+        return DurablePriorityQueue.open(directory, Codec.INTEGER, Codec.LONG, fsync, snapshotThreshold);
+    }
+
+    /** drain extracts every item from the queue, in order.
+     *
+     * @param queue The queue to drain.
+     * @return The extracted items.
+     */
+    private static List<Integer> drain(DurablePriorityQueue<Integer, Long> queue) {
+        List<Integer> items = new ArrayList<>();
+        for (Integer item; (item = queue.ExtractMin()) != null; )
+            items.add(item);
+        return items;
+    }
+
+    /** order returns the items of the passed-in map in the order a queue would extract them.
+     *
+     * @param expected The items and their priority values.
+     * @return The items, ordered by value and then by item.
+     */
+    private static List<Integer> order(Map<Integer, Long> expected) {
+        List<Integer> items = new ArrayList<>(expected.keySet());
+        items.sort((a, b) -> expected.get(a).equals(expected.get(b)) ? a.compareTo(b) : expected.get(a).compareTo(expected.get(b)));
+        return items;
+    }
+
+    /** logs returns the log files in the test directory, oldest first.
+     *
+     * @return The paths of the logs.
+     * @throws IOException If the directory cannot be listed.
+     */
+    private List<Path> logs() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().startsWith("wal-"))
+                .sorted((a, b) -> Long.compare(generation(a), generation(b)))
+                .toList();
+        }
+    }
+
+    /** generation returns the generation in the name of the passed-in log.
+     *
+     * @param log The path of the log.
+     * @return The generation of the log.
+     */
+    private static long generation(Path log) {
+        String name = log.getFileName().toString();
+        return Long.parseLong(name.substring("wal-".length(), name.length() - ".log".length()));
+    }
+
+    @Test
+    void recoversFromSnapshotAndLogs() throws IOException {
+        Map<Integer, Long> expected = new TreeMap<>();
+        try (DurablePriorityQueue<Integer, Long> queue = open(FsyncPolicy.NEVER, 16)) {
+            for (int i = 0; i < 100; i++) {
+                queue.Insert(i, (long) (i * 37 % 101));
+                expected.put(i, (long) (i * 37 % 101));
+            }
+            for (int i = 0; i < 100; i += 7) {
+                queue.ChangeKey(i, (long) -i);
+                expected.put(i, (long) -i);
+            }
+            for (int i = 3; i < 100; i += 11) {
+                queue.Delete(i);
+                expected.remove(i);
+            }
+            for (int i = 0; i < 5; i++)
+                expected.remove(queue.ExtractMin());
+            assertNull(queue.lastSnapshotFailure());
+        }
+        assertTrue(Files.exists(directory.resolve("snapshot")));
+        assertTrue(logs().size() <= 2); // The logs the snapshot covers are gone.
+
+        try (DurablePriorityQueue<Integer, Long> queue = open(FsyncPolicy.NEVER, 16)) {
+            assertEquals(expected.size(), queue.size());
+            assertEquals(order(expected), drain(queue));
+        }
+        try (DurablePriorityQueue<Integer, Long> queue = open(FsyncPolicy.NEVER, 16)) {
+            assertTrue(queue.isEmpty()); // The ExtractMins of drain were logged too.
+        }
+    }
+
+    @Test
+    void tornTailOfTheLastLogIsCutOff() throws IOException {
+        try (DurablePriorityQueue<Integer, Long> queue = open(FsyncPolicy.ALWAYS, 1000)) {
+            queue.Insert(1, 10L);
+            queue.Insert(2, 20L);
+            queue.Insert(3, 30L);
+        }
+        Path last = logs().get(logs().size() - 1);
+        long length = Files.size(last);
+        // A record header promising more bytes than a crash let reach the disk.
+        Files.write(last, new byte[] {0, 0, 0, 40, 1, 2, 3, 4, 1, 0}, StandardOpenOption.APPEND);
+
+        try (DurablePriorityQueue<Integer, Long> queue = open(FsyncPolicy.ALWAYS, 1000)) {
+            assertEquals(length, Files.size(last));
+            assertEquals(3, queue.size());
+            queue.Insert(4, 5L);
+        }
+        try (DurablePriorityQueue<Integer, Long> queue = open(FsyncPolicy.ALWAYS, 1000)) {
+            assertEquals(List.of(4, 1, 2, 3), drain(queue));
+        }
+    }
+
+    @Test
+    void recordWithABadChecksumAtTheEndIsCutOff() throws IOException {
+        try (DurablePriorityQueue<Integer, Long> queue = open(FsyncPolicy.NEVER, 1000)) {
+            queue.Insert(1, 10L);
+            queue.Insert(2, 20L);
+        }
+        Path last = logs().get(logs().size() - 1);
+        byte[] bytes = Files.readAllBytes(last);
+        bytes[bytes.length - 1] ^= 1; // The last value byte of the second record.
+        Files.write(last, bytes);
+
+        try (DurablePriorityQueue<Integer, Long> queue = open(FsyncPolicy.NEVER, 1000)) {
+            assertEquals(List.of(1), drain(queue));
+        }
+    }
+
+    @Test
+    void corruptLogBeforeTheLastFailsRecovery() throws IOException {
+        try (DurablePriorityQueue<Integer, Long> queue = open(FsyncPolicy.NEVER, 1000)) {
+            queue.Insert(1, 10L);
+            queue.Insert(2, 20L);
+        }
+        try (DurablePriorityQueue<Integer, Long> queue = open(FsyncPolicy.NEVER, 1000)) {
+            queue.Insert(3, 30L);
+        }
+        List<Path> logs = logs();
+        assertTrue(logs.size() >= 2);
+        Path first = logs.get(0);
+        byte[] bytes = Files.readAllBytes(first);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(first, bytes);
+
+        // Only the end of the newest log can be torn by a crash; cutting an older one would lose the records after it.
+        assertThrows(IOException.class, () -> open(FsyncPolicy.NEVER, 1000));
+        assertArrayEquals(bytes, Files.readAllBytes(first));
+    }
+
+    @Test
+    void crashBeforeTheSnapshotRenameKeepsTheOldSnapshot() throws IOException {
+        try (DurablePriorityQueue<Integer, Long> queue = open(FsyncPolicy.NEVER, 1000)) {
+            queue.Insert(1, 10L);
+            queue.Insert(2, 20L);
+            queue.snapshot();
+            queue.Insert(3, 30L);
+            queue.Delete(1);
+        }
+        // A crash after the new snapshot was partly written, but before it was renamed into place.
+        byte[] snapshot = Files.readAllBytes(directory.resolve("snapshot"));
+        Files.write(directory.resolve("snapshot.tmp"), Arrays.copyOf(snapshot, snapshot.length / 2));
+
+        try (DurablePriorityQueue<Integer, Long> queue = open(FsyncPolicy.NEVER, 1000)) {
+            assertFalse(Files.exists(directory.resolve("snapshot.tmp")));
+            assertEquals(List.of(2, 3), drain(queue));
+        }
+    }
+
+    @Test
+    void failedSnapshotDoesNotFailTheOperation() throws IOException {
+        try (DurablePriorityQueue<Integer, Long> queue = open(FsyncPolicy.NEVER, 4)) {
+            // A non-empty directory in the way of the temporary file makes every snapshot fail.
+            Path blocker = Files.createDirectories(directory.resolve("snapshot.tmp").resolve("blocker"));
+            for (int i = 0; i < 10; i++)
+                queue.Insert(i, (long) i);
+            assertNotNull(queue.lastSnapshotFailure());
+            assertEquals(10, queue.size());
+
+            // Retrying with nothing logged since the last attempt must not start another log.
+            assertThrows(IOException.class, queue::snapshot);
+            int count = logs().size();
+            assertThrows(IOException.class, queue::snapshot);
+            assertThrows(IOException.class, queue::snapshot);
+            assertEquals(count, logs().size());
+
+            Files.delete(blocker);
+            Files.delete(blocker.getParent());
+            for (int i = 10; i < 20; i++)
+                queue.Insert(i, (long) i);
+            assertNull(queue.lastSnapshotFailure());
+            assertTrue(Files.exists(directory.resolve("snapshot")));
+        }
+        try (DurablePriorityQueue<Integer, Long> queue = open(FsyncPolicy.NEVER, 4)) {
+            assertEquals(20, queue.size());
+            for (int i = 0; i < 20; i++)
+                assertEquals(i, queue.ExtractMin());
+        }
+    }
+
+    @Test
+    void interruptedThreadCanStillLog() throws IOException {
+        try (DurablePriorityQueue<Integer, Long> queue = open(FsyncPolicy.ALWAYS, 1000)) {
+            Thread.currentThread().interrupt();
+            try {
+                queue.Insert(1, 10L);
+                queue.Insert(2, 20L);
+            } finally {
+                assertTrue(Thread.interrupted());
+            }
+            queue.Insert(3, 30L);
+        }
+        try (DurablePriorityQueue<Integer, Long> queue = open(FsyncPolicy.ALWAYS, 1000)) {
+            assertEquals(List.of(1, 2, 3), drain(queue));
+        }
+    }
+
+    @Test
+    void concurrentThreadsShareFlushes() throws Exception {
+        int threads = 4, perThread = 250;
+        try (DurablePriorityQueue<Integer, Long> queue = open(FsyncPolicy.ALWAYS, 300)) {
+            Thread[] workers = new Thread[threads];
+            for (int t = 0; t < threads; t++) {
+                int base = t * perThread;
+                workers[t] = new Thread(() -> {
+                    for (int i = 0; i < perThread; i++)
+                        queue.Insert(base + i, (long) (base + i));
+                });
+                workers[t].start();
+            }
+            for (Thread worker : workers)
+                worker.join();
+            assertEquals(threads * perThread, queue.size());
+        }
+        try (DurablePriorityQueue<Integer, Long> queue = open(FsyncPolicy.ALWAYS, 300)) {
+            assertEquals(threads * perThread, queue.size());
+            for (int i = 0; i < threads * perThread; i++)
+                assertEquals(i, queue.ExtractMin());
+        }
+    }
+}
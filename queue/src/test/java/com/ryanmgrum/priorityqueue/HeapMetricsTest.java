@@ -0,0 +1,133 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.Test;
+
+/** HeapMetricsTest checks what a PriorityQueue records into its HeapMetrics. The queue
+ *  module's pom starts the test JVM with -Dcom.ryanmgrum.priorityqueue.metrics=true, so
+ *  HeapMetrics.ENABLED is set here.
+ */
+class HeapMetricsTest {
+    @Test
+    void countsEachOperationAndTheHighWaterSize() {
+        PriorityQueue<Integer, Integer> queue = new PriorityQueue<>(4, GrowthPolicy.unbounded());
+        assertNull(queue.getMetrics());
+        HeapMetrics metrics = queue.enableMetrics();
+        assertSame(metrics, queue.enableMetrics());
+        assertSame(metrics, queue.getMetrics());
+
+        for (int i = 0; i < 10; i++)
+            queue.Insert(i, 10 - i);
+        queue.ChangeKey(3, 0);
+        queue.ChangeKey(4, 20);
+        queue.Delete(5);
+        for (int i = 0; i < 3; i++)
+            queue.ExtractMin();
+
+        assertEquals(10, metrics.getOperations(HeapMetrics.Operation.INSERT));
+        assertEquals(2, metrics.getOperations(HeapMetrics.Operation.CHANGE_KEY));
+        assertEquals(1, metrics.getOperations(HeapMetrics.Operation.DELETE));
+        assertEquals(3, metrics.getOperations(HeapMetrics.Operation.EXTRACT_MIN));
+        assertEquals(Map.of("INSERT", 10L, "EXTRACT_MIN", 3L, "CHANGE_KEY", 2L, "DELETE", 1L), metrics.getOperations());
+        assertEquals(10, metrics.getHighWaterSize());
+        assertEquals(0, metrics.getFullRejections());
+
+        // Every call lands in exactly one latency bucket.
+        assertEquals(10, Arrays.stream(metrics.getLatencyHistogram(HeapMetrics.Operation.INSERT)).sum());
+        assertEquals(3, Arrays.stream(metrics.getLatencyHistogram(HeapMetrics.Operation.EXTRACT_MIN)).sum());
+        assertTrue(metrics.getLatencyPercentile(HeapMetrics.Operation.INSERT, 50) <= metrics.getLatencyPercentile(HeapMetrics.Operation.INSERT, 99));
+
+        // Inserting in descending order moves each new node to the root.
+        assertTrue(metrics.getSifts() > 0);
+        assertTrue(metrics.getMoves() > 0);
+        assertTrue(metrics.getComparisons() >= metrics.getMoves());
+        assertEquals((double) metrics.getComparisons() / metrics.getSifts(), metrics.getComparisonsPerSift());
+    }
+
+    @Test
+    void batchesCountEachItemButNoLatency() {
+        PriorityQueue<Integer, Integer> queue = new PriorityQueue<>(8);
+        HeapMetrics metrics = queue.enableMetrics();
+        queue.InsertAll(Map.of(1, 1, 2, 2, 3, 3, 4, 4, 5, 5));
+        queue.ChangeKeys(Map.of(1, 6, 2, 7));
+        queue.ExtractMin(3, new ArrayList<>());
+
+        assertEquals(5, metrics.getOperations(HeapMetrics.Operation.INSERT));
+        assertEquals(2, metrics.getOperations(HeapMetrics.Operation.CHANGE_KEY));
+        assertEquals(3, metrics.getOperations(HeapMetrics.Operation.EXTRACT_MIN));
+        assertEquals(0, Arrays.stream(metrics.getLatencyHistogram(HeapMetrics.Operation.INSERT)).sum());
+        assertEquals(0, metrics.getLatencyPercentile(HeapMetrics.Operation.INSERT, 99));
+        assertEquals(5, metrics.getHighWaterSize());
+    }
+
+    @Test
+    void countsCallsRejectedByAFullQueue() {
+        PriorityQueue<Integer, Integer> queue = new PriorityQueue<>(1);
+        HeapMetrics metrics = queue.enableMetrics();
+        queue.Insert(1, 1);
+        assertThrows(OutOfMemoryError.class, () -> queue.Insert(2, 2));
+        queue.Insert(1, 0); // Changing a queued item is not a rejection.
+        assertEquals(1, metrics.getFullRejections());
+
+        // A rejected batch counts once, however many items it held.
+        assertThrows(OutOfMemoryError.class, () -> queue.InsertAll(Map.of(2, 2, 3, 3)));
+        PriorityQueue<Integer, Integer> other = new PriorityQueue<>(4, GrowthPolicy.unbounded());
+        other.Insert(4, 4);
+        assertThrows(OutOfMemoryError.class, () -> queue.meld(other));
+        assertEquals(3, metrics.getFullRejections());
+    }
+
+    @Test
+    void resetClearsEveryCounter() {
+        PriorityQueue<Integer, Integer> queue = new PriorityQueue<>(4);
+        HeapMetrics metrics = queue.enableMetrics();
+        queue.Insert(2, 2);
+        queue.Insert(1, 1);
+        metrics.reset();
+
+        assertEquals(0, metrics.getOperations(HeapMetrics.Operation.INSERT));
+        assertEquals(0, metrics.getSifts());
+        assertEquals(0, metrics.getComparisonsPerSift());
+        assertEquals(0, metrics.getHighWaterSize());
+        assertEquals(0, Arrays.stream(metrics.getLatencyHistogram(HeapMetrics.Operation.INSERT)).sum());
+        assertThrows(IllegalArgumentException.class, () -> metrics.getLatencyPercentile(HeapMetrics.Operation.INSERT, 101));
+        assertThrows(IllegalArgumentException.class, () -> metrics.getLatencyPercentile(HeapMetrics.Operation.INSERT, Double.NaN));
+    }
+
+    @Test
+    void registerExportsAnMXBeanUntilUnregistered() throws Exception {
+        HeapMetrics metrics = new PriorityQueue<Integer, Integer>(4).enableMetrics();
+        ObjectName name = new ObjectName("com.ryanmgrum.priorityqueue:type=HeapMetrics,name=" + ObjectName.quote("HeapMetricsTest"));
+        metrics.register("HeapMetricsTest");
+        try {
+            assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+            assertEquals(0L, ManagementFactory.getPlatformMBeanServer().getAttribute(name, "FullRejections"));
+            assertThrows(IllegalStateException.class, () -> metrics.register("HeapMetricsTest"));
+            HeapMetrics other = new HeapMetrics();
+            assertThrows(IllegalStateException.class, () -> other.register("HeapMetricsTest"));
+        } finally {
+            metrics.unregister();
+        }
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+        metrics.unregister(); // Unregistering twice does nothing.
+    }
+}
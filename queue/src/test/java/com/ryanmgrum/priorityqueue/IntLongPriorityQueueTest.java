@@ -0,0 +1,122 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+/** IntLongPriorityQueueTest checks IntLongPriorityQueue, whose items are the ints 0 to
+ *  maxItem - 1 and whose positions are kept in an array indexed by the item.
+ */
+class IntLongPriorityQueueTest {
+    @Test
+    void extractsInValueThenItemOrder() {
+        IntLongPriorityQueue queue = new IntLongPriorityQueue(8);
+        queue.Insert(5, 3);
+        queue.Insert(2, 1);
+        queue.Insert(1, 1);
+        queue.Insert(7, -5);
+        assertEquals(7, queue.FindMin());
+        assertEquals(-5, queue.FindMinValue());
+        assertEquals(7, queue.ExtractMin());
+        assertEquals(1, queue.ExtractMin());
+        assertEquals(2, queue.ExtractMin());
+        assertEquals(5, queue.ExtractMin());
+        assertEquals(-1, queue.ExtractMin());
+        assertEquals(-1, queue.FindMin());
+        assertThrows(IllegalStateException.class, queue::FindMinValue);
+    }
+
+    @Test
+    void insertOfAQueuedItemChangesItsValue() {
+        IntLongPriorityQueue queue = new IntLongPriorityQueue(4);
+        queue.Insert(0, 10);
+        queue.Insert(1, 20);
+        queue.Insert(1, 5);
+        assertEquals(2, queue.size());
+        assertEquals(5, queue.getValue(1));
+        assertEquals(1, queue.ExtractMin());
+    }
+
+    @Test
+    void holdsEveryItemAtOnce() {
+        IntLongPriorityQueue queue = new IntLongPriorityQueue(3);
+        for (int i = 0; i < 3; i++)
+            queue.Insert(i, -i);
+        assertTrue(queue.isFull());
+        queue.Delete(1);
+        assertFalse(queue.isFull());
+        assertFalse(queue.contains(1));
+        assertEquals(2, queue.ExtractMin());
+        assertEquals(0, queue.ExtractMin());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void itemsOutsideTheRangeAndMissingItemsThrow() {
+        IntLongPriorityQueue queue = new IntLongPriorityQueue(4);
+        assertThrows(IllegalArgumentException.class, () -> new IntLongPriorityQueue(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> queue.Insert(4, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> queue.Insert(-1, 1));
+        assertFalse(queue.contains(4));
+        assertFalse(queue.contains(-1));
+        queue.Insert(0, 1);
+        assertThrows(NullPointerException.class, () -> queue.Delete(3));
+        assertThrows(NullPointerException.class, () -> queue.ChangeKey(3, 2));
+        assertThrows(NullPointerException.class, () -> queue.getValue(3));
+    }
+
+    @Test
+    void matchesTreeSetUnderRandomOperations() {
+        SplittableRandom random = new SplittableRandom(5);
+        IntLongPriorityQueue queue = new IntLongPriorityQueue(300);
+        long[] values = new long[300];
+        TreeSet<Long> expected = new TreeSet<>(); // Holds value * 1000 + item, which orders like the queue.
+
+        for (int step = 0; step < 100_000; step++) {
+            int item = random.nextInt(values.length);
+            long value = random.nextInt(1_000_000);
+            boolean queued = queue.contains(item);
+            switch (random.nextInt(5)) {
+                case 0:
+                case 1:
+                    if (queued)
+                        expected.remove(values[item] * 1000 + item);
+                    queue.Insert(item, value);
+                    values[item] = value;
+                    expected.add(value * 1000 + item);
+                    break;
+                case 2:
+                    if (queued) {
+                        queue.ChangeKey(item, value);
+                        expected.remove(values[item] * 1000 + item);
+                        values[item] = value;
+                        expected.add(value * 1000 + item);
+                    }
+                    break;
+                case 3:
+                    if (queued) {
+                        queue.Delete(item);
+                        expected.remove(values[item] * 1000 + item);
+                    }
+                    break;
+                default:
+                    int min = queue.ExtractMin();
+                    Long first = expected.pollFirst();
+                    assertEquals(first == null ? -1 : (int) (first % 1000), min);
+            }
+            assertEquals(expected.size(), queue.size());
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+/** LongPriorityQueueTest checks the primitive LongPriorityQueue, including the renumbering of
+ *  item slots when the queue shrinks below the highest slot handed out.
+ */
+class LongPriorityQueueTest {
+    @Test
+    void extractsInValueThenItemOrder() {
+        LongPriorityQueue<String> queue = new LongPriorityQueue<>(8);
+        queue.Insert("c", 3);
+        queue.Insert("b", 1);
+        queue.Insert("a", 1);
+        queue.Insert("d", -5);
+        assertEquals("d", queue.FindMin());
+        assertEquals(-5, queue.FindMinValue());
+        assertEquals("d", queue.ExtractMin());
+        assertEquals("a", queue.ExtractMin());
+        assertEquals("b", queue.ExtractMin());
+        assertEquals("c", queue.ExtractMin());
+        assertNull(queue.ExtractMin());
+    }
+
+    @Test
+    void insertOfAQueuedItemChangesItsValue() {
+        LongPriorityQueue<String> queue = new LongPriorityQueue<>(4);
+        queue.Insert("a", 10);
+        queue.Insert("b", 20);
+        queue.Insert("b", 5);
+        assertEquals(2, queue.size());
+        assertEquals(5, queue.getValue("b"));
+        assertEquals("b", queue.ExtractMin());
+    }
+
+    @Test
+    void boundedQueueRejectsNewItemsWhenFull() {
+        LongPriorityQueue<String> queue = new LongPriorityQueue<>(2);
+        queue.Insert("a", 1);
+        queue.Insert("b", 2);
+        assertTrue(queue.isFull());
+        assertThrows(OutOfMemoryError.class, () -> queue.Insert("c", 3));
+        queue.Insert("a", 7); // Changing a queued item needs no room.
+        assertEquals(7, queue.getValue("a"));
+    }
+
+    @Test
+    void missingItemsThrow() {
+        LongPriorityQueue<String> queue = new LongPriorityQueue<>(4);
+        assertThrows(IllegalStateException.class, () -> queue.Delete("a"));
+        queue.Insert("a", 1);
+        assertThrows(NullPointerException.class, () -> queue.Delete("b"));
+        assertThrows(NullPointerException.class, () -> queue.ChangeKey("b", 2));
+        assertThrows(IllegalArgumentException.class, () -> queue.Insert(null, 2));
+    }
+
+    @Test
+    void slotsAreRenumberedWhenTheQueueShrinks() {
+        LongPriorityQueue<Integer> queue = new LongPriorityQueue<>(4, GrowthPolicy.unbounded());
+        for (int i = 0; i < 1024; i++)
+            queue.Insert(i, i);
+        int grown = queue.capacity();
+
+        // Keep only the items with the highest slots, so that shrinking has to renumber them.
+        for (int i = 0; i < 1000; i++)
+            queue.Delete(i);
+        assertTrue(queue.capacity() < grown);
+
+        for (int i = 1000; i < 1024; i++) {
+            assertTrue(queue.contains(i));
+            assertEquals(i, queue.getValue(i));
+        }
+        queue.ChangeKey(1023, -1);
+        queue.Delete(1010);
+        queue.Insert(5000, 1005);
+        assertFalse(queue.contains(1010));
+
+        assertEquals(1023, queue.ExtractMin());
+        for (int i = 1000; i < 1023; i++) {
+            if (i == 1010)
+                continue;
+            assertEquals(i, queue.ExtractMin());
+            if (i == 1005)
+                assertEquals(5000, queue.ExtractMin());
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void matchesTreeSetUnderRandomOperations() {
+        SplittableRandom random = new SplittableRandom(3);
+        LongPriorityQueue<Integer> queue = new LongPriorityQueue<>(1, GrowthPolicy.unbounded());
+        long[] values = new long[300];
+        TreeSet<Long> expected = new TreeSet<>(); // Holds value * 1000 + item, which orders like the queue.
+
+        for (int step = 0; step < 100_000; step++) {
+            int item = random.nextInt(values.length);
+            long value = random.nextInt(1_000_000);
+            boolean queued = queue.contains(item);
+            switch (random.nextInt(4)) {
+                case 0:
+                case 1:
+                    if (queued)
+                        expected.remove(values[item] * 1000 + item);
+                    queue.Insert(item, value);
+                    values[item] = value;
+                    expected.add(value * 1000 + item);
+                    break;
+                case 2:
+                    if (queued) {
+                        queue.Delete(item);
+                        expected.remove(values[item] * 1000 + item);
+                    }
+                    break;
+                default:
+                    Integer min = queue.ExtractMin();
+                    Long first = expected.pollFirst();
+                    assertEquals(first == null ? null : (int) (first % 1000), min);
+            }
+            assertEquals(expected.size(), queue.size());
+        }
+    }
+}
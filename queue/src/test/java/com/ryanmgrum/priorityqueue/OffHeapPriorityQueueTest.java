@@ -0,0 +1,103 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** OffHeapPriorityQueueTest checks the off-heap queue in direct memory and in a mapped file,
+ *  and in particular that its entries and index survive the heap growing and shrinking.
+ */
+class OffHeapPriorityQueueTest {
+    @TempDir
+    Path directory; // A fresh directory for the file-backed queues of each test.
+
+    @Test
+    void growsAndShrinksWithoutLosingEntries() throws IOException {
+        try (OffHeapPriorityQueue queue = new OffHeapPriorityQueue(4)) {
+            for (long key = 0; key < 10_000; key++)
+                queue.Insert(key, 10_000 - key);
+            int grown = queue.capacity();
+            assertTrue(grown >= 10_000);
+
+            for (long key = 10_000 - 1; key >= 100; key--)
+                assertEquals(key, queue.ExtractMin());
+            assertTrue(queue.capacity() < grown);
+
+            for (long key = 0; key < 100; key++) {
+                assertTrue(queue.contains(key));
+                assertEquals(10_000 - key, queue.getValue(key));
+            }
+            queue.ChangeKey(0, -1);
+            queue.Delete(50);
+            assertEquals(0, queue.ExtractMin());
+            assertEquals(98, queue.size());
+        }
+    }
+
+    @Test
+    void fileBackedQueueGrowsItsMapping() throws IOException {
+        Path path = directory.resolve("heap.bin");
+        try (OffHeapPriorityQueue queue = new OffHeapPriorityQueue(path, 2, GrowthPolicy.unbounded(), true)) {
+            assertTrue(queue.isFileBacked());
+            SplittableRandom random = new SplittableRandom(19);
+            for (long key = 0; key < 5000; key++)
+                queue.Insert(key, random.nextLong());
+            assertTrue(Files.size(path) >= 5000L * 16);
+
+            long previous = Long.MIN_VALUE;
+            while (!queue.isEmpty()) {
+                long value = queue.FindMinValue();
+                assertTrue(value >= previous);
+                previous = value;
+                queue.ExtractMin();
+            }
+        }
+    }
+
+    @Test
+    void unindexedQueueKeepsDuplicateKeys() throws IOException {
+        try (OffHeapPriorityQueue queue = new OffHeapPriorityQueue(2, GrowthPolicy.unbounded(), false)) {
+            assertFalse(queue.isIndexed());
+            queue.Insert(7, 2);
+            queue.Insert(7, 1);
+            assertEquals(2, queue.size());
+            assertThrows(UnsupportedOperationException.class, () -> queue.Delete(7));
+            assertThrows(UnsupportedOperationException.class, () -> queue.contains(7));
+        }
+    }
+
+    @Test
+    void boundedQueueRejectsNewKeysWhenFull() throws IOException {
+        try (OffHeapPriorityQueue queue = new OffHeapPriorityQueue(2, GrowthPolicy.BOUNDED, true)) {
+            queue.Insert(1, 1);
+            queue.Insert(2, 2);
+            assertThrows(OutOfMemoryError.class, () -> queue.Insert(3, 3));
+            queue.Insert(1, 5);
+            assertEquals(2, queue.FindMin());
+        }
+    }
+
+    @Test
+    void emptyQueueThrows() throws IOException {
+        try (OffHeapPriorityQueue queue = new OffHeapPriorityQueue(0)) {
+            assertThrows(IllegalStateException.class, queue::ExtractMin);
+            assertThrows(IllegalStateException.class, queue::FindMin);
+            assertThrows(IllegalStateException.class, () -> queue.Delete(1));
+        }
+    }
+}
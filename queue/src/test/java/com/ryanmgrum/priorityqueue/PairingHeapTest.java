@@ -0,0 +1,103 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/** PairingHeapTest checks the PairingHeap engine, and in particular that meld keeps the
+ *  handles and key index of both heaps working.
+ */
+class PairingHeapTest {
+    @Test
+    void decreaseKeyMovesAnItemToTheRoot() {
+        PairingHeap<String, Integer> heap = new PairingHeap<>();
+        HeapNode<String, Integer> handle = heap.Insert("z", 50);
+        heap.Insert("a", 10);
+        heap.Insert("b", 20);
+        heap.ChangeKey(handle, 5);
+        assertEquals("z", heap.FindMin());
+        heap.ChangeKey("z", 30); // Increasing a key has to cut the node's children loose.
+        assertEquals("a", heap.ExtractMin());
+        assertEquals("b", heap.ExtractMin());
+        assertEquals("z", heap.ExtractMin());
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    void meldKeepsHandlesOfBothHeapsValid() {
+        PairingHeap<Integer, Integer> first = new PairingHeap<>(), second = new PairingHeap<>();
+        List<HeapNode<Integer, Integer>> handles = new ArrayList<>();
+        for (int i = 0; i < 10; i++)
+            handles.add((i % 2 == 0 ? first : second).Insert(i, 100 + i));
+
+        first.meld(second);
+        assertTrue(second.isEmpty());
+        assertEquals(10, first.size());
+        for (HeapNode<Integer, Integer> handle : handles)
+            assertTrue(first.isValid(handle));
+        assertFalse(second.isValid(handles.get(1)));
+
+        first.ChangeKey(handles.get(9), 0); // A handle that came from second.
+        first.Delete(3); // An item found through second's merged index.
+        assertEquals(9, first.ExtractMin());
+        for (int i : new int[] {0, 1, 2, 4, 5, 6, 7, 8})
+            assertEquals(i, first.ExtractMin());
+        assertTrue(first.isEmpty());
+    }
+
+    @Test
+    void meldRejectsItemsInBothKeyedHeaps() {
+        PairingHeap<Integer, Integer> first = new PairingHeap<>(), second = new PairingHeap<>();
+        first.Insert(1, 1);
+        second.Insert(1, 2);
+        assertThrows(IllegalArgumentException.class, () -> first.meld(second));
+        assertEquals(1, first.size());
+        assertEquals(1, second.size());
+    }
+
+    @Test
+    void meldRejectsOtherEnginesAndItself() {
+        PairingHeap<Integer, Long> heap = new PairingHeap<>();
+        assertThrows(IllegalArgumentException.class, () -> heap.meld(heap));
+        assertThrows(IllegalArgumentException.class, () -> heap.meld(new BinaryMinHeap<>(4)));
+        assertThrows(IllegalArgumentException.class, () -> heap.meld(new PairingHeap<>(false)));
+    }
+
+    @Test
+    void unkeyedHeapKeepsDuplicateItems() {
+        PairingHeap<String, Integer> heap = new PairingHeap<>(false);
+        heap.Insert("a", 2);
+        heap.Insert("a", 1);
+        assertEquals(2, heap.size());
+        assertThrows(UnsupportedOperationException.class, () -> heap.Delete("a"));
+        List<String> out = new ArrayList<>();
+        assertEquals(2, heap.ExtractMin(5, out));
+        assertEquals(List.of("a", "a"), out);
+    }
+
+    @Test
+    void extractsManyItemsInOrder() {
+        PairingHeap<Integer, Integer> heap = new PairingHeap<>();
+        for (int i = 0; i < 10_000; i++)
+            heap.Insert(i, (i * 7919) % 10_007);
+        int previous = Integer.MIN_VALUE;
+        for (int i = 0; i < 10_000; i++) {
+            int item = heap.ExtractMin();
+            int value = (item * 7919) % 10_007;
+            assertTrue(value >= previous);
+            previous = value;
+        }
+    }
+}
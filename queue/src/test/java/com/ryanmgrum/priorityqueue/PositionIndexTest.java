@@ -0,0 +1,139 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+/** PositionIndexTest checks PositionIndex's linear probing, and in particular that remove's
+ *  backward shift keeps every item further along a probe sequence reachable.
+ */
+class PositionIndexTest {
+    /** The Key class is an item whose hash code is chosen by the test, to force collisions. */
+    static final class Key {
+        final int id; // The identity of the key.
+        final int hash; // The hash code the key reports.
+
+        Key(int newId, int newHash) {
+            id = newId;
+            hash = newHash;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Key && ((Key) other).id == id;
+        }
+
+        @Override
+        public String toString() {
+            return "Key" + id;
+        }
+    }
+
+    @Test
+    void rejectsNegativeExpectedSize() {
+        assertThrows(IllegalArgumentException.class, () -> new PositionIndex<Key, String>(-1));
+    }
+
+    @Test
+    void removeShiftsBackCollidingItems() {
+        PositionIndex<Key, String> index = new PositionIndex<>(8);
+        Key[] keys = new Key[6];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = new Key(i, 7); // Every key has the same home slot.
+            index.put(keys[i], "e" + i);
+        }
+
+        index.remove(keys[0]);
+        index.remove(keys[3]);
+        assertFalse(index.containsKey(keys[0]));
+        assertFalse(index.containsKey(keys[3]));
+        for (int i : new int[] {1, 2, 4, 5})
+            assertEquals("e" + i, index.get(keys[i]));
+
+        index.put(keys[3], "again");
+        assertEquals("again", index.get(keys[3]));
+        assertEquals("e5", index.get(keys[5]));
+    }
+
+    @Test
+    void removeOfAbsentItemChangesNothing() {
+        PositionIndex<Key, String> index = new PositionIndex<>(4);
+        Key present = new Key(1, 3), absent = new Key(2, 3);
+        index.put(present, "p");
+        index.remove(absent);
+        assertEquals("p", index.get(present));
+        assertNull(index.get(absent));
+    }
+
+    @Test
+    void putReplacesTheEntryOfAnExistingItem() {
+        PositionIndex<Key, String> index = new PositionIndex<>(4);
+        Key key = new Key(1, 1);
+        index.put(key, "old");
+        index.put(key, "new");
+        assertEquals("new", index.get(key));
+        index.remove(key);
+        assertFalse(index.containsKey(key));
+    }
+
+    @Test
+    void matchesHashMapUnderRandomOperations() {
+        SplittableRandom random = new SplittableRandom(42);
+        PositionIndex<Key, Integer> index = new PositionIndex<>(0);
+        Map<Key, Integer> expected = new HashMap<>();
+        Key[] keys = new Key[500];
+        for (int i = 0; i < keys.length; i++)
+            keys[i] = new Key(i, i % 37); // Few distinct hash codes, so the probe sequences are long and wrap around.
+
+        for (int step = 0; step < 200_000; step++) {
+            Key key = keys[random.nextInt(keys.length)];
+            switch (random.nextInt(3)) {
+                case 0:
+                    index.put(key, step);
+                    expected.put(key, step);
+                    break;
+                case 1:
+                    index.remove(key);
+                    expected.remove(key);
+                    break;
+                default:
+                    assertEquals(expected.get(key), index.get(key));
+            }
+            if (step % 10_000 == 0)
+                index.trimToSize();
+        }
+        for (Key key : keys)
+            assertEquals(expected.containsKey(key), index.containsKey(key));
+    }
+
+    @Test
+    void clearEmptiesTheIndex() {
+        PositionIndex<Key, String> index = new PositionIndex<>(100);
+        for (int i = 0; i < 100; i++)
+            index.put(new Key(i, i), "e" + i);
+        index.clear();
+        for (int i = 0; i < 100; i++)
+            assertFalse(index.containsKey(new Key(i, i)));
+        index.put(new Key(5, 5), "back");
+        assertTrue(index.containsKey(new Key(5, 5)));
+    }
+}
@@ -0,0 +1,252 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/** PriorityQueueTest checks PriorityQueue on every engine and heap layout, using the same
+ *  operations against each.
+ */
+class PriorityQueueTest {
+    /** engines returns a factory for an empty, keyed PriorityQueue of every kind.
+     *
+     * @return The name and factory of each kind of queue.
+     */
+    static Stream<Arguments> engines() {
+        return Stream.of(
+            Arguments.of("binary", (Supplier<PriorityQueue<Integer, Long>>) () -> new PriorityQueue<>(1, true, GrowthPolicy.unbounded(), HeapLayout.BINARY)),
+            Arguments.of("4-ary", (Supplier<PriorityQueue<Integer, Long>>) () -> new PriorityQueue<>(1, true, GrowthPolicy.unbounded(), HeapLayout.dAry(4))),
+            Arguments.of("cache-aligned 8-ary", (Supplier<PriorityQueue<Integer, Long>>) () -> new PriorityQueue<>(1, true, GrowthPolicy.unbounded(), HeapLayout.cacheAligned(8))),
+            Arguments.of("pairing", (Supplier<PriorityQueue<Integer, Long>>) () -> new PriorityQueue<>(new PairingHeap<Integer, Long>(true))));
+    }
+
+    /** drain extracts every item from the queue, in order.
+     *
+     * @param queue The queue to drain.
+     * @return The extracted items.
+     */
+    private static <V extends Comparable<? super V>> List<Integer> drain(PriorityQueue<Integer, V> queue) {
+        List<Integer> items = new ArrayList<>();
+        for (Integer item; (item = queue.ExtractMin()) != null; )
+            items.add(item);
+        return items;
+    }
+
+    /** order returns the items of the passed-in map in the order a queue would extract them.
+     *
+     * @param expected The items and their priority values.
+     * @return The items, ordered by value and then by item.
+     */
+    private static <V extends Comparable<? super V>> List<Integer> order(Map<Integer, V> expected) {
+        List<Integer> items = new ArrayList<>(expected.keySet());
+        items.sort((a, b) -> expected.get(a).equals(expected.get(b)) ? a.compareTo(b) : expected.get(a).compareTo(expected.get(b)));
+        return items;
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("engines")
+    void matchesTreeSetUnderRandomOperations(String name, Supplier<PriorityQueue<Integer, Long>> factory) {
+        SplittableRandom random = new SplittableRandom(11);
+        PriorityQueue<Integer, Long> queue = factory.get();
+        long[] values = new long[400];
+        TreeSet<Long> expected = new TreeSet<>(); // Holds value * 1000 + item, which orders like the queue.
+
+        for (int step = 0; step < 100_000; step++) {
+            int item = random.nextInt(values.length);
+            long value = random.nextInt(1_000_000);
+            boolean queued = queue.contains(item);
+            switch (random.nextInt(5)) {
+                case 0:
+                case 1:
+                    if (queued)
+                        expected.remove(values[item] * 1000 + item);
+                    queue.Insert(item, value);
+                    values[item] = value;
+                    expected.add(value * 1000 + item);
+                    break;
+                case 2:
+                    if (queued) {
+                        queue.ChangeKey(item, value);
+                        expected.remove(values[item] * 1000 + item);
+                        values[item] = value;
+                        expected.add(value * 1000 + item);
+                    }
+                    break;
+                case 3:
+                    if (queued) {
+                        queue.Delete(item);
+                        expected.remove(values[item] * 1000 + item);
+                    }
+                    break;
+                default:
+                    Integer min = queue.ExtractMin();
+                    Long first = expected.pollFirst();
+                    assertEquals(first == null ? null : (int) (first % 1000), min);
+            }
+            assertEquals(expected.size(), queue.size());
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("engines")
+    void handlesFollowTheirItems(String name, Supplier<PriorityQueue<Integer, Long>> factory) {
+        PriorityQueue<Integer, Long> queue = factory.get();
+        List<HeapNode<Integer, Long>> handles = new ArrayList<>();
+        for (int i = 0; i < 50; i++)
+            handles.add(queue.Insert(i, 100L + i));
+
+        queue.ChangeKey(handles.get(42), 0L);
+        queue.Delete(handles.get(7));
+        assertFalse(queue.isValid(handles.get(7)));
+        assertEquals(42, queue.ExtractMin());
+        assertFalse(queue.isValid(handles.get(42)));
+        assertTrue(queue.isValid(handles.get(0)));
+        assertEquals(48, queue.size());
+    }
+
+    @Test
+    void extractMinOfAnEmptyQueueReturnsNull() {
+        PriorityQueue<String, Integer> queue = new PriorityQueue<>(2);
+        assertNull(queue.FindMin());
+        assertNull(queue.ExtractMin());
+        assertThrows(IllegalStateException.class, () -> queue.Delete("a"));
+    }
+
+    @Test
+    void unkeyedQueueRejectsKeyedOperations() {
+        PriorityQueue<String, Integer> queue = new PriorityQueue<>(4, false);
+        queue.Insert("a", 1);
+        assertThrows(UnsupportedOperationException.class, () -> queue.ChangeKey("a", 2));
+        assertThrows(UnsupportedOperationException.class, () -> queue.Delete("a"));
+    }
+
+    @Test
+    void extractMinInBatches() {
+        PriorityQueue<Integer, Integer> queue = new PriorityQueue<>(16);
+        for (int i = 9; i >= 0; i--)
+            queue.Insert(i, i);
+        List<Integer> out = new ArrayList<>();
+        assertEquals(4, queue.ExtractMin(4, out));
+        assertEquals(List.of(0, 1, 2, 3), out);
+        assertEquals(6, queue.ExtractMin(10, out));
+        assertEquals(10, out.size());
+        assertTrue(queue.isEmpty());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("engines")
+    void batchesMatchSingleOperations(String name, Supplier<PriorityQueue<Integer, Long>> factory) {
+        SplittableRandom random = new SplittableRandom(23);
+        PriorityQueue<Integer, Long> queue = factory.get();
+        Map<Integer, Long> expected = new TreeMap<>();
+        for (int i = 0; i < 200; i++) {
+            long value = random.nextInt(1000);
+            queue.Insert(i, value);
+            expected.put(i, value);
+        }
+        HeapNode<Integer, Long> handle = queue.Insert(1000, 500L);
+        expected.put(1000, 500L);
+
+        // A batch this small is shifted into place one node at a time.
+        Map<Integer, Long> small = Map.of(5, -1L, 300, 7L, 301, 2000L);
+        queue.InsertAll(small);
+        expected.putAll(small);
+        assertEquals(5, queue.FindMin());
+
+        // A batch this large is appended unordered and the heap is rebuilt bottom-up.
+        Map<Integer, Long> large = new HashMap<>();
+        for (int i = 0; i < 500; i++)
+            large.put(random.nextInt(800), (long) random.nextInt(1000));
+        queue.InsertAll(large);
+        expected.putAll(large);
+        assertEquals(expected.size(), queue.size());
+
+        Map<Integer, Long> changes = new HashMap<>();
+        for (Integer item : expected.keySet())
+            if (random.nextInt(2) == 0)
+                changes.put(item, (long) random.nextInt(1000));
+        queue.ChangeKeys(changes);
+        expected.putAll(changes);
+        queue.ChangeKeys(Map.of(0, -5L));
+        expected.put(0, -5L);
+
+        // Handles still find their nodes after the rebuilds moved them.
+        assertTrue(queue.isValid(handle));
+        queue.ChangeKey(handle, -10L);
+        expected.put(1000, -10L);
+        assertEquals(order(expected), drain(queue));
+    }
+
+    @Test
+    void fromBuildsAQueueOfEveryItem() {
+        Map<Integer, String> items = new HashMap<>();
+        for (int i = 0; i < 100; i++)
+            items.put(i, Integer.toString(i * 7 % 100));
+        PriorityQueue<Integer, String> queue = PriorityQueue.from(items);
+        assertEquals(100, queue.size());
+        assertEquals(order(items), drain(queue));
+        assertThrows(IllegalArgumentException.class, () -> PriorityQueue.from(null));
+    }
+
+    @Test
+    void rejectedBatchesChangeNothing() {
+        PriorityQueue<Integer, Integer> queue = new PriorityQueue<>(4);
+        queue.Insert(1, 10);
+        queue.Insert(2, 20);
+
+        // Two new items and one queued item do not fit in the two free places.
+        assertThrows(OutOfMemoryError.class, () -> queue.InsertAll(Map.of(1, 30, 3, 30, 4, 40, 5, 50)));
+        Map<Integer, Integer> nullValue = new HashMap<>();
+        nullValue.put(1, 30);
+        nullValue.put(3, null);
+        assertThrows(IllegalArgumentException.class, () -> queue.InsertAll(nullValue));
+        assertThrows(IllegalArgumentException.class, () -> queue.ChangeKeys(nullValue));
+        assertThrows(NullPointerException.class, () -> queue.ChangeKeys(Map.of(1, 30, 9, 0)));
+        assertEquals(2, queue.size());
+        assertEquals(1, queue.FindMin()); // Item 1 keeps its value of 10.
+
+        queue.InsertAll(Map.of(1, 30, 3, 5, 4, 40)); // Exactly fills the queue.
+        assertTrue(queue.isFull());
+        assertEquals(List.of(3, 2, 1, 4), drain(queue));
+
+        PriorityQueue<Integer, Integer> unkeyed = new PriorityQueue<>(4, false);
+        unkeyed.Insert(1, 10);
+        assertThrows(UnsupportedOperationException.class, () -> unkeyed.ChangeKeys(Map.of(1, 0)));
+    }
+
+    @Test
+    void meldMovesEveryItemOfABinaryQueue() {
+        PriorityQueue<Integer, Integer> first = new PriorityQueue<>(4, GrowthPolicy.unbounded());
+        PriorityQueue<Integer, Integer> second = new PriorityQueue<>(4, GrowthPolicy.unbounded());
+        for (int i = 0; i < 20; i++)
+            (i % 2 == 0 ? first : second).Insert(i, 20 - i);
+        first.meld(second);
+        assertTrue(second.isEmpty());
+        assertEquals(20, first.size());
+        for (int i = 19; i >= 0; i--)
+            assertEquals(i, first.ExtractMin());
+    }
+}
@@ -0,0 +1,100 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+/** RadixHeapTest checks the monotone RadixHeap engine. */
+class RadixHeapTest {
+    @Test
+    void extractsInValueOrderAcrossTheWholeLongRange() {
+        RadixHeap<String> heap = new RadixHeap<>();
+        heap.Insert("max", Long.MAX_VALUE);
+        heap.Insert("min", Long.MIN_VALUE);
+        heap.Insert("zero", 0L);
+        heap.Insert("negative", -42L);
+        assertEquals("min", heap.ExtractMin());
+        assertEquals("negative", heap.ExtractMin());
+        assertEquals("zero", heap.ExtractMin());
+        assertEquals("max", heap.ExtractMin());
+        assertEquals(Long.MAX_VALUE, heap.getLastExtracted());
+    }
+
+    @Test
+    void rejectsValuesBelowTheLastExtracted() {
+        RadixHeap<String> heap = new RadixHeap<>();
+        heap.Insert("a", 10L);
+        heap.Insert("b", 20L);
+        assertEquals("a", heap.ExtractMin());
+        assertThrows(IllegalArgumentException.class, () -> heap.Insert("c", 9L));
+        assertThrows(IllegalArgumentException.class, () -> heap.ChangeKey("b", 5L));
+        heap.Insert("c", 10L); // Equal to the last extracted value is allowed.
+        assertEquals("c", heap.ExtractMin());
+    }
+
+    @Test
+    void changeKeyAndDeleteWorkThroughHandlesAndKeys() {
+        RadixHeap<Integer> heap = new RadixHeap<>();
+        HeapNode<Integer, Long> handle = heap.Insert(1, 100L);
+        heap.Insert(2, 50L);
+        heap.Insert(3, 75L);
+        heap.ChangeKey(handle, 10L);
+        heap.Delete(3);
+        assertEquals(1, heap.ExtractMin());
+        heap.ChangeKey(2, 60L);
+        assertEquals(2, heap.ExtractMin());
+        assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    void meldMovesEveryNode() {
+        RadixHeap<Integer> first = new RadixHeap<>(), second = new RadixHeap<>();
+        for (int i = 0; i < 100; i++)
+            (i % 3 == 0 ? first : second).Insert(i, (long) i * 3);
+        first.meld(second);
+        assertTrue(second.isEmpty());
+        for (int i = 0; i < 100; i++)
+            assertEquals(i, first.ExtractMin());
+    }
+
+    @Test
+    void behavesLikeADijkstraQueue() {
+        SplittableRandom random = new SplittableRandom(5);
+        RadixHeap<Integer> heap = new RadixHeap<>();
+        long[] values = new long[1000];
+        boolean[] queued = new boolean[values.length];
+        heap.Insert(0, 0L);
+        queued[0] = true;
+        long last = Long.MIN_VALUE;
+        while (!heap.isEmpty()) {
+            int item = heap.ExtractMin();
+            queued[item] = false;
+            long value = values[item];
+            assertTrue(value >= last);
+            last = value;
+            // Relax a few edges: every new value is at least the one just extracted.
+            for (int e = 0; e < 3; e++) {
+                int target = random.nextInt(values.length);
+                long candidate = value + 1 + random.nextInt(1000);
+                if (queued[target] && candidate < values[target]) {
+                    heap.ChangeKey(target, candidate);
+                    values[target] = candidate;
+                } else if (!queued[target] && values[target] == 0 && target != 0) {
+                    heap.Insert(target, candidate);
+                    values[target] = candidate;
+                    queued[target] = true;
+                }
+            }
+        }
+    }
+}
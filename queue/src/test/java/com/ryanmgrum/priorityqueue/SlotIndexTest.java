@@ -0,0 +1,82 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import com.ryanmgrum.priorityqueue.PositionIndexTest.Key;
+
+/** SlotIndexTest checks SlotIndex's linear probing and backward-shift remove. */
+class SlotIndexTest {
+    @Test
+    void rejectsNegativeExpectedSize() {
+        assertThrows(IllegalArgumentException.class, () -> new SlotIndex<Key>(-1));
+    }
+
+    @Test
+    void removeShiftsBackCollidingItems() {
+        SlotIndex<Key> index = new SlotIndex<>(8);
+        Key[] keys = new Key[6];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = new Key(i, 11); // Every key has the same home position.
+            index.put(keys[i], 100 + i);
+        }
+
+        index.remove(keys[1]);
+        index.remove(keys[4]);
+        assertEquals(-1, index.get(keys[1]));
+        assertEquals(-1, index.get(keys[4]));
+        for (int i : new int[] {0, 2, 3, 5})
+            assertEquals(100 + i, index.get(keys[i]));
+    }
+
+    @Test
+    void putReplacesTheSlotOfAnExistingItem() {
+        SlotIndex<Key> index = new SlotIndex<>(4);
+        Key key = new Key(1, 1);
+        index.put(key, 0);
+        index.put(key, 9);
+        assertEquals(9, index.get(key));
+    }
+
+    @Test
+    void matchesHashMapUnderRandomOperations() {
+        SplittableRandom random = new SplittableRandom(7);
+        SlotIndex<Key> index = new SlotIndex<>(0);
+        Map<Key, Integer> expected = new HashMap<>();
+        Key[] keys = new Key[500];
+        for (int i = 0; i < keys.length; i++)
+            keys[i] = new Key(i, i % 29);
+
+        for (int step = 0; step < 200_000; step++) {
+            Key key = keys[random.nextInt(keys.length)];
+            switch (random.nextInt(3)) {
+                case 0:
+                    index.put(key, step);
+                    expected.put(key, step);
+                    break;
+                case 1:
+                    index.remove(key);
+                    expected.remove(key);
+                    break;
+                default:
+                    assertEquals(expected.getOrDefault(key, -1), index.get(key));
+            }
+            if (step % 10_000 == 0)
+                index.trimToSize();
+        }
+        for (Key key : keys)
+            assertEquals(expected.getOrDefault(key, -1), index.get(key));
+    }
+}
@@ -0,0 +1,116 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/** TimerQueueTest checks that a TimerQueue only releases items once their deadline has passed,
+ *  mostly against a clock the test advances by hand.
+ */
+@Timeout(30)
+class TimerQueueTest {
+    private final AtomicLong now = new AtomicLong(1_000); // The time read by the queues under test.
+
+    /** timers creates an unbounded TimerQueue that reads the test's clock.
+     *
+     * @return The new TimerQueue.
+     */
+    private TimerQueue<String> timers() {
+        return new TimerQueue<>(4, GrowthPolicy.unbounded(), now::get);
+    }
+
+    @Test
+    void pollOnlyReturnsDueItems() {
+        TimerQueue<String> queue = timers();
+        queue.Insert("late", 1_500);
+        queue.Insert("soon", 1_100);
+        assertNull(queue.poll());
+        assertEquals("soon", queue.FindMin());
+        assertEquals(100, queue.getDelay(TimeUnit.MILLISECONDS));
+
+        now.set(1_100);
+        assertEquals("soon", queue.poll());
+        assertNull(queue.poll());
+        now.set(2_000);
+        assertEquals("late", queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void rescheduleAndCancel() {
+        TimerQueue<String> queue = timers();
+        queue.Insert("a", 5_000);
+        queue.Insert("b", 6_000);
+        queue.ChangeKey("b", 900);
+        assertEquals(900, queue.getDeadline("b"));
+        queue.Delete("a");
+        assertFalse(queue.contains("a"));
+        assertEquals("b", queue.poll());
+    }
+
+    @Test
+    void extractDueDrainsInDeadlineOrder() {
+        TimerQueue<String> queue = timers();
+        queue.Insert("c", 1_300);
+        queue.Insert("a", 1_100);
+        queue.Insert("b", 1_200);
+        queue.Insert("later", 9_000);
+        now.set(1_250);
+        List<String> out = new ArrayList<>();
+        assertEquals(1, queue.ExtractDue(1, out));
+        assertEquals(1, queue.ExtractDue(out));
+        assertEquals(List.of("a", "b"), out);
+        assertEquals(2, queue.size());
+    }
+
+    @Test
+    void extremeDeadlinesDoNotOverflowTheDelay() {
+        TimerQueue<String> queue = new TimerQueue<>(4, GrowthPolicy.unbounded(), () -> Long.MIN_VALUE + 5);
+        queue.Insert("never", Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, queue.getDelay(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void takeWakesForAnEarlierDeadline() throws Exception {
+        TimerQueue<String> queue = new TimerQueue<>(4);
+        long start = System.currentTimeMillis();
+        queue.Insert("far", start + 60_000);
+        AtomicReference<String> taken = new AtomicReference<>();
+        Thread consumer = new Thread(() -> {
+            try {
+                taken.set(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        consumer.start();
+        Thread.sleep(50);
+        queue.Insert("near", System.currentTimeMillis() + 50);
+        consumer.join(10_000);
+        assertEquals("near", taken.get());
+        assertTrue(queue.contains("far"));
+    }
+
+    @Test
+    void timedPollGivesUp() throws InterruptedException {
+        TimerQueue<String> queue = new TimerQueue<>(4);
+        queue.Insert("far", System.currentTimeMillis() + 60_000);
+        assertNull(queue.poll(20, TimeUnit.MILLISECONDS));
+    }
+}
@@ -0,0 +1,118 @@
+/* Author:     Ryan McAllister-Grum
+ * UIN:        661880584
+ * Class:      20FA - Algorithms & Computation (20FA-OL-CSC482A-15037)
+ * Assignment: 1 (Implement a Heap-Based Priority Queue)
+ */
+
+package com.ryanmgrum.priorityqueue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+/** TopKQueueTest checks that the min-max heap of TopKQueue keeps the best k entries. */
+class TopKQueueTest {
+    @Test
+    void keepsTheLargestEntries() {
+        TopKQueue<Integer, Integer> queue = new TopKQueue<>(3);
+        for (int i = 0; i < 10; i++)
+            queue.offer(i, i);
+        assertTrue(queue.isFull());
+        assertEquals(7, queue.getThreshold());
+        assertFalse(queue.offer(100, 6));
+        assertTrue(queue.offer(100, 8));
+
+        List<Integer> out = new ArrayList<>();
+        assertEquals(3, queue.ExtractBest(5, out));
+        assertEquals(List.of(9, 100, 8), out);
+    }
+
+    @Test
+    void keepsTheSmallestEntries() {
+        TopKQueue<Integer, Integer> queue = new TopKQueue<>(2, false);
+        assertNull(queue.getThreshold());
+        for (int i = 10; i > 0; i--)
+            queue.offer(i, i);
+        assertEquals(1, queue.FindMin());
+        assertEquals(2, queue.FindMax());
+        assertEquals(2, queue.getThreshold());
+        assertEquals(1, queue.ExtractMin());
+        assertEquals(2, queue.ExtractMax());
+        assertNull(queue.ExtractMin());
+    }
+
+    @Test
+    void findsBothEndsOfTheMinMaxHeap() {
+        SplittableRandom random = new SplittableRandom(13);
+        TopKQueue<Integer, Integer> queue = new TopKQueue<>(1000);
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            int value = random.nextInt(1_000_000);
+            values.add(value);
+            queue.offer(i, value);
+        }
+        values.sort(null);
+        // Remove from alternating ends, checking the min-max ordering after every removal.
+        for (int low = 0, high = values.size() - 1; low <= high; ) {
+            assertEquals(values.get(low), queue.FindMinValue());
+            assertEquals(values.get(high), queue.FindMaxValue());
+            if ((low + high) % 2 == 0) {
+                queue.ExtractMin();
+                low++;
+            } else {
+                queue.ExtractMax();
+                high--;
+            }
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void matchesSortingTheStream() {
+        SplittableRandom random = new SplittableRandom(17);
+        int[] stream = new int[100_000];
+        TopKQueue<Integer, Integer> queue = new TopKQueue<>(50);
+        for (int i = 0; i < stream.length; i++) {
+            stream[i] = random.nextInt();
+            queue.offer(i, stream[i]);
+        }
+        Arrays.sort(stream);
+        for (int i = stream.length - 1; i >= stream.length - 50; i--) {
+            assertEquals(stream[i], queue.FindMaxValue());
+            queue.ExtractMax();
+        }
+    }
+
+    @Test
+    void mergeKeepsTheBestOfBoth() {
+        TopKQueue<Integer, Integer> first = new TopKQueue<>(4), second = new TopKQueue<>(4);
+        for (int i = 0; i < 8; i++)
+            (i % 2 == 0 ? first : second).offer(i, i);
+        first.merge(second);
+        assertEquals(4, second.size());
+        List<Integer> out = new ArrayList<>();
+        first.ExtractBest(4, out);
+        assertEquals(List.of(7, 6, 5, 4), out);
+
+        assertThrows(IllegalArgumentException.class, () -> first.merge(first));
+        assertThrows(IllegalArgumentException.class, () -> first.merge(new TopKQueue<>(4, false)));
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new TopKQueue<Integer, Integer>(0));
+        TopKQueue<Integer, Integer> queue = new TopKQueue<>(1);
+        assertThrows(IllegalArgumentException.class, () -> queue.offer(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> queue.offer(1, null));
+        assertThrows(IllegalArgumentException.class, () -> queue.ExtractBest(-1, new ArrayList<>()));
+    }
+}